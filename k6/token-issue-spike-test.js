@@ -0,0 +1,73 @@
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { Trend, Rate } from 'k6/metrics';
+
+/**
+ * 토큰 발급 스파이크 테스트
+ *
+ * 티켓 오픈 순간의 토큰 발급 요청 폭주를 재현하여 발급 API의 p95를 측정합니다.
+ * 동일 시나리오를 변경 전/후 빌드에 각각 실행하고 LABEL로 결과 파일을 구분해 비교합니다.
+ *
+ *   k6 run -e LABEL=before k6/token-issue-spike-test.js
+ *   k6 run -e LABEL=after  k6/token-issue-spike-test.js
+ */
+
+// Metrics
+const tokenIssueDuration = new Trend('token_issue_duration', true);
+const successRate = new Rate('success_rate');
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const CONCERT_ID = __ENV.CONCERT_ID || 1;
+const LABEL = __ENV.LABEL || 'current';
+
+export const options = {
+    scenarios: {
+        spike_test: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '10s', target: 10 },   // Warm up
+                { duration: '1s', target: 200 },   // Spike! (티켓팅 오픈)
+                { duration: '30s', target: 200 },  // Maintain spike
+                { duration: '10s', target: 10 },   // Recovery
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        token_issue_duration: ['p(95)<300'],
+    },
+};
+
+export default function () {
+    const userId = __VU * 10000 + __ITER;
+
+    const res = http.post(`${BASE_URL}/api/v1/queue/tokens`, JSON.stringify({
+        userId: userId,
+        concertId: CONCERT_ID,
+    }), {
+        headers: { 'Content-Type': 'application/json' },
+    });
+    tokenIssueDuration.add(res.timings.duration);
+
+    successRate.add(check(res, {
+        'token issued': (r) => r.status === 200,
+    }));
+
+    sleep(0.1);
+}
+
+export function handleSummary(data) {
+    const issue = data.metrics.token_issue_duration?.values || {};
+    const summary = `
+📊 Token Issue Spike [${LABEL}]
+   • Requests: ${data.metrics.http_reqs?.values?.count || 0}
+   • Avg:      ${(issue.avg || 0).toFixed(2)}ms
+   • P95:      ${(issue['p(95)'] || 0).toFixed(2)}ms
+   • Max:      ${(issue.max || 0).toFixed(2)}ms
+`;
+    return {
+        'stdout': summary,
+        [`k6/results/token-issue-spike-${LABEL}.json`]: JSON.stringify(data, null, 2),
+    };
+}
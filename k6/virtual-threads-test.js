@@ -0,0 +1,125 @@
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { Trend, Rate } from 'k6/metrics';
+
+/**
+ * 가상 스레드 모드 비교 테스트
+ *
+ * 200 VU가 같은 스케줄의 좌석을 동시에 조회/예약하여 요청 스레드가 락·Redis·JDBC에서 대기하는 상황을 재현합니다.
+ * 동일 시나리오를 플랫폼 스레드 / 가상 스레드 모드로 각각 실행하고 LABEL로 결과 파일을 구분해 비교합니다.
+ *
+ *   ./gradlew bootRun                          →  k6 run -e LABEL=platform k6/virtual-threads-test.js
+ *   VIRTUAL_THREADS=true ./gradlew bootRun     →  k6 run -e LABEL=virtual  k6/virtual-threads-test.js
+ *
+ * 활성 토큰 상한(queue.admission.max-active-tokens)보다 VU가 많으면 대부분 대기열에 머무르므로
+ * 측정 시에는 상한을 VU 수 이상으로 올려 실행합니다. (예: QUEUE_ADMISSION_MAX_ACTIVE_TOKENS=200 QUEUE_ADMISSION_BURST=200)
+ */
+
+// Metrics
+const seatQueryDuration = new Trend('seat_query_duration', true);
+const reservationDuration = new Trend('reservation_duration', true);
+const successRate = new Rate('success_rate');
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const CONCERT_ID = __ENV.CONCERT_ID || 1;
+const SCHEDULE_ID = __ENV.SCHEDULE_ID || 1;
+const SEAT_COUNT = __ENV.SEAT_COUNT || 50;
+const LABEL = __ENV.LABEL || 'current';
+
+// 이미 선점된 좌석의 409는 정상 응답으로 간주
+http.setResponseCallback(http.expectedStatuses(200, 409));
+
+export const options = {
+    scenarios: {
+        virtual_threads: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '10s', target: 200 },  // Ramp up
+                { duration: '60s', target: 200 },  // 200 VU 유지
+                { duration: '10s', target: 0 },    // Ramp down
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+// VU별로 한 번 발급받아 반복마다 재사용
+let token = null;
+
+export default function () {
+    if (token === null) {
+        token = issueActiveToken(__VU * 10000);
+        if (token === null) {
+            successRate.add(false);
+            return;
+        }
+    }
+
+    const headers = {
+        'Content-Type': 'application/json',
+        'Concert-Queue-Token': token,
+    };
+
+    const seatsRes = http.get(`${BASE_URL}/api/v1/schedules/${SCHEDULE_ID}/seats`, { headers });
+    seatQueryDuration.add(seatsRes.timings.duration);
+
+    const reserveRes = http.post(`${BASE_URL}/api/v1/reservations`, JSON.stringify({
+        userId: __VU * 10000,
+        scheduleId: SCHEDULE_ID,
+        seatId: Math.floor(Math.random() * SEAT_COUNT) + 1,
+    }), { headers });
+    reservationDuration.add(reserveRes.timings.duration);
+
+    successRate.add(check(seatsRes, {
+        'seats queried': (r) => r.status === 200,
+    }) && check(reserveRes, {
+        'reserved or conflict': (r) => r.status === 200 || r.status === 409,
+    }));
+
+    sleep(0.1);
+}
+
+function issueActiveToken(userId) {
+    const res = http.post(`${BASE_URL}/api/v1/queue/tokens`, JSON.stringify({
+        userId: userId,
+        concertId: CONCERT_ID,
+    }), {
+        headers: { 'Content-Type': 'application/json' },
+    });
+    if (res.status !== 200) {
+        console.log(`Token issue failed: ${res.status} - ${res.body}`);
+        return null;
+    }
+
+    const data = JSON.parse(res.body).data;
+    let status = data.status;
+    for (let attempts = 0; status !== 'ACTIVE' && attempts < 60; attempts++) {
+        sleep(1);
+        const statusRes = http.get(`${BASE_URL}/api/v1/queue/status`, {
+            headers: { 'Concert-Queue-Token': data.token },
+        });
+        if (statusRes.status === 200) {
+            status = JSON.parse(statusRes.body).data.status;
+        }
+    }
+    return status === 'ACTIVE' ? data.token : null;
+}
+
+export function handleSummary(data) {
+    const seats = data.metrics.seat_query_duration?.values || {};
+    const reserve = data.metrics.reservation_duration?.values || {};
+    const summary = `
+📊 Virtual Threads [${LABEL}]
+   • Throughput:      ${(data.metrics.http_reqs?.values?.rate || 0).toFixed(2)} req/s
+   • Seat Query P95:  ${(seats['p(95)'] || 0).toFixed(2)}ms
+   • Reservation P95: ${(reserve['p(95)'] || 0).toFixed(2)}ms
+   • Reservation Max: ${(reserve.max || 0).toFixed(2)}ms
+`;
+    return {
+        'stdout': summary,
+        [`k6/results/virtual-threads-${LABEL}.json`]: JSON.stringify(data, null, 2),
+    };
+}
@@ -0,0 +1,8 @@
+-- =============================================================================
+-- 좌석 펜싱 토큰 컬럼 추가
+-- =============================================================================
+
+-- seats.fence_token: 좌석 선점 시 분산 락 펜싱 토큰을 기록
+-- 쿼리: UPDATE seats ... WHERE id = ? AND status = 'AVAILABLE' AND (fence_token IS NULL OR fence_token < ?)
+-- 효과: 락 임대가 만료된 뒤 늦게 도착한 이전 락 보유자의 쓰기를 거절
+ALTER TABLE seats ADD COLUMN fence_token BIGINT NULL;
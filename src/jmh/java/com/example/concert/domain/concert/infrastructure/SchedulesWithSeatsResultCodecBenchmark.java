@@ -0,0 +1,69 @@
+package com.example.concert.domain.concert.infrastructure;
+
+import com.example.concert.common.cache.CompactRedisSerializer;
+import com.example.concert.domain.concert.service.ConcertService.ScheduleInfo;
+import com.example.concert.domain.concert.service.ConcertService.SchedulesWithSeatsResult;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 콘서트 스케줄 캐시(concertSchedules) 직렬화 비용 비교 - 스케줄 60회차 콘서트
+ * - jdk*: 이전 JdkSerializationRedisSerializer
+ * - compact*: CompactRedisSerializer + SchedulesWithSeatsResultCodec
+ *
+ * 실행: ./gradlew jmh (gc.alloc.rate.norm = 호출당 할당 바이트)
+ * 인코딩 크기는 CompactRedisSerializerTest에서 검증 (60회차 기준 JDK 2,857 bytes, compact 424 bytes)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class SchedulesWithSeatsResultCodecBenchmark {
+
+    private static final int SCHEDULE_COUNT = 60;
+
+    private final JdkSerializationRedisSerializer jdk = new JdkSerializationRedisSerializer();
+    private final CompactRedisSerializer compact = new CompactRedisSerializer(
+            List.of(new SchedulesWithSeatsResultCodec()));
+
+    private SchedulesWithSeatsResult schedules;
+    private byte[] jdkBytes;
+    private byte[] compactBytes;
+
+    @Setup
+    public void setUp() {
+        LocalDate firstDate = LocalDate.of(2026, 12, 1);
+        List<ScheduleInfo> scheduleInfos = new ArrayList<>(SCHEDULE_COUNT);
+        for (int i = 0; i < SCHEDULE_COUNT; i++) {
+            scheduleInfos.add(new ScheduleInfo(1_000L + i, firstDate.plusDays(i), 2000 - i * 30));
+        }
+        schedules = new SchedulesWithSeatsResult(1L, List.copyOf(scheduleInfos));
+
+        jdkBytes = jdk.serialize(schedules);
+        compactBytes = compact.serialize(schedules);
+    }
+
+    @Benchmark
+    public byte[] jdkEncode() {
+        return jdk.serialize(schedules);
+    }
+
+    @Benchmark
+    public Object jdkDecode() {
+        return jdk.deserialize(jdkBytes);
+    }
+
+    @Benchmark
+    public byte[] compactEncode() {
+        return compact.serialize(schedules);
+    }
+
+    @Benchmark
+    public Object compactDecode() {
+        return compact.deserialize(compactBytes);
+    }
+}
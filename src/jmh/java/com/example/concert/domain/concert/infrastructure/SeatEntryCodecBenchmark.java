@@ -0,0 +1,108 @@
+package com.example.concert.domain.concert.infrastructure;
+
+import com.example.concert.domain.concert.entity.Seat;
+import com.example.concert.domain.concert.entity.SeatStatus;
+import com.example.concert.domain.concert.service.ConcertService.SeatInfo;
+import com.example.concert.domain.concert.service.ConcertService.SeatsResult;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좌석 목록 캐시 인코딩 비용 비교 - 2,000석 스케줄
+ * - jdk*: 이전 방식, 스케줄 좌석 목록(SeatsResult) 전체를 JdkSerializationRedisSerializer로 직렬화
+ * - entries*: RedisSeatCache 방식, 좌석마다 SeatEntryCodec 항목 하나 (HASH 필드/값)
+ * - jdkUpdateOneSeat / entriesUpdateOneSeat: 좌석 1석 상태 변경 시 Redis에 다시 써야 하는 값 생성 비용
+ *
+ * 실행: ./gradlew jmh (gc.alloc.rate.norm = 호출당 할당 바이트)
+ * 인코딩 크기는 SeatEntryCodecTest에서 검증 (2,000석 기준 목록 전체 JDK 약 169KB, 좌석별 항목 합계 약 36KB)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SeatEntryCodecBenchmark {
+
+    private static final int SEAT_COUNT = 2000;
+    private static final Long SCHEDULE_ID = 1L;
+
+    private final JdkSerializationRedisSerializer jdk = new JdkSerializationRedisSerializer();
+
+    private List<Seat> seats;
+    private SeatsResult seatsResult;
+    private byte[] jdkBytes;
+    private String[] seatIds;
+    private String[] entries;
+
+    @Setup
+    public void setUp() {
+        SeatStatus[] statuses = SeatStatus.values();
+        seats = new ArrayList<>(SEAT_COUNT);
+        List<SeatInfo> seatInfos = new ArrayList<>(SEAT_COUNT);
+        for (int i = 0; i < SEAT_COUNT; i++) {
+            BigDecimal price = new BigDecimal(i < 200 ? "150000.00" : "80000.00");
+            SeatStatus status = statuses[i % statuses.length];
+            seats.add(new Seat(10_000L + i, SCHEDULE_ID, i + 1, price, status, 0L, null, null));
+            seatInfos.add(new SeatInfo(10_000L + i, i + 1, status, price));
+        }
+        seatsResult = new SeatsResult(SCHEDULE_ID, List.copyOf(seatInfos));
+        jdkBytes = jdk.serialize(seatsResult);
+
+        seatIds = new String[SEAT_COUNT];
+        entries = new String[SEAT_COUNT];
+        for (int i = 0; i < SEAT_COUNT; i++) {
+            seatIds[i] = String.valueOf(seats.get(i).getId());
+            entries[i] = SeatEntryCodec.encode(seats.get(i));
+        }
+    }
+
+    @Benchmark
+    public byte[] jdkEncode() {
+        return jdk.serialize(seatsResult);
+    }
+
+    @Benchmark
+    public Object jdkDecode() {
+        return jdk.deserialize(jdkBytes);
+    }
+
+    @Benchmark
+    public String[] entriesEncode() {
+        String[] encoded = new String[SEAT_COUNT];
+        for (int i = 0; i < SEAT_COUNT; i++) {
+            encoded[i] = SeatEntryCodec.encode(seats.get(i));
+        }
+        return encoded;
+    }
+
+    @Benchmark
+    public List<Seat> entriesDecode() {
+        List<Seat> decoded = new ArrayList<>(SEAT_COUNT);
+        for (int i = 0; i < SEAT_COUNT; i++) {
+            decoded.add(SeatEntryCodec.decode(SCHEDULE_ID, seatIds[i], entries[i]));
+        }
+        return decoded;
+    }
+
+    /**
+     * 이전 방식은 좌석 1석이 바뀌어도 목록 전체를 다시 직렬화
+     */
+    @Benchmark
+    public byte[] jdkUpdateOneSeat() {
+        List<SeatInfo> updated = new ArrayList<>(seatsResult.seats());
+        SeatInfo seat = updated.get(0);
+        updated.set(0, new SeatInfo(seat.id(), seat.number(), SeatStatus.TEMP_RESERVED, seat.price()));
+        return jdk.serialize(new SeatsResult(SCHEDULE_ID, updated));
+    }
+
+    /**
+     * 좌석별 항목은 해당 좌석 값의 상태 코드만 교체 (UPDATE_STATUS Lua와 같은 연산)
+     */
+    @Benchmark
+    public String entriesUpdateOneSeat() {
+        return SeatEntryCodec.encodeStatus(SeatStatus.TEMP_RESERVED) + entries[0].substring(1);
+    }
+}
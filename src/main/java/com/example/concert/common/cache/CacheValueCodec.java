@@ -0,0 +1,25 @@
+package com.example.concert.common.cache;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * 캐시 값 하나의 타입 전용 바이너리 코덱 (CompactRedisSerializer에 빈으로 등록)
+ *
+ * 저장된 값은 typeId로 코덱을 찾아 읽으므로 typeId는 코덱마다 고유해야 하며 한 번 정하면 바꾸지 않습니다.
+ * 필드 구성이 바뀌면 새 typeId의 코덱을 추가하거나 CompactRedisSerializer.FORMAT_VERSION을 올립니다.
+ */
+public interface CacheValueCodec<T> {
+
+    /**
+     * 저장 형식에 기록되는 타입 식별자 (1~127)
+     */
+    byte typeId();
+
+    Class<T> type();
+
+    void write(T value, DataOutputStream out) throws IOException;
+
+    T read(DataInputStream in) throws IOException;
+}
@@ -0,0 +1,112 @@
+package com.example.concert.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캐시 값 직렬화기 (JDK 직렬화 대체).
+ *
+ * 형식: [버전 1바이트][typeId 1바이트][본문]
+ * - 등록된 CacheValueCodec 타입은 코덱이 정의한 바이너리 본문 (클래스 디스크립터, 박싱 객체 그래프 없음)
+ * - 코덱이 없는 타입은 typeId 0 + JDK 직렬화 본문으로 저장
+ * - 이전 형식(JDK 직렬화, 0xACED로 시작)도 읽으므로 배포 직후 남은 캐시 항목을 그대로 사용
+ * - 모르는 버전/typeId는 null(캐시 미스)로 처리하여 형식이 다른 인스턴스가 섞여도 DB에서 다시 적재
+ */
+@Slf4j
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte FORMAT_VERSION = 1;
+    private static final byte JDK_TYPE_ID = 0;
+    private static final byte JDK_STREAM_MAGIC = (byte) 0xAC;
+    private static final int HEADER_LENGTH = 2;
+
+    private final Map<Class<?>, CacheValueCodec<?>> codecsByType = new HashMap<>();
+    private final CacheValueCodec<?>[] codecsById = new CacheValueCodec<?>[Byte.MAX_VALUE + 1];
+    private final JdkSerializationRedisSerializer jdkSerializer = new JdkSerializationRedisSerializer();
+
+    public CompactRedisSerializer(List<? extends CacheValueCodec<?>> codecs) {
+        for (CacheValueCodec<?> codec : codecs) {
+            byte typeId = codec.typeId();
+            if (typeId <= JDK_TYPE_ID) {
+                throw new IllegalArgumentException("Codec typeId must be 1..127: " + codec.type().getName());
+            }
+            if (codecsById[typeId] != null) {
+                throw new IllegalArgumentException("Duplicate codec typeId " + typeId + ": "
+                        + codecsById[typeId].type().getName() + ", " + codec.type().getName());
+            }
+            codecsById[typeId] = codec;
+            codecsByType.put(codec.type(), codec);
+        }
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        CacheValueCodec<?> codec = codecsByType.get(value.getClass());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            if (codec == null) {
+                out.writeByte(JDK_TYPE_ID);
+                out.write(jdkSerializer.serialize(value));
+            } else {
+                out.writeByte(codec.typeId());
+                write(codec, value, out);
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Cannot serialize " + value.getClass().getName(), e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] == JDK_STREAM_MAGIC) {
+            return jdkSerializer.deserialize(bytes);
+        }
+        if (bytes[0] != FORMAT_VERSION || bytes.length < HEADER_LENGTH) {
+            log.warn("Unknown cache value format version: {}", bytes[0]);
+            return null;
+        }
+
+        byte typeId = bytes[1];
+        if (typeId == JDK_TYPE_ID) {
+            return jdkSerializer.deserialize(Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length));
+        }
+        CacheValueCodec<?> codec = typeId > 0 ? codecsById[typeId] : null;
+        if (codec == null) {
+            log.warn("Unknown cache value typeId: {}", typeId);
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH))) {
+            return codec.read(in);
+        } catch (IOException e) {
+            throw new SerializationException("Cannot deserialize " + codec.type().getName(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void write(CacheValueCodec<T> codec, Object value, DataOutputStream out) throws IOException {
+        codec.write((T) value, out);
+    }
+}
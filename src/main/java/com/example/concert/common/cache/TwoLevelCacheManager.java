@@ -0,0 +1,106 @@
+package com.example.concert.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis CacheManager 앞에 인스턴스별 Caffeine 캐시(L1)를 두는 CacheManager.
+ *
+ * - L1은 캐시마다 크기 상한(max-size)과 짧은 TTL(ttl-ms)을 가지며, TTL이 무효화 메시지 유실 시 최대 지연
+ * - 쓰기/삭제는 Redis Pub/Sub 채널(cache:invalidate)로 다른 인스턴스의 L1에 전파 (자신이 발행한 메시지는 무시)
+ * - L1 적중/미스 수는 Micrometer 지표(cache.gets{cache=<이름>.local})로 노출
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidate";
+    private static final String LOCAL_METRIC_SUFFIX = ".local";
+
+    private final CacheManager remote;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long localMaxSize;
+    private final Duration localTtl;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remote, RedisTemplate<String, String> redisTemplate,
+            MeterRegistry meterRegistry, long localMaxSize, Duration localTtl) {
+        this.remote = remote;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.localMaxSize = localMaxSize;
+        this.localTtl = localTtl;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remote.getCacheNames();
+    }
+
+    private TwoLevelCache createCache(String name) {
+        Cache remoteCache = remote.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name + LOCAL_METRIC_SUFFIX);
+
+        return new TwoLevelCache(name, local, remoteCache, key -> publishInvalidation(name, key));
+    }
+
+    /**
+     * 메시지 형식: {nodeId}:{cacheName}[:{key}] (키가 없으면 전체 삭제)
+     */
+    private void publishInvalidation(String name, String key) {
+        String message = key == null ? nodeId + ":" + name : nodeId + ":" + name + ":" + key;
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 무효화 메시지 수신 - 로컬(L1)에서만 제거
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":", 3);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        if (parts.length == 2) {
+            cache.clearLocal();
+            log.debug("Cleared local cache: {}", parts[1]);
+        } else {
+            cache.evictLocal(parts[2]);
+            log.debug("Invalidated local cache entry: {}::{}", parts[1], parts[2]);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.concert.common.config;
+
+import com.example.concert.domain.queue.entity.AdmissionPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class QueueConfig {
+
+        @Value("${queue.admission.max-active-tokens:50}")
+        private int maxActiveTokens;
+
+        @Value("${queue.admission.rate-per-second:10}")
+        private double ratePerSecond;
+
+        @Value("${queue.admission.burst:50}")
+        private int burst;
+
+        /**
+         * 콘서트별 입장 정책 (활성 슬롯 상한 + 토큰 버킷 속도 제한)
+         */
+        @Bean
+        public AdmissionPolicy admissionPolicy() {
+                return new AdmissionPolicy(maxActiveTokens, ratePerSecond, burst);
+        }
+}
@@ -1,5 +1,9 @@
 package com.example.concert.common.config;
 
+import com.example.concert.common.cache.CacheValueCodec;
+import com.example.concert.common.cache.CompactRedisSerializer;
+import com.example.concert.common.cache.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
@@ -8,16 +12,19 @@ import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -29,15 +36,24 @@ public class RedisConfig {
         private static final Duration CONCERT_SCHEDULES_TTL = Duration.ofMinutes(5);
         private static final Duration CONCERT_SCHEDULES_JITTER = Duration.ofSeconds(30);
 
-        private static final Duration SEATS_TTL = Duration.ofSeconds(30);
-        private static final Duration SEATS_JITTER = Duration.ofSeconds(5);
-
         @Value("${spring.data.redis.host:localhost}")
         private String redisHost;
 
         @Value("${spring.data.redis.port:6379}")
         private int redisPort;
 
+        @Value("${lock.watchdog-timeout-ms:10000}")
+        private long lockWatchdogTimeoutMs;
+
+        @Value("${cache.local.max-size:1000}")
+        private long localCacheMaxSize;
+
+        @Value("${cache.local.ttl-ms:5000}")
+        private long localCacheTtlMs;
+
+        @Value("${spring.threads.virtual.enabled:false}")
+        private boolean virtualThreads;
+
         /**
          * Redisson 클라이언트 빈 (분산 락 지원)
          */
@@ -46,11 +62,22 @@ public class RedisConfig {
                 Config config = new Config();
                 config.useSingleServer()
                                 .setAddress("redis://" + redisHost + ":" + redisPort);
+                // leaseTime = -1 락의 임대 시간 (watchdog이 1/3 주기로 연장)
+                config.setLockWatchdogTimeout(lockWatchdogTimeoutMs);
                 return Redisson.create(config);
         }
 
+        /**
+         * 캐시 값 직렬화기 - 등록된 CacheValueCodec은 바이너리 코덱, 그 외 타입은 JDK 직렬화
+         */
         @Bean
-        public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+        public CompactRedisSerializer compactRedisSerializer(List<CacheValueCodec<?>> cacheValueCodecs) {
+                return new CompactRedisSerializer(cacheValueCodecs);
+        }
+
+        @Bean
+        public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+                        CompactRedisSerializer compactRedisSerializer) {
                 RedisTemplate<String, Object> template = new RedisTemplate<>();
                 template.setConnectionFactory(connectionFactory);
 
@@ -58,10 +85,9 @@ public class RedisConfig {
                 template.setKeySerializer(new StringRedisSerializer());
                 template.setHashKeySerializer(new StringRedisSerializer());
 
-                // Value Serializer - JDK Serialization for record support
-                JdkSerializationRedisSerializer serializer = new JdkSerializationRedisSerializer();
-                template.setValueSerializer(serializer);
-                template.setHashValueSerializer(serializer);
+                // Value Serializer - 캐시 레코드는 바이너리 코덱, 그 외는 JDK 직렬화
+                template.setValueSerializer(compactRedisSerializer);
+                template.setHashValueSerializer(compactRedisSerializer);
 
                 template.afterPropertiesSet();
                 return template;
@@ -85,11 +111,31 @@ public class RedisConfig {
                 return template;
         }
 
+        /**
+         * Redis Pub/Sub 리스너 컨테이너 (인스턴스 간 로컬 캐시 갱신 전파 - 2단 캐시, 좌석 캐시, 활성 토큰 캐시)
+         */
         @Bean
-        public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-                // JDK Serialization for record support
-                JdkSerializationRedisSerializer serializer = new JdkSerializationRedisSerializer();
+        public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+                RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+                container.setConnectionFactory(connectionFactory);
+                if (virtualThreads) {
+                        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("redis-listener-");
+                        executor.setVirtualThreads(true);
+                        container.setTaskExecutor(executor);
+                }
+                return container;
+        }
 
+        /**
+         * 인스턴스 로컬 캐시(L1, Caffeine) + Redis 캐시(L2)
+         * - L1은 크기/TTL 상한(cache.local.*)이 있고, 무효화는 Redis Pub/Sub로 다른 인스턴스에 전파
+         */
+        @Bean
+        public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                        CompactRedisSerializer compactRedisSerializer,
+                        RedisTemplate<String, String> queueRedisTemplate,
+                        RedisMessageListenerContainer redisMessageListenerContainer,
+                        MeterRegistry meterRegistry) {
                 // 기본 캐시 설정
                 RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                                 .entryTtl(Duration.ofMinutes(5))
@@ -97,7 +143,7 @@ public class RedisConfig {
                                                 RedisSerializationContext.SerializationPair
                                                                 .fromSerializer(new StringRedisSerializer()))
                                 .serializeValuesWith(
-                                                RedisSerializationContext.SerializationPair.fromSerializer(serializer))
+                                                RedisSerializationContext.SerializationPair.fromSerializer(compactRedisSerializer))
                                 .disableCachingNullValues();
 
                 // 캐시별 개별 설정 (TTL + Jitter)
@@ -106,13 +152,19 @@ public class RedisConfig {
                 cacheConfigurations.put("concertSchedules", defaultConfig
                                 .entryTtl(withJitter(CONCERT_SCHEDULES_TTL, CONCERT_SCHEDULES_JITTER)));
 
-                cacheConfigurations.put("seats", defaultConfig
-                                .entryTtl(withJitter(SEATS_TTL, SEATS_JITTER)));
+                // 좌석 목록은 좌석 단위로 갱신하는 SeatCache(RedisSeatCache, 인스턴스 로컬 목록 포함)에서 관리
 
-                return RedisCacheManager.builder(connectionFactory)
+                RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                                 .cacheDefaults(defaultConfig)
                                 .withInitialCacheConfigurations(cacheConfigurations)
                                 .build();
+                redisCacheManager.initializeCaches();
+
+                TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(redisCacheManager, queueRedisTemplate,
+                                meterRegistry, localCacheMaxSize, Duration.ofMillis(localCacheTtlMs));
+                redisMessageListenerContainer.addMessageListener(cacheManager,
+                                new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+                return cacheManager;
         }
 
         /**
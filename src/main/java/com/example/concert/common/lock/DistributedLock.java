@@ -16,6 +16,8 @@ public @interface DistributedLock {
     /**
      * 락 키 (SpEL 표현식 지원)
      * 예: "'seat:' + #seatId"
+     * 결과가 컬렉션이면 모든 키를 한 번에 획득 (MultiLock, 전부 획득하거나 전부 실패)
+     * 예: "#seatIds.![ 'seat:' + #this ]"
      */
     String key();
 
@@ -27,9 +29,23 @@ public @interface DistributedLock {
     /**
      * 락 점유 시간 (기본: 10초)
      * 이 시간이 지나면 락이 자동 해제됩니다.
+     * -1이면 고정 점유 시간 없이 Redisson watchdog이 보유 중인 동안 주기적으로 연장합니다.
+     * (인스턴스가 죽으면 lock.watchdog-timeout-ms 후 해제)
      */
     long leaseTime() default 10L;
 
+    /**
+     * true면 락 획득 시 펜싱 토큰을 발급하여 FencingToken.current()로 제공합니다.
+     * 보호 대상 쓰기가 토큰을 검증해야 임대 만료 후 늦게 도착한 쓰기를 막을 수 있습니다.
+     */
+    boolean fenced() default false;
+
+    /**
+     * 락이 점유 중일 때의 대기 방식 (기본: pub/sub 알림 대기)
+     * FAIL_FAST면 waitTime을 무시하고 즉시 LockAcquisitionException
+     */
+    LockWaitPolicy waitPolicy() default LockWaitPolicy.SUBSCRIBE;
+
     /**
      * 시간 단위 (기본: 초)
      */
@@ -7,20 +7,28 @@ import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.redisson.api.RLock;
+import org.redisson.api.RScript;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
-import org.springframework.expression.ExpressionParser;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @DistributedLock 어노테이션을 처리하는 AOP Aspect.
  * 
+ *                  Redis 락 앞에 노드 로컬 락을 두어 키당 JVM에서 한 요청만 Redis 락을 두고 경쟁합니다.
+ * 
+ *                  가상 스레드(spring.threads.virtual.enabled)에서도 캐리어 스레드를 고정(pinning)하지 않도록
+ *                  대기 구간에 synchronized를 쓰지 않고 ReentrantLock / Redisson 비동기 대기 / sleep만 사용합니다.
+ * 
  *                  트랜잭션보다 먼저 실행되어야 하므로 Order를 낮은 값으로 설정합니다.
  *                  (Order 값이 낮을수록 먼저 실행됨)
  */
@@ -32,21 +40,69 @@ import java.lang.reflect.Parameter;
 public class DistributedLockAspect {
 
     private static final String LOCK_KEY_PREFIX = "lock:";
+    private static final String FENCE_KEY = "lock:fence";
+    private static final long SPIN_MIN_BACKOFF_MILLIS = 10;
+    private static final long SPIN_MAX_BACKOFF_MILLIS = 200;
+
+    /**
+     * 펜싱 토큰 발급 - 모든 락 키를 아직 현재 스레드가 보유 중일 때만 INCR (보유 확인과 발급이 원자적)
+     * 임대가 만료된 뒤 발급을 시도하면 -1을 반환하므로, 토큰 순서는 락 보유 순서와 같습니다.
+     *
+     * KEYS[1] = lock:fence, KEYS[2..] = 락 키 (Redisson 락 HASH)
+     * ARGV[1] = Redisson 락 이름 ({클라이언트 id}:{스레드 id}, 락 HASH의 필드)
+     */
+    private static final String ISSUE_FENCE_SCRIPT = """
+            for i = 2, #KEYS do
+                if redis.call('HEXISTS', KEYS[i], ARGV[1]) == 0 then
+                    return -1
+                end
+            end
+            return redis.call('INCR', KEYS[1])
+            """;
 
     private final RedissonClient redissonClient;
-    private final ExpressionParser parser = new SpelExpressionParser();
+    private final LockKeyResolver keyResolver = new LockKeyResolver();
+    private final LocalKeyLocks localKeyLocks = new LocalKeyLocks();
 
     @Around("@annotation(distributedLock)")
     public Object around(ProceedingJoinPoint joinPoint, DistributedLock distributedLock) throws Throwable {
-        String lockKey = LOCK_KEY_PREFIX + parseKey(joinPoint, distributedLock.key());
-        RLock lock = redissonClient.getLock(lockKey);
+        List<String> lockKeys = parseKeys(joinPoint, distributedLock.key());
+        String lockKey = lockKeys.size() > 1 ? lockKeys.toString() : lockKeys.get(0);
+        long waitNanos = distributedLock.waitPolicy() == LockWaitPolicy.FAIL_FAST
+                ? 0
+                : distributedLock.timeUnit().toNanos(distributedLock.waitTime());
+        long deadline = System.nanoTime() + waitNanos;
+
+        // 1. 노드 로컬 락 - 같은 키의 나머지 요청은 Redis에 가지 않고 JVM 안에서 대기
+        List<LocalKeyLocks.KeyLock> localLocks = localKeyLocks.tryLockAll(lockKeys, waitNanos, TimeUnit.NANOSECONDS);
+        if (localLocks == null) {
+            log.warn("Failed to acquire local lock: {}", lockKey);
+            throw new LockAcquisitionException(lockKey);
+        }
+
+        try {
+            // 2. 분산 락 - 로컬 대기에 쓴 시간을 뺀 나머지만큼만 대기
+            return proceedWithDistributedLock(joinPoint, distributedLock, lockKeys, lockKey,
+                    Math.max(0, deadline - System.nanoTime()));
+        } finally {
+            localKeyLocks.unlockAll(localLocks);
+        }
+    }
+
+    private Object proceedWithDistributedLock(ProceedingJoinPoint joinPoint, DistributedLock distributedLock,
+            List<String> lockKeys, String lockKey, long waitNanos) throws Throwable {
+        boolean multi = lockKeys.size() > 1;
+        RLock lock = multi
+                ? redissonClient.getMultiLock(lockKeys.stream().map(redissonClient::getLock).toArray(RLock[]::new))
+                : redissonClient.getLock(lockKey);
+        long leaseTime = distributedLock.leaseTime();
+        long leaseNanos = leaseTime < 0 ? -1 : distributedLock.timeUnit().toNanos(leaseTime);
 
         boolean acquired = false;
         try {
-            acquired = lock.tryLock(
-                    distributedLock.waitTime(),
-                    distributedLock.leaseTime(),
-                    distributedLock.timeUnit());
+            acquired = distributedLock.waitPolicy() == LockWaitPolicy.SPIN
+                    ? spinLock(lock, waitNanos, leaseNanos)
+                    : lock.tryLock(waitNanos, leaseNanos, TimeUnit.NANOSECONDS);
 
             if (!acquired) {
                 log.warn("Failed to acquire lock: {}", lockKey);
@@ -54,31 +110,80 @@ public class DistributedLockAspect {
             }
 
             log.debug("Lock acquired: {}", lockKey);
-            return joinPoint.proceed();
+            if (!distributedLock.fenced()) {
+                return joinPoint.proceed();
+            }
+
+            // 모든 락이 하나의 카운터를 공유하므로 MultiLock에서도 토큰 하나로 각 좌석의 이전 쓰기보다 큼이 보장됨
+            long token = issueFence(lockKeys);
+            if (token < 0) {
+                log.warn("Lock lease expired before fencing token was issued: {}", lockKey);
+                throw new LockAcquisitionException(lockKey);
+            }
+            Long previous = FencingToken.bind(token);
+            try {
+                return joinPoint.proceed();
+            } finally {
+                FencingToken.restore(previous);
+            }
 
         } finally {
-            if (acquired && lock.isHeldByCurrentThread()) {
+            // MultiLock은 isHeldByCurrentThread를 지원하지 않음 (획득 성공 시 모든 락을 보유)
+            if (acquired && (multi || lock.isHeldByCurrentThread())) {
                 lock.unlock();
                 log.debug("Lock released: {}", lockKey);
             }
         }
     }
 
+    private long issueFence(List<String> lockKeys) {
+        List<Object> keys = new ArrayList<>(lockKeys.size() + 1);
+        keys.add(FENCE_KEY);
+        keys.addAll(lockKeys);
+        String lockName = redissonClient.getId() + ":" + Thread.currentThread().getId();
+        Long token = redissonClient.getScript(StringCodec.INSTANCE)
+                .eval(RScript.Mode.READ_WRITE, ISSUE_FENCE_SCRIPT, RScript.ReturnType.INTEGER, keys, lockName);
+        return token != null ? token : -1;
+    }
+
     /**
-     * SpEL 표현식을 파싱하여 실제 락 키를 생성합니다.
+     * 대기 시간 0으로 반복 시도 (Redisson은 대기 시간이 0이면 해제 알림을 구독하지 않음)
      */
-    private String parseKey(ProceedingJoinPoint joinPoint, String keyExpression) {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        Object[] args = joinPoint.getArgs();
-        Parameter[] parameters = method.getParameters();
-
-        StandardEvaluationContext context = new StandardEvaluationContext();
-
-        for (int i = 0; i < parameters.length; i++) {
-            context.setVariable(parameters[i].getName(), args[i]);
+    private boolean spinLock(RLock lock, long waitNanos, long leaseNanos) throws InterruptedException {
+        long deadline = System.nanoTime() + waitNanos;
+        long backoffMillis = SPIN_MIN_BACKOFF_MILLIS;
+        while (true) {
+            if (lock.tryLock(0, leaseNanos, TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis <= 0) {
+                return false;
+            }
+            // 같은 순간에 재시도가 몰리지 않도록 지터 적용
+            long sleepMillis = ThreadLocalRandom.current().nextLong(backoffMillis / 2, backoffMillis + 1);
+            Thread.sleep(Math.min(sleepMillis, remainingMillis));
+            backoffMillis = Math.min(backoffMillis * 2, SPIN_MAX_BACKOFF_MILLIS);
         }
+    }
 
-        return parser.parseExpression(keyExpression).getValue(context, String.class);
+    /**
+     * SpEL 표현식을 평가하여 실제 락 키 목록을 생성합니다. (표현식 파싱은 Method별로 한 번)
+     * 컬렉션 결과는 중복을 제거하고 정렬하여 여러 요청이 같은 순서로 획득하도록 합니다.
+     */
+    private List<String> parseKeys(ProceedingJoinPoint joinPoint, String keyExpression) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Object value = keyResolver.resolve(method, keyExpression, joinPoint.getArgs());
+        if (value instanceof Collection<?> keys) {
+            if (keys.isEmpty()) {
+                throw new IllegalArgumentException("Lock key expression returned no keys: " + keyExpression);
+            }
+            return keys.stream()
+                    .map(key -> LOCK_KEY_PREFIX + key)
+                    .distinct()
+                    .sorted()
+                    .toList();
+        }
+        return List.of(LOCK_KEY_PREFIX + value);
     }
 }
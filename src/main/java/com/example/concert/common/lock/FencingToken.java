@@ -0,0 +1,42 @@
+package com.example.concert.common.lock;
+
+/**
+ * 현재 스레드가 보유한 분산 락의 펜싱 토큰.
+ * fenced = true인 @DistributedLock 메서드 안에서만 유효하며, 락을 획득할 때마다 단조 증가합니다.
+ * 락을 아직 보유 중인지 확인하는 것과 같은 Lua 스크립트에서 발급하므로, 토큰 순서는 락 보유 순서와 같습니다.
+ *
+ * 보호 대상 쓰기는 이 토큰을 함께 저장하고 더 작은 토큰의 쓰기를 거절해야 합니다.
+ * (락 임대가 GC 정지 등으로 만료된 뒤 늦게 도착한 이전 보유자의 쓰기를 막음)
+ */
+public final class FencingToken {
+
+    private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+
+    private FencingToken() {
+    }
+
+    public static long current() {
+        Long token = CURRENT.get();
+        if (token == null) {
+            throw new IllegalStateException("No fencing token bound: call inside @DistributedLock(fenced = true)");
+        }
+        return token;
+    }
+
+    /**
+     * 토큰을 바인딩하고 이전 값을 반환 (중첩 락 해제 시 복원용)
+     */
+    static Long bind(long token) {
+        Long previous = CURRENT.get();
+        CURRENT.set(token);
+        return previous;
+    }
+
+    static void restore(Long previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
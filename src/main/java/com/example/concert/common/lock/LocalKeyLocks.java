@@ -0,0 +1,86 @@
+package com.example.concert.common.lock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 노드 로컬 락 (키마다 정확히 하나의 ReentrantLock).
+ *
+ * 같은 키에 대한 요청이 JVM 안에서 먼저 줄을 서도록 하여, 키당 한 스레드만 Redis 락을 두고 경쟁하게 합니다.
+ * 서로 다른 키는 해시가 같아도 서로를 막지 않습니다.
+ * 키별 락은 보유/대기 중인 스레드 수를 세어 0이 되면 제거하므로 사용 중인 키만 메모리에 남습니다.
+ */
+class LocalKeyLocks {
+
+    private final ConcurrentHashMap<String, KeyLock> locks = new ConcurrentHashMap<>();
+
+    /**
+     * 키들의 락을 키 순서로 모두 획득 (순서를 고정하여 여러 키를 잡는 요청끼리 교착되지 않음)
+     *
+     * @return 획득한 락 목록, 제한 시간 안에 모두 획득하지 못하면 null (일부 획득분은 해제)
+     */
+    List<KeyLock> tryLockAll(List<String> keys, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        List<KeyLock> acquired = new ArrayList<>(keys.size());
+        for (String key : new TreeSet<>(keys)) {
+            KeyLock lock = retain(key);
+            boolean locked = false;
+            try {
+                locked = lock.tryLock(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } finally {
+                if (!locked) {
+                    release(lock);
+                }
+            }
+            if (!locked) {
+                unlockAll(acquired);
+                return null;
+            }
+            acquired.add(lock);
+        }
+        return acquired;
+    }
+
+    void unlockAll(List<KeyLock> acquired) {
+        for (int i = acquired.size() - 1; i >= 0; i--) {
+            KeyLock lock = acquired.get(i);
+            lock.unlock();
+            release(lock);
+        }
+    }
+
+    /**
+     * 보관 중인 키 수 (보유/대기 중인 키만)
+     */
+    int size() {
+        return locks.size();
+    }
+
+    private KeyLock retain(String key) {
+        return locks.compute(key, (k, lock) -> {
+            KeyLock retained = lock != null ? lock : new KeyLock(k);
+            retained.users++;
+            return retained;
+        });
+    }
+
+    private void release(KeyLock lock) {
+        locks.computeIfPresent(lock.key, (k, current) -> --current.users == 0 ? null : current);
+    }
+
+    /**
+     * users는 맵의 compute 안에서만 변경 (같은 키의 compute는 직렬화됨)
+     */
+    static final class KeyLock extends ReentrantLock {
+        private final String key;
+        private int users;
+
+        private KeyLock(String key) {
+            this.key = key;
+        }
+    }
+}
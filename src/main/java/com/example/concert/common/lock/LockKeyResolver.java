@@ -0,0 +1,132 @@
+package com.example.concert.common.lock;
+
+import org.springframework.expression.*;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @DistributedLock 키 표현식 해석기.
+ *
+ * 파싱된 표현식과 파라미터 이름을 Method별로 캐싱하여, 호출마다 남는 일은 변수 바인딩과 평가뿐입니다.
+ * 표현식은 MIXED 모드로 파싱되어 반복 평가되면 바이트코드로 컴파일됩니다.
+ * (컬렉션 projection처럼 컴파일할 수 없는 표현식은 인터프리터로 평가)
+ *
+ * 평가 컨텍스트도 호출마다 만들지 않습니다.
+ * - 접근자/타입 변환기 등 설정은 공유 StandardEvaluationContext 하나를 재사용 (리플렉션 캐시도 공유)
+ * - 호출마다 인자 배열을 감싸는 작은 컨텍스트만 만들어 #파라미터 이름을 배열에서 바로 찾음 (변수 Map 없음)
+ */
+class LockKeyResolver {
+
+    private final SpelExpressionParser parser = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, LockKeyResolver.class.getClassLoader()));
+    private final Map<Method, CompiledKey> cache = new ConcurrentHashMap<>();
+    private final StandardEvaluationContext sharedContext = createSharedContext();
+
+    /**
+     * 키 표현식을 평가한 값 (단일 키 또는 컬렉션)
+     */
+    Object resolve(Method method, String keyExpression, Object[] args) {
+        CompiledKey key = cache.computeIfAbsent(method, m -> compile(m, keyExpression));
+        return key.expression().getValue(new ArgumentContext(sharedContext, key.parameterNames(), args));
+    }
+
+    private CompiledKey compile(Method method, String keyExpression) {
+        Parameter[] parameters = method.getParameters();
+        String[] parameterNames = new String[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            parameterNames[i] = parameters[i].getName();
+        }
+        return new CompiledKey(parser.parseExpression(keyExpression), parameterNames);
+    }
+
+    private record CompiledKey(Expression expression, String[] parameterNames) {
+    }
+
+    /**
+     * 여러 스레드가 함께 읽으므로 지연 생성되는 설정을 미리 초기화 (변수는 두지 않음)
+     */
+    private static StandardEvaluationContext createSharedContext() {
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        context.getPropertyAccessors();
+        context.getConstructorResolvers();
+        context.getMethodResolvers();
+        context.getTypeLocator();
+        context.getTypeConverter();
+        return context;
+    }
+
+    /**
+     * 변수 조회만 호출 인자에서 처리하고 나머지는 공유 컨텍스트에 위임
+     */
+    private record ArgumentContext(EvaluationContext shared, String[] parameterNames, Object[] args)
+            implements EvaluationContext {
+
+        @Override
+        public Object lookupVariable(String name) {
+            for (int i = 0; i < parameterNames.length; i++) {
+                if (parameterNames[i].equals(name)) {
+                    return args[i];
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void setVariable(String name, Object value) {
+            throw new UnsupportedOperationException("Lock key expressions cannot assign variables: " + name);
+        }
+
+        @Override
+        public TypedValue getRootObject() {
+            return shared.getRootObject();
+        }
+
+        @Override
+        public List<PropertyAccessor> getPropertyAccessors() {
+            return shared.getPropertyAccessors();
+        }
+
+        @Override
+        public List<ConstructorResolver> getConstructorResolvers() {
+            return shared.getConstructorResolvers();
+        }
+
+        @Override
+        public List<MethodResolver> getMethodResolvers() {
+            return shared.getMethodResolvers();
+        }
+
+        @Override
+        public BeanResolver getBeanResolver() {
+            return shared.getBeanResolver();
+        }
+
+        @Override
+        public TypeLocator getTypeLocator() {
+            return shared.getTypeLocator();
+        }
+
+        @Override
+        public TypeConverter getTypeConverter() {
+            return shared.getTypeConverter();
+        }
+
+        @Override
+        public TypeComparator getTypeComparator() {
+            return shared.getTypeComparator();
+        }
+
+        @Override
+        public OperatorOverloader getOperatorOverloader() {
+            return shared.getOperatorOverloader();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.concert.common.lock;
+
+/**
+ * 락이 이미 점유되어 있을 때의 대기 방식
+ */
+public enum LockWaitPolicy {
+    /**
+     * 대기하지 않고 즉시 실패 (로컬/Redis 모두 한 번만 시도)
+     * - 경쟁에서 진 요청이 어차피 실패하는 경우 (예: 같은 좌석 선점)
+     */
+    FAIL_FAST,
+
+    /**
+     * waitTime 동안 짧은 간격(지수 백오프)으로 재시도 - pub/sub 구독 없이 Redis 왕복만 사용
+     */
+    SPIN,
+
+    /**
+     * Redisson pub/sub으로 해제 알림을 받을 때까지 waitTime 동안 대기 (기본)
+     */
+    SUBSCRIBE
+}
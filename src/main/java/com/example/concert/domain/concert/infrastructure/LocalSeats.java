@@ -0,0 +1,59 @@
+package com.example.concert.domain.concert.infrastructure;
+
+import com.example.concert.domain.concert.entity.Seat;
+import com.example.concert.domain.concert.entity.SeatStatus;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 인스턴스 로컬 좌석 목록 (좌석 id → 위치 인덱스로 좌석 하나를 제자리에서 교체)
+ */
+final class LocalSeats {
+
+    private final AtomicReferenceArray<Seat> seats;
+    private final Map<Long, Integer> indexes;
+
+    LocalSeats(List<Seat> seats) {
+        this.seats = new AtomicReferenceArray<>(seats.toArray(Seat[]::new));
+        this.indexes = new HashMap<>(seats.size() * 2);
+        for (int i = 0; i < seats.size(); i++) {
+            indexes.put(seats.get(i).getId(), i);
+        }
+    }
+
+    LocalSeats updateStatus(Collection<Long> seatIds, SeatStatus status) {
+        for (Long seatId : seatIds) {
+            Integer index = indexes.get(seatId);
+            if (index != null) {
+                Seat seat = seats.get(index);
+                seats.set(index, new Seat(seat.getId(), seat.getScheduleId(), seat.getSeatNumber(), seat.getPrice(),
+                        status, seat.getVersion(), seat.getCreatedAt(), seat.getUpdatedAt()));
+            }
+        }
+        return this;
+    }
+
+    Map<Long, SeatStatus> statuses(Collection<Long> seatIds) {
+        Map<Long, SeatStatus> result = new HashMap<>(seatIds.size() * 2);
+        for (Long seatId : seatIds) {
+            Integer index = indexes.get(seatId);
+            if (index != null) {
+                result.put(seatId, seats.get(index).getStatus());
+            }
+        }
+        return result;
+    }
+
+    List<Seat> toList() {
+        List<Seat> result = new ArrayList<>(seats.length());
+        for (int i = 0; i < seats.length(); i++) {
+            result.add(seats.get(i));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.concert.domain.concert.infrastructure;
+
+import com.example.concert.domain.concert.entity.Seat;
+import com.example.concert.domain.concert.entity.SeatStatus;
+import com.example.concert.domain.concert.repository.SeatCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Redis HASH + 인스턴스 로컬(Caffeine) 기반 SeatCache 구현체
+ *
+ * 키 구조:
+ * - seat:cache:{scheduleId} → HASH { seatId: "{A|T|R}{좌석 번호}:{가격}" } (30초 ± 5초 TTL, SeatEntryCodec)
+ * - seat:cache:recent:{scheduleId} → HASH { seatId: "{A|T|R}" } (최근 상태 변경 기록, 마지막 변경 후 10초 TTL)
+ *
+ * - 조회: 로컬 → Redis HGETALL → DB 순, 아래 단계에서 읽은 목록을 위 단계에 적재
+ * - 상태 변경: Redis 항목의 상태 코드만 교체하고 같은 스크립트에서 seat:cache:update 채널로 발행
+ *   → 캐시가 없어도 최근 상태 변경 기록에 남겨, DB 조회 후 적재하는 쪽이 그 사이 커밋된 변경을 덧씌움
+ *   → 모든 인스턴스가 로컬 목록의 해당 좌석만 교체 (자신이 발행한 메시지는 무시)
+ * - 로컬 항목은 적재 후 ttl-ms가 지나면 만료 (상태 변경으로 연장되지 않음, 메시지 유실 시 최대 지연)
+ */
+@Slf4j
+@Repository
+public class RedisSeatCache implements SeatCache, MessageListener {
+
+    static final String UPDATE_CHANNEL = "seat:cache:update";
+    private static final String CACHE_KEY_PREFIX = "seat:cache:";
+    private static final String RECENT_KEY_PREFIX = "seat:cache:recent:";
+    private static final String CACHE_NAME = "seats.local";
+    private static final Duration TTL = Duration.ofSeconds(30);
+    private static final Duration TTL_JITTER = Duration.ofSeconds(5);
+    // DB 조회부터 적재까지 걸리는 시간보다 충분히 길게
+    private static final Duration RECENT_TTL = Duration.ofSeconds(10);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+    private final Cache<Long, LocalSeats> local;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public RedisSeatCache(
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${cache.local.max-size:1000}") long maxSize,
+            @Value("${cache.local.ttl-ms:5000}") long ttlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.meterRegistry = meterRegistry;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(expireAfterCreate(Duration.ofMillis(ttlMillis)))
+                .recordStats()
+                .build();
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(UPDATE_CHANNEL));
+        CaffeineCacheMetrics.monitor(meterRegistry, local, CACHE_NAME);
+    }
+
+    @Override
+    public List<Seat> get(Long scheduleId, Function<Long, List<Seat>> loader) {
+        return local.get(scheduleId, id -> findOrLoad(id, loader)).toList();
+    }
+
+    @Override
+    public Map<Long, SeatStatus> findStatuses(Long scheduleId, List<Long> seatIds) {
+        LocalSeats cached = local.getIfPresent(scheduleId);
+        if (cached != null) {
+            return cached.statuses(seatIds);
+        }
+
+        List<Object> entries = redisTemplate.opsForHash().multiGet(CACHE_KEY_PREFIX + scheduleId,
+                seatIds.stream().<Object>map(String::valueOf).toList());
+        Map<Long, SeatStatus> statuses = new HashMap<>(seatIds.size() * 2);
+        for (int i = 0; i < seatIds.size(); i++) {
+            if (entries.get(i) instanceof String entry) {
+                statuses.put(seatIds.get(i), SeatEntryCodec.decodeStatus(entry.substring(0, 1)));
+            }
+        }
+        return statuses;
+    }
+
+    @Override
+    public void updateStatus(Long scheduleId, List<Long> seatIds, SeatStatus status) {
+        if (seatIds.isEmpty()) {
+            return;
+        }
+        // 적재 중인 목록이 있으면 적재가 끝난 뒤 반영됨
+        local.asMap().computeIfPresent(scheduleId, (id, seats) -> seats.updateStatus(seatIds, status));
+
+        String code = SeatEntryCodec.encodeStatus(status);
+        String seatIdList = seatIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        List<String> args = new ArrayList<>(seatIds.size() + 4);
+        args.add(code);
+        args.add(UPDATE_CHANNEL);
+        args.add(nodeId + ":" + scheduleId + ":" + code + ":" + seatIdList);
+        args.add(String.valueOf(RECENT_TTL.toMillis()));
+        seatIds.forEach(seatId -> args.add(String.valueOf(seatId)));
+        redisTemplate.execute(SeatCacheScripts.UPDATE_STATUS,
+                List.of(CACHE_KEY_PREFIX + scheduleId, RECENT_KEY_PREFIX + scheduleId), args.toArray());
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 상태 변경 수신 - 로컬 목록에서 해당 좌석만 교체
+     * 메시지 형식: {nodeId}:{scheduleId}:{상태 코드}:{seatId1,seatId2,...}
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+        if (parts.length != 4 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        Long scheduleId = Long.parseLong(parts[1]);
+        SeatStatus status = SeatEntryCodec.decodeStatus(parts[2]);
+        List<Long> seatIds = Arrays.stream(parts[3].split(",")).map(Long::parseLong).toList();
+        local.asMap().computeIfPresent(scheduleId, (id, seats) -> seats.updateStatus(seatIds, status));
+        log.debug("Applied seat cache update: scheduleId={}, seatIds={}, status={}", scheduleId, seatIds, status);
+    }
+
+    @SuppressWarnings("unchecked")
+    private LocalSeats findOrLoad(Long scheduleId, Function<Long, List<Seat>> loader) {
+        String key = CACHE_KEY_PREFIX + scheduleId;
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(key);
+        if (!entries.isEmpty()) {
+            return new LocalSeats(entries.entrySet().stream()
+                    .map(entry -> SeatEntryCodec.decode(
+                            scheduleId, (String) entry.getKey(), (String) entry.getValue()))
+                    .sorted(Comparator.comparing(Seat::getId))
+                    .toList());
+        }
+
+        LocalSeats seats = new LocalSeats(loader.apply(scheduleId));
+        List<Seat> loaded = seats.toList();
+        if (!loaded.isEmpty()) {
+            List<String> args = new ArrayList<>(loaded.size() * 2 + 1);
+            args.add(String.valueOf(ttlWithJitter()));
+            for (Seat seat : loaded) {
+                args.add(String.valueOf(seat.getId()));
+                args.add(SeatEntryCodec.encode(seat));
+            }
+            List<String> recent = redisTemplate.execute(SeatCacheScripts.LOAD,
+                    List.of(key, RECENT_KEY_PREFIX + scheduleId), args.toArray());
+            // DB 조회 이후 커밋된 변경을 스냅샷에도 반영
+            for (int i = 0; recent != null && i + 1 < recent.size(); i += 2) {
+                seats.updateStatus(List.of(Long.parseLong(recent.get(i))),
+                        SeatEntryCodec.decodeStatus(recent.get(i + 1)));
+            }
+        }
+        return seats;
+    }
+
+    /**
+     * TTL에 Jitter를 추가하여 Cache Avalanche 방지
+     */
+    private static long ttlWithJitter() {
+        long jitterMillis = TTL_JITTER.toMillis();
+        return TTL.toMillis() + ThreadLocalRandom.current().nextLong(-jitterMillis, jitterMillis);
+    }
+
+    private static <K, V> Expiry<K, V> expireAfterCreate(Duration ttl) {
+        long ttlNanos = ttl.toNanos();
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(K key, V value, long currentTime) {
+                return ttlNanos;
+            }
+
+            @Override
+            public long expireAfterUpdate(K key, V value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+
+            @Override
+            public long expireAfterRead(K key, V value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+}
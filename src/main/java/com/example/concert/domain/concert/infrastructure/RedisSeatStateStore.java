@@ -0,0 +1,267 @@
+package com.example.concert.domain.concert.infrastructure;
+
+import com.example.concert.domain.concert.entity.SeatStatus;
+import com.example.concert.domain.concert.repository.SeatStateStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+/**
+ * Redis 기반 SeatStateStore 구현체
+ *
+ * 키 구조:
+ * - seat:state:{scheduleId} → HASH { seatId: A|T|R } (스케줄 단위로 DB에서 적재)
+ * - seat:state:pending → LIST [ change ] (seats 테이블 반영 대기, FIFO)
+ * - seat:state:inflight → ZSET { change: 꺼낸 시각 } (반영 중, 완료 시 제거)
+ * - seat:unapplied:{scheduleId} → HASH { seatId: 미반영 변경 수 } (대기열/처리 중 변경의 스케줄별 색인, 0이면 제거)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RedisSeatStateStore implements SeatStateStore {
+
+    private static final String STATE_KEY_PREFIX = "seat:state:";
+    private static final String PENDING_KEY = "seat:state:pending";
+    private static final String INFLIGHT_KEY = "seat:state:inflight";
+    private static final String UNAPPLIED_KEY_PREFIX = "seat:unapplied:";
+    private static final int SCAN_COUNT = 1000;
+
+    private final RedisTemplate<String, String> queueRedisTemplate;
+
+    @Override
+    public SeatClaim claim(Long scheduleId, Long seatId) {
+        Long result = queueRedisTemplate.execute(
+                SeatStateScripts.CLAIM,
+                List.of(STATE_KEY_PREFIX + scheduleId, PENDING_KEY, UNAPPLIED_KEY_PREFIX + scheduleId),
+                String.valueOf(seatId),
+                encodeChange(scheduleId, seatId, SeatStatus.AVAILABLE, SeatStatus.TEMP_RESERVED));
+        return toClaim(result);
+    }
+
+    @Override
+    public SeatClaim claimAll(Long scheduleId, List<Long> seatIds) {
+        Long result = queueRedisTemplate.execute(
+                SeatStateScripts.CLAIM_ALL,
+                List.of(STATE_KEY_PREFIX + scheduleId, PENDING_KEY, UNAPPLIED_KEY_PREFIX + scheduleId),
+                changeArgs(scheduleId, seatIds, SeatStatus.AVAILABLE, SeatStatus.TEMP_RESERVED));
+        return toClaim(result);
+    }
+
+    @Override
+    public void cancelClaim(Long scheduleId, Long seatId) {
+        cancelClaims(scheduleId, List.of(seatId));
+    }
+
+    @Override
+    public void cancelClaims(Long scheduleId, List<Long> seatIds) {
+        queueRedisTemplate.execute(
+                SeatStateScripts.CANCEL_CLAIM,
+                List.of(STATE_KEY_PREFIX + scheduleId, PENDING_KEY, UNAPPLIED_KEY_PREFIX + scheduleId),
+                changeArgs(scheduleId, seatIds, SeatStatus.TEMP_RESERVED, SeatStatus.AVAILABLE));
+    }
+
+    @Override
+    public boolean release(Long scheduleId, Long seatId, SeatStatus expected) {
+        if (expected == SeatStatus.AVAILABLE) {
+            throw new IllegalArgumentException("Only a claimed seat can be released: " + expected);
+        }
+        Long result = queueRedisTemplate.execute(
+                SeatStateScripts.RELEASE,
+                List.of(STATE_KEY_PREFIX + scheduleId),
+                String.valueOf(seatId),
+                encodeStatus(expected));
+        return result != null && result == 1;
+    }
+
+    @Override
+    public void load(Long scheduleId, Map<Long, SeatStatus> statuses) {
+        if (statuses.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>(statuses.size() * 2);
+        statuses.forEach((seatId, status) -> {
+            args.add(String.valueOf(seatId));
+            args.add(encodeStatus(status));
+        });
+        Long added = queueRedisTemplate.execute(
+                SeatStateScripts.LOAD,
+                List.of(STATE_KEY_PREFIX + scheduleId),
+                args.toArray());
+        log.debug("Loaded seat states: scheduleId={}, added={}", scheduleId, added);
+    }
+
+    @Override
+    public Map<Long, SeatStatus> findStates(Long scheduleId) {
+        Map<Object, Object> entries = queueRedisTemplate.opsForHash().entries(STATE_KEY_PREFIX + scheduleId);
+        Map<Long, SeatStatus> states = new HashMap<>();
+        entries.forEach((seatId, status) ->
+                states.put(Long.parseLong((String) seatId), decodeStatus((String) status)));
+        return states;
+    }
+
+    @Override
+    public boolean compareAndSet(Long scheduleId, Long seatId, SeatStatus expected, SeatStatus target) {
+        Long result = queueRedisTemplate.execute(
+                SeatStateScripts.COMPARE_AND_SET,
+                List.of(STATE_KEY_PREFIX + scheduleId),
+                String.valueOf(seatId),
+                encodeStatus(expected),
+                encodeStatus(target));
+        return result != null && result == 1;
+    }
+
+    @Override
+    public Set<Long> findLoadedScheduleIds() {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(STATE_KEY_PREFIX + "*")
+                .count(SCAN_COUNT)
+                .build();
+
+        Set<Long> scheduleIds = new HashSet<>();
+        try (Cursor<String> cursor = queueRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                if (key.equals(PENDING_KEY) || key.equals(INFLIGHT_KEY)) {
+                    continue;
+                }
+                try {
+                    scheduleIds.add(Long.parseLong(key.substring(STATE_KEY_PREFIX.length())));
+                } catch (NumberFormatException e) {
+                    log.warn("Invalid schedule ID in key: {}", key);
+                }
+            }
+        }
+        return scheduleIds;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<SeatStateChange> pollPendingChanges(int maxCount) {
+        List<String> items = queueRedisTemplate.execute(
+                SeatStateScripts.POLL,
+                List.of(PENDING_KEY, INFLIGHT_KEY),
+                String.valueOf(maxCount),
+                String.valueOf(System.currentTimeMillis()));
+        if (items == null || items.isEmpty()) {
+            return List.of();
+        }
+        return items.stream().map(this::decodeChange).toList();
+    }
+
+    @Override
+    public void acknowledge(List<SeatStateChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>();
+        keys.add(INFLIGHT_KEY);
+        Map<Long, Integer> keyIndexes = new HashMap<>();
+        List<String> args = new ArrayList<>(changes.size() * 3);
+        for (SeatStateChange change : changes) {
+            int keyIndex = keyIndexes.computeIfAbsent(change.scheduleId(), scheduleId -> {
+                keys.add(UNAPPLIED_KEY_PREFIX + scheduleId);
+                return keys.size();
+            });
+            args.add(String.valueOf(keyIndex));
+            args.add(String.valueOf(change.seatId()));
+            args.add(encodeChange(change));
+        }
+        queueRedisTemplate.execute(SeatStateScripts.ACKNOWLEDGE, keys, args.toArray());
+    }
+
+    @Override
+    public void requeue(List<SeatStateChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        queueRedisTemplate.execute(
+                SeatStateScripts.REQUEUE,
+                List.of(PENDING_KEY, INFLIGHT_KEY),
+                changes.stream().map(this::encodeChange).toArray());
+    }
+
+    @Override
+    public int recoverInFlightChanges(long olderThanMillis) {
+        Long recovered = queueRedisTemplate.execute(
+                SeatStateScripts.RECOVER,
+                List.of(PENDING_KEY, INFLIGHT_KEY),
+                String.valueOf(System.currentTimeMillis() - olderThanMillis));
+        return recovered != null ? recovered.intValue() : 0;
+    }
+
+    @Override
+    public Set<Long> findUnappliedSeatIds(Long scheduleId) {
+        Set<Object> seatIds = queueRedisTemplate.opsForHash().keys(UNAPPLIED_KEY_PREFIX + scheduleId);
+        Set<Long> result = new HashSet<>(seatIds.size());
+        for (Object seatId : seatIds) {
+            result.add(Long.parseLong((String) seatId));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean hasUnappliedChange(Long scheduleId, Long seatId) {
+        return Boolean.TRUE.equals(
+                queueRedisTemplate.opsForHash().hasKey(UNAPPLIED_KEY_PREFIX + scheduleId, String.valueOf(seatId)));
+    }
+
+    private static SeatClaim toClaim(Long result) {
+        if (result == null || result < 0) {
+            return SeatClaim.UNKNOWN;
+        }
+        return result == 1 ? SeatClaim.CLAIMED : SeatClaim.TAKEN;
+    }
+
+    /**
+     * seatId1, change1, seatId2, change2, ... 형태의 스크립트 인자
+     */
+    private Object[] changeArgs(Long scheduleId, List<Long> seatIds, SeatStatus expected, SeatStatus target) {
+        List<String> args = new ArrayList<>(seatIds.size() * 2);
+        for (Long seatId : seatIds) {
+            args.add(String.valueOf(seatId));
+            args.add(encodeChange(scheduleId, seatId, expected, target));
+        }
+        return args.toArray();
+    }
+
+    private String encodeChange(Long scheduleId, Long seatId, SeatStatus expected, SeatStatus target) {
+        return encodeChange(new SeatStateChange(scheduleId, seatId, expected, target, System.currentTimeMillis()));
+    }
+
+    private String encodeChange(SeatStateChange change) {
+        return change.scheduleId() + ":" + change.seatId() + ":" + encodeStatus(change.expected()) + ":"
+                + encodeStatus(change.target()) + ":" + change.requestedAtMillis();
+    }
+
+    private SeatStateChange decodeChange(String item) {
+        String[] parts = item.split(":");
+        return new SeatStateChange(
+                Long.parseLong(parts[0]),
+                Long.parseLong(parts[1]),
+                decodeStatus(parts[2]),
+                decodeStatus(parts[3]),
+                Long.parseLong(parts[4]));
+    }
+
+    private static String encodeStatus(SeatStatus status) {
+        return switch (status) {
+            case AVAILABLE -> "A";
+            case TEMP_RESERVED -> "T";
+            case RESERVED -> "R";
+        };
+    }
+
+    private static SeatStatus decodeStatus(String code) {
+        return switch (code) {
+            case "A" -> SeatStatus.AVAILABLE;
+            case "T" -> SeatStatus.TEMP_RESERVED;
+            case "R" -> SeatStatus.RESERVED;
+            default -> throw new IllegalStateException("Unknown seat state code: " + code);
+        };
+    }
+}
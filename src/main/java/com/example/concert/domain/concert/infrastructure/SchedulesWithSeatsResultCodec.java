@@ -0,0 +1,56 @@
+package com.example.concert.domain.concert.infrastructure;
+
+import com.example.concert.common.cache.CacheValueCodec;
+import com.example.concert.domain.concert.service.ConcertService.ScheduleInfo;
+import com.example.concert.domain.concert.service.ConcertService.SchedulesWithSeatsResult;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.concert.common.cache.VarInts.*;
+
+/**
+ * 콘서트 스케줄 캐시(concertSchedules) 코덱 - 스케줄마다 id, 공연일(epoch day), 가용 좌석 수
+ */
+@Component
+public class SchedulesWithSeatsResultCodec implements CacheValueCodec<SchedulesWithSeatsResult> {
+
+    private static final byte TYPE_ID = 2;
+
+    @Override
+    public byte typeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public Class<SchedulesWithSeatsResult> type() {
+        return SchedulesWithSeatsResult.class;
+    }
+
+    @Override
+    public void write(SchedulesWithSeatsResult value, DataOutputStream out) throws IOException {
+        writeVarLong(out, value.concertId());
+        writeVarInt(out, value.schedules().size());
+        for (ScheduleInfo schedule : value.schedules()) {
+            writeVarLong(out, schedule.id());
+            writeZigZag(out, schedule.date().toEpochDay());
+            writeVarInt(out, schedule.availableSeats());
+        }
+    }
+
+    @Override
+    public SchedulesWithSeatsResult read(DataInputStream in) throws IOException {
+        long concertId = readVarLong(in);
+        int size = readVarInt(in);
+        List<ScheduleInfo> schedules = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            schedules.add(new ScheduleInfo(readVarLong(in), LocalDate.ofEpochDay(readZigZag(in)), readVarInt(in)));
+        }
+        return new SchedulesWithSeatsResult(concertId, List.copyOf(schedules));
+    }
+}
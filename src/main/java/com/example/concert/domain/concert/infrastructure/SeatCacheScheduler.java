@@ -0,0 +1,28 @@
+package com.example.concert.domain.concert.infrastructure;
+
+import com.example.concert.domain.concert.service.SeatCacheUpdateBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좌석 캐시 변경 반영 스케줄러
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatCacheScheduler {
+    private final SeatCacheUpdateBuffer seatCacheUpdateBuffer;
+
+    /**
+     * 커밋 후 쌓인 좌석 상태 변경을 스케줄별로 합쳐서 캐시에 반영 (기본 0.1초 - 조회 결과의 최대 추가 지연)
+     */
+    @Scheduled(fixedDelayString = "${cache.seats.flush-interval-ms:100}")
+    public void flushSeatCacheUpdates() {
+        int flushed = seatCacheUpdateBuffer.flush();
+        if (flushed > 0) {
+            log.debug("Seat cache updates flushed: {} schedules", flushed);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.concert.domain.concert.infrastructure;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * 좌석 목록 캐시 Lua 스크립트 모음
+ *
+ * 좌석 항목: "{상태 코드}{좌석 번호}:{가격}" (상태 코드: A = AVAILABLE, T = TEMP_RESERVED, R = RESERVED)
+ */
+final class SeatCacheScripts {
+
+    /**
+     * 적재 - 캐시가 없을 때만 전체 좌석을 쓰고 TTL 설정 (그 사이 적재된 최신 목록을 덮어쓰지 않음)
+     * 최근 상태 변경 기록이 있으면 적재한 항목의 상태 코드에 덧씌움
+     * (DB 조회와 적재 사이에 커밋된 변경이 TTL 동안 사라지지 않도록)
+     *
+     * KEYS[1] = seat:cache:{scheduleId}, KEYS[2] = seat:cache:recent:{scheduleId}
+     * ARGV = ttlMillis, seatId1, entry1, seatId2, entry2, ...
+     * 반환: 최근 상태 변경 기록 { seatId1, 상태 코드1, ... } (호출측 스냅샷에도 같은 변경을 반영)
+     */
+    static final RedisScript<List> LOAD = new DefaultRedisScript<>("""
+            local recent = redis.call('HGETALL', KEYS[2])
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return recent
+            end
+            for i = 2, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            for i = 1, #recent, 2 do
+                local entry = redis.call('HGET', KEYS[1], recent[i])
+                if entry then
+                    redis.call('HSET', KEYS[1], recent[i], recent[i + 1] .. string.sub(entry, 2))
+                end
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return recent
+            """, List.class);
+
+    /**
+     * 상태 변경 - 캐시된 좌석 항목의 상태 코드만 교체하고, 바뀐 좌석을 다른 인스턴스에 발행
+     * (같은 스크립트에서 발행하므로 수신 순서가 Redis 반영 순서와 같음)
+     * 캐시 유무와 관계없이 최근 상태 변경 기록에 좌석별 마지막 상태를 남겨, 진행 중인 적재가 반영하도록 함
+     *
+     * KEYS[1] = seat:cache:{scheduleId}, KEYS[2] = seat:cache:recent:{scheduleId}
+     * ARGV = 상태 코드, 발행 채널, 발행 메시지, 기록 ttlMillis, seatId1, seatId2, ...
+     * 반환: 변경된 캐시 항목 수
+     */
+    static final RedisScript<Long> UPDATE_STATUS = new DefaultRedisScript<>("""
+            local updated = 0
+            for i = 5, #ARGV do
+                redis.call('HSET', KEYS[2], ARGV[i], ARGV[1])
+                local entry = redis.call('HGET', KEYS[1], ARGV[i])
+                if entry then
+                    redis.call('HSET', KEYS[1], ARGV[i], ARGV[1] .. string.sub(entry, 2))
+                    updated = updated + 1
+                end
+            end
+            redis.call('PEXPIRE', KEYS[2], ARGV[4])
+            if updated > 0 then
+                redis.call('PUBLISH', ARGV[2], ARGV[3])
+            end
+            return updated
+            """, Long.class);
+
+    private SeatCacheScripts() {
+    }
+}
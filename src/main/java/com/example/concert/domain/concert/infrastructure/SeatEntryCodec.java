@@ -0,0 +1,52 @@
+package com.example.concert.domain.concert.infrastructure;
+
+import com.example.concert.domain.concert.entity.Seat;
+import com.example.concert.domain.concert.entity.SeatStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * 좌석 캐시 항목 코덱 (seat:cache:{scheduleId} HASH의 좌석별 값)
+ *
+ * 형식: "{상태 코드}{좌석 번호}:{가격}" (상태 코드: A = AVAILABLE, T = TEMP_RESERVED, R = RESERVED)
+ * 상태 코드가 항상 첫 글자이므로 상태 변경은 Lua에서 첫 글자만 교체합니다 (SeatCacheScripts).
+ */
+final class SeatEntryCodec {
+
+    static String encode(Seat seat) {
+        return encodeStatus(seat.getStatus()) + seat.getSeatNumber() + ":" + seat.getPrice().toPlainString();
+    }
+
+    static Seat decode(Long scheduleId, String seatId, String entry) {
+        int separator = entry.indexOf(':');
+        return new Seat(
+                Long.parseLong(seatId),
+                scheduleId,
+                Integer.parseInt(entry.substring(1, separator)),
+                new BigDecimal(entry.substring(separator + 1)),
+                decodeStatus(entry.substring(0, 1)),
+                null,
+                null,
+                null);
+    }
+
+    static String encodeStatus(SeatStatus status) {
+        return switch (status) {
+            case AVAILABLE -> "A";
+            case TEMP_RESERVED -> "T";
+            case RESERVED -> "R";
+        };
+    }
+
+    static SeatStatus decodeStatus(String code) {
+        return switch (code) {
+            case "A" -> SeatStatus.AVAILABLE;
+            case "T" -> SeatStatus.TEMP_RESERVED;
+            case "R" -> SeatStatus.RESERVED;
+            default -> throw new IllegalStateException("Unknown seat state code: " + code);
+        };
+    }
+
+    private SeatEntryCodec() {
+    }
+}
@@ -36,6 +36,12 @@ public class SeatJpaEntity {
     @Version
     private Long version;
 
+    /**
+     * 마지막으로 반영된 분산 락 펜싱 토큰 (더 작은 토큰의 쓰기는 거절)
+     */
+    @Column(name = "fence_token")
+    private Long fenceToken;
+
     @CreatedDate
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -88,6 +94,10 @@ public class SeatJpaEntity {
         return version;
     }
 
+    public Long getFenceToken() {
+        return fenceToken;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -4,9 +4,11 @@ import com.example.concert.domain.concert.entity.SeatStatus;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,4 +29,41 @@ public interface SeatJpaRepository extends JpaRepository<SeatJpaEntity, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT s FROM SeatJpaEntity s WHERE s.id = :id")
     Optional<SeatJpaEntity> findByIdWithLock(@Param("id") Long id);
+
+    /**
+     * 현재 상태가 expected일 때만 상태를 변경 (조건부 UPDATE, 선조회 없음)
+     * - 벌크 UPDATE는 @Version/감사 필드를 갱신하지 않으므로 직접 증가/기록
+     */
+    @Modifying
+    @Query("UPDATE SeatJpaEntity s SET s.status = :target, s.version = COALESCE(s.version, 0) + 1, "
+            + "s.updatedAt = :now WHERE s.id = :id AND s.status = :expected")
+    int updateStatusIfMatches(@Param("id") Long id,
+            @Param("expected") SeatStatus expected,
+            @Param("target") SeatStatus target,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * 여러 좌석을 한 번에 조건부 변경 (상태가 expected인 행만 변경, 영향받은 행 수 반환)
+     */
+    @Modifying
+    @Query("UPDATE SeatJpaEntity s SET s.status = :target, s.version = COALESCE(s.version, 0) + 1, "
+            + "s.updatedAt = :now WHERE s.id IN :ids AND s.status = :expected")
+    int updateStatusIfMatches(@Param("ids") List<Long> ids,
+            @Param("expected") SeatStatus expected,
+            @Param("target") SeatStatus target,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * 펜싱 토큰 검증 UPDATE - 저장된 토큰보다 큰 토큰의 쓰기만 반영
+     * - 같은 트랜잭션에서 먼저 조회한 엔티티가 갱신 전 상태로 남지 않도록 영속성 컨텍스트를 비움
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SeatJpaEntity s SET s.status = :target, s.fenceToken = :fence, "
+            + "s.version = COALESCE(s.version, 0) + 1, s.updatedAt = :now "
+            + "WHERE s.id IN :ids AND s.status = :expected AND (s.fenceToken IS NULL OR s.fenceToken < :fence)")
+    int updateStatusIfFenced(@Param("ids") List<Long> ids,
+            @Param("expected") SeatStatus expected,
+            @Param("target") SeatStatus target,
+            @Param("fence") long fence,
+            @Param("now") LocalDateTime now);
 }
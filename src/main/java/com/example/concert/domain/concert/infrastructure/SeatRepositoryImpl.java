@@ -5,7 +5,9 @@ import com.example.concert.domain.concert.entity.SeatStatus;
 import com.example.concert.domain.concert.repository.SeatRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,6 +41,13 @@ public class SeatRepositoryImpl implements SeatRepository {
                 .map(SeatMapper::toDomain);
     }
 
+    @Override
+    public List<Seat> findAllByIds(List<Long> seatIds) {
+        return jpaRepository.findAllById(seatIds).stream()
+                .map(SeatMapper::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<Seat> findByIdWithLock(Long seatId) {
         return jpaRepository.findByIdWithLock(seatId)
@@ -53,4 +62,20 @@ public class SeatRepositoryImpl implements SeatRepository {
         SeatJpaEntity saved = jpaRepository.save(entity);
         return SeatMapper.toDomain(saved);
     }
+
+    @Override
+    @Transactional
+    public boolean updateStatusIfMatches(Long seatId, SeatStatus expected, SeatStatus target) {
+        return jpaRepository.updateStatusIfMatches(seatId, expected, target, LocalDateTime.now()) == 1;
+    }
+
+    @Override
+    public int updateStatusIfMatches(List<Long> seatIds, SeatStatus expected, SeatStatus target) {
+        return jpaRepository.updateStatusIfMatches(seatIds, expected, target, LocalDateTime.now());
+    }
+
+    @Override
+    public int updateStatusIfFenced(List<Long> seatIds, SeatStatus expected, SeatStatus target, long fenceToken) {
+        return jpaRepository.updateStatusIfFenced(seatIds, expected, target, fenceToken, LocalDateTime.now());
+    }
 }
@@ -0,0 +1,200 @@
+package com.example.concert.domain.concert.infrastructure;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * 좌석 상태 Lua 스크립트 모음
+ *
+ * 좌석 상태 코드: A = AVAILABLE, T = TEMP_RESERVED, R = RESERVED
+ * 변경 항목: "{scheduleId}:{seatId}:{expected}:{target}:{requestedAtMillis}"
+ * 미반영 색인: 대기열에 기록할 때 좌석별 건수를 늘리고, 반영을 확인(acknowledge)할 때 줄이며 0이면 제거
+ */
+final class SeatStateScripts {
+
+    /**
+     * 좌석 선점 - 상태 확인과 변경, write-behind 대기열 기록을 한 번에 수행
+     *
+     * KEYS[1] = seat:state:{scheduleId}, KEYS[2] = seat:state:pending, KEYS[3] = seat:unapplied:{scheduleId}
+     * ARGV = seatId, change
+     * 반환: 1 = 선점, 0 = 이미 선점됨, -1 = 적재되지 않음
+     */
+    static final RedisScript<Long> CLAIM = new DefaultRedisScript<>("""
+            local state = redis.call('HGET', KEYS[1], ARGV[1])
+            if not state then
+                return -1
+            end
+            if state ~= 'A' then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], 'T')
+            redis.call('RPUSH', KEYS[2], ARGV[2])
+            redis.call('HINCRBY', KEYS[3], ARGV[1], 1)
+            return 1
+            """, Long.class);
+
+    /**
+     * 여러 좌석 선점 - 모두 AVAILABLE일 때만 전부 선점 (전부 성공하거나 아무것도 바꾸지 않음)
+     *
+     * KEYS[1] = seat:state:{scheduleId}, KEYS[2] = seat:state:pending, KEYS[3] = seat:unapplied:{scheduleId}
+     * ARGV = seatId1, change1, seatId2, change2, ...
+     * 반환: 1 = 선점, 0 = 하나 이상 이미 선점됨, -1 = 하나 이상 적재되지 않음
+     */
+    static final RedisScript<Long> CLAIM_ALL = new DefaultRedisScript<>("""
+            local taken = false
+            for i = 1, #ARGV, 2 do
+                local state = redis.call('HGET', KEYS[1], ARGV[i])
+                if not state then
+                    return -1
+                end
+                if state ~= 'A' then
+                    taken = true
+                end
+            end
+            if taken then
+                return 0
+            end
+            for i = 1, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], 'T')
+                redis.call('RPUSH', KEYS[2], ARGV[i + 1])
+                redis.call('HINCRBY', KEYS[3], ARGV[i], 1)
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * 선점 취소 - 선점 상태일 때만 되돌리고 DB 반영분을 되돌리는 변경을 기록
+     *
+     * KEYS[1] = seat:state:{scheduleId}, KEYS[2] = seat:state:pending, KEYS[3] = seat:unapplied:{scheduleId}
+     * ARGV = seatId1, change1, seatId2, change2, ...
+     */
+    static final RedisScript<Long> CANCEL_CLAIM = new DefaultRedisScript<>("""
+            local cancelled = 0
+            for i = 1, #ARGV, 2 do
+                if redis.call('HGET', KEYS[1], ARGV[i]) == 'T' then
+                    redis.call('HSET', KEYS[1], ARGV[i], 'A')
+                    redis.call('RPUSH', KEYS[2], ARGV[i + 1])
+                    redis.call('HINCRBY', KEYS[3], ARGV[i], 1)
+                    cancelled = cancelled + 1
+                end
+            end
+            return cancelled
+            """, Long.class);
+
+    /**
+     * 좌석 해제 - 현재 상태가 예상한 선점 상태(T 또는 R)일 때만 AVAILABLE로 표시
+     * (적재되지 않은 스케줄이나 그 사이 다른 상태로 바뀐 좌석은 건드리지 않음)
+     *
+     * KEYS[1] = seat:state:{scheduleId}
+     * ARGV = seatId, expected
+     */
+    static final RedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], ARGV[1]) ~= ARGV[2] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], 'A')
+            return 1
+            """, Long.class);
+
+    /**
+     * 적재 - 없는 좌석만 채움 (HSETNX)
+     *
+     * KEYS[1] = seat:state:{scheduleId}
+     * ARGV = seatId1, state1, seatId2, state2, ...
+     */
+    static final RedisScript<Long> LOAD = new DefaultRedisScript<>("""
+            local added = 0
+            for i = 1, #ARGV, 2 do
+                added = added + redis.call('HSETNX', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            return added
+            """, Long.class);
+
+    /**
+     * KEYS[1] = seat:state:{scheduleId}
+     * ARGV = seatId, expected, target
+     */
+    static final RedisScript<Long> COMPARE_AND_SET = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], ARGV[1]) ~= ARGV[2] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * 대기열 앞에서 최대 N개를 꺼내 처리 중 ZSET(score = 꺼낸 시각)으로 옮김
+     *
+     * KEYS[1] = seat:state:pending, KEYS[2] = seat:state:inflight
+     * ARGV = maxCount, now
+     */
+    static final RedisScript<List> POLL = new DefaultRedisScript<>("""
+            local items = redis.call('LRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1)
+            if #items == 0 then
+                return items
+            end
+            redis.call('LTRIM', KEYS[1], #items, -1)
+            for _, item in ipairs(items) do
+                redis.call('ZADD', KEYS[2], ARGV[2], item)
+            end
+            return items
+            """, List.class);
+
+    /**
+     * 반영이 끝난 변경을 처리 중에서 제거하고 미반영 색인의 좌석 건수를 줄임
+     * (그 사이 복구되어 처리 중에 없는 변경은 다시 반영되므로 건수를 유지)
+     *
+     * KEYS[1] = seat:state:inflight, KEYS[2..] = seat:unapplied:{scheduleId}
+     * ARGV = keyIndex1, seatId1, change1, keyIndex2, seatId2, change2, ...
+     */
+    static final RedisScript<Long> ACKNOWLEDGE = new DefaultRedisScript<>("""
+            local acknowledged = 0
+            for i = 1, #ARGV, 3 do
+                if redis.call('ZREM', KEYS[1], ARGV[i + 2]) == 1 then
+                    local key = KEYS[tonumber(ARGV[i])]
+                    if redis.call('HINCRBY', key, ARGV[i + 1], -1) <= 0 then
+                        redis.call('HDEL', key, ARGV[i + 1])
+                    end
+                    acknowledged = acknowledged + 1
+                end
+            end
+            return acknowledged
+            """, Long.class);
+
+    /**
+     * 오래 처리 중인 변경을 원래 순서대로 대기열 앞에 되돌림
+     *
+     * KEYS[1] = seat:state:pending, KEYS[2] = seat:state:inflight
+     * ARGV = 기준 시각 (이 시각 이전에 꺼낸 변경)
+     */
+    static final RedisScript<Long> RECOVER = new DefaultRedisScript<>("""
+            local items = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1])
+            for i = #items, 1, -1 do
+                redis.call('LPUSH', KEYS[1], items[i])
+                redis.call('ZREM', KEYS[2], items[i])
+            end
+            return #items
+            """, Long.class);
+
+    /**
+     * 반영에 실패한 변경을 원래 순서대로 대기열 앞에 되돌림 (아직 처리 중인 변경만 - 이미 복구된 변경은 중복 추가하지 않음)
+     *
+     * KEYS[1] = seat:state:pending, KEYS[2] = seat:state:inflight
+     * ARGV = 변경1, 변경2, ... (꺼낸 순서)
+     */
+    static final RedisScript<Long> REQUEUE = new DefaultRedisScript<>("""
+            local requeued = 0
+            for i = #ARGV, 1, -1 do
+                if redis.call('ZREM', KEYS[2], ARGV[i]) == 1 then
+                    redis.call('LPUSH', KEYS[1], ARGV[i])
+                    requeued = requeued + 1
+                end
+            end
+            return requeued
+            """, Long.class);
+
+    private SeatStateScripts() {
+    }
+}
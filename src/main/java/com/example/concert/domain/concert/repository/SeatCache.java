@@ -0,0 +1,33 @@
+package com.example.concert.domain.concert.repository;
+
+import com.example.concert.domain.concert.entity.Seat;
+import com.example.concert.domain.concert.entity.SeatStatus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 스케줄별 좌석 목록 캐시 (좌석 단위 갱신)
+ *
+ * 예약/확정/만료로 바뀐 좌석은 목록 전체를 다시 읽지 않고 해당 좌석 항목만 갱신합니다.
+ * 반환된 Seat은 캐시가 공유하는 읽기 전용 객체이므로 상태를 바꾸지 않습니다.
+ */
+public interface SeatCache {
+
+    /**
+     * 캐시된 좌석 목록, 없으면 loader로 읽어 적재 (같은 스케줄의 동시 적재는 한 번으로 모음)
+     */
+    List<Seat> get(Long scheduleId, Function<Long, List<Seat>> loader);
+
+    /**
+     * 캐시된 좌석들의 상태만 조회 (목록 전체를 만들지 않음)
+     * 캐시되지 않은 스케줄/좌석은 결과에 포함하지 않으며 DB에서 적재하지 않음
+     */
+    Map<Long, SeatStatus> findStatuses(Long scheduleId, List<Long> seatIds);
+
+    /**
+     * 캐시된 좌석의 상태만 변경 (스케줄이 캐시되지 않았으면 무시 - 다음 조회 시 DB에서 적재)
+     */
+    void updateStatus(Long scheduleId, List<Long> seatIds, SeatStatus status);
+}
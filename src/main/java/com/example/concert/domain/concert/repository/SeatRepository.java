@@ -15,6 +15,8 @@ public interface SeatRepository {
 
     Optional<Seat> findById(Long seatId);
 
+    List<Seat> findAllByIds(List<Long> seatIds);
+
     /**
      * @deprecated Redis 분산 락으로 대체됨. findById 사용 권장.
      */
@@ -22,4 +24,20 @@ public interface SeatRepository {
     Optional<Seat> findByIdWithLock(Long seatId);
 
     Seat save(Seat seat);
+
+    /**
+     * 좌석 상태가 expected일 때만 target으로 변경하고 변경 여부를 반환 (UPDATE 1회)
+     */
+    boolean updateStatusIfMatches(Long seatId, SeatStatus expected, SeatStatus target);
+
+    /**
+     * 여러 좌석 중 상태가 expected인 좌석만 target으로 변경하고 변경된 좌석 수를 반환 (UPDATE 1회)
+     */
+    int updateStatusIfMatches(List<Long> seatIds, SeatStatus expected, SeatStatus target);
+
+    /**
+     * 펜싱 토큰을 검증하며 상태 변경 - 상태가 expected이고 좌석에 기록된 토큰보다 fenceToken이 클 때만 변경
+     * (변경된 좌석 수 반환)
+     */
+    int updateStatusIfFenced(List<Long> seatIds, SeatStatus expected, SeatStatus target, long fenceToken);
 }
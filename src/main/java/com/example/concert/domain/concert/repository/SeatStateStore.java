@@ -0,0 +1,94 @@
+package com.example.concert.domain.concert.repository;
+
+import com.example.concert.domain.concert.entity.SeatStatus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 스케줄별 좌석 상태 저장소 (예약 선점용, DB보다 먼저 확인)
+ *
+ * 선점은 저장소 안에서 원자적으로 이루어지며, 선점/취소로 바뀐 상태는 변경 대기열에 함께 기록되어
+ * 비동기로 seats 테이블에 반영(write-behind)됩니다.
+ */
+public interface SeatStateStore {
+
+    /**
+     * AVAILABLE인 좌석을 TEMP_RESERVED로 선점하고 변경을 대기열에 기록
+     */
+    SeatClaim claim(Long scheduleId, Long seatId);
+
+    /**
+     * 여러 좌석을 전부 선점하거나 하나도 선점하지 않음 (하나라도 적재되지 않았으면 UNKNOWN, 선점된 좌석이 있으면 TAKEN)
+     */
+    SeatClaim claimAll(Long scheduleId, List<Long> seatIds);
+
+    /**
+     * 선점 후 예약 생성에 실패했을 때 선점을 되돌림 (DB 반영분도 되돌리도록 대기열에 기록)
+     */
+    void cancelClaim(Long scheduleId, Long seatId);
+
+    void cancelClaims(Long scheduleId, List<Long> seatIds);
+
+    /**
+     * DB에서 이미 해제된 좌석을 AVAILABLE로 표시 - 현재 상태가 expected(TEMP_RESERVED 또는 RESERVED)일 때만
+     * (스케줄 상태가 적재되지 않았거나 그 사이 상태가 바뀌었으면 무시)
+     */
+    boolean release(Long scheduleId, Long seatId, SeatStatus expected);
+
+    /**
+     * 아직 적재되지 않은 좌석만 주어진 상태로 채움 (이미 있는 선점 상태는 덮어쓰지 않음)
+     */
+    void load(Long scheduleId, Map<Long, SeatStatus> statuses);
+
+    Map<Long, SeatStatus> findStates(Long scheduleId);
+
+    /**
+     * 현재 상태가 expected일 때만 target으로 변경
+     */
+    boolean compareAndSet(Long scheduleId, Long seatId, SeatStatus expected, SeatStatus target);
+
+    Set<Long> findLoadedScheduleIds();
+
+    /**
+     * 변경 대기열에서 최대 maxCount개를 꺼내 처리 중으로 표시 (acknowledge 전까지 보관)
+     */
+    List<SeatStateChange> pollPendingChanges(int maxCount);
+
+    void acknowledge(List<SeatStateChange> changes);
+
+    /**
+     * 반영에 실패한 변경을 처리 중에서 대기열 앞으로 되돌림 (다음 flush에서 같은 순서로 재시도)
+     */
+    void requeue(List<SeatStateChange> changes);
+
+    /**
+     * olderThanMillis보다 오래 처리 중인 변경을 대기열 앞으로 되돌림 (반영 도중 종료된 인스턴스 복구)
+     */
+    int recoverInFlightChanges(long olderThanMillis);
+
+    /**
+     * 대기열 또는 처리 중에 남아 있는 변경의 좌석 ID 목록 (스케줄별 색인 조회, 대기열 전체를 읽지 않음)
+     */
+    Set<Long> findUnappliedSeatIds(Long scheduleId);
+
+    /**
+     * 좌석에 대기열 또는 처리 중에 남아 있는 변경이 있는지
+     */
+    boolean hasUnappliedChange(Long scheduleId, Long seatId);
+
+    enum SeatClaim {
+        CLAIMED,
+        TAKEN,
+        /** 스케줄 좌석 상태가 적재되지 않았거나 스케줄에 없는 좌석 */
+        UNKNOWN
+    }
+
+    /**
+     * seats 테이블에 반영할 상태 변경 (expected일 때만 target으로)
+     */
+    record SeatStateChange(Long scheduleId, Long seatId, SeatStatus expected, SeatStatus target,
+            long requestedAtMillis) {
+    }
+}
@@ -4,18 +4,23 @@ import com.example.concert.domain.concert.entity.ConcertSchedule;
 import com.example.concert.domain.concert.entity.Seat;
 import com.example.concert.domain.concert.entity.SeatStatus;
 import com.example.concert.domain.concert.repository.ConcertScheduleRepository;
+import com.example.concert.domain.concert.repository.SeatCache;
 import com.example.concert.domain.concert.repository.SeatRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 콘서트 조회 서비스 (캐싱 적용)
@@ -29,6 +34,8 @@ public class ConcertService {
 
     private final ConcertScheduleRepository concertScheduleRepository;
     private final SeatRepository seatRepository;
+    private final SeatCache seatCache;
+    private final SeatCacheUpdateBuffer seatCacheUpdateBuffer;
 
     /**
      * 콘서트 스케줄 및 가용 좌석 수 조회 (캐시 적용)
@@ -52,17 +59,21 @@ public class ConcertService {
 
     /**
      * 좌석 목록 조회 (캐시 적용)
-     * - 상태 필터 없이 전체 조회 시에만 캐싱 (필터 있으면 캐시 키가 복잡해지므로)
+     * - 상태 필터 유무와 관계없이 스케줄 전체 좌석 캐시 하나를 공유하고, 필터는 메모리에서 적용 (필터 조회도 DB 미사용)
+     * - 같은 스케줄의 동시 캐시 미스는 한 번만 DB 조회 (Cache Stampede 방지)
+     * - 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션을 새로 열지 않음 (DB 조회는 Repository 트랜잭션)
      */
-    @Cacheable(value = "seats", key = "#scheduleId", sync = true, condition = "#statuses == null || #statuses.isEmpty()")
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public SeatsResult getSeats(Long scheduleId, List<SeatStatus> statuses) {
-        log.debug("Cache miss - fetching seats from DB for scheduleId: {}", scheduleId);
-
-        List<Seat> seats;
-        if (statuses == null || statuses.isEmpty()) {
-            seats = seatRepository.findAllByScheduleId(scheduleId);
-        } else {
-            seats = seatRepository.findAllByScheduleIdAndStatusIn(scheduleId, statuses);
+        List<Seat> seats = seatCache.get(scheduleId, id -> {
+            log.debug("Cache miss - fetching seats from DB for scheduleId: {}", id);
+            return seatRepository.findAllByScheduleId(id);
+        });
+        if (statuses != null && !statuses.isEmpty()) {
+            Set<SeatStatus> filter = EnumSet.copyOf(statuses);
+            seats = seats.stream()
+                    .filter(seat -> filter.contains(seat.getStatus()))
+                    .toList();
         }
 
         List<SeatInfo> seatInfos = seats.stream()
@@ -77,28 +88,28 @@ public class ConcertService {
     }
 
     /**
-     * 좌석 캐시 갱신 (Write-Through)
-     * - 예약 성공 후 호출하여 캐시를 최신 상태로 갱신
-     * - Cache Eviction 대신 사용하여 Stampede 방지
+     * 좌석 캐시 갱신 (좌석 단위)
+     * - 예약/확정/만료로 상태가 바뀐 좌석 항목만 교체 (스케줄 전체 재조회 없음)
+     * - 트랜잭션 안에서 호출되면 커밋 후에 버퍼에 적재 (롤백되면 반영하지 않음, 락/커넥션 보유 시간에 포함되지 않음)
+     * - 버퍼는 짧은 주기로 스케줄별로 합쳐서 반영 (SeatCacheUpdateBuffer)
+     * - 캐시되지 않은 스케줄은 무시 - 다음 조회 시 DB에서 적재
      */
-    @CachePut(value = "seats", key = "#scheduleId")
-    public SeatsResult refreshSeatsCache(Long scheduleId) {
-        log.debug("Refreshing seats cache for scheduleId: {}", scheduleId);
-
-        List<Seat> seats = seatRepository.findAllByScheduleId(scheduleId);
-
-        List<SeatInfo> seatInfos = seats.stream()
-                .map(seat -> new SeatInfo(
-                        seat.getId(),
-                        seat.getSeatNumber(),
-                        seat.getStatus(),
-                        seat.getPrice()))
-                .toList();
-
-        return new SeatsResult(scheduleId, seatInfos);
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void updateSeatsCache(Long scheduleId, List<Long> seatIds, SeatStatus status) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            seatCacheUpdateBuffer.add(scheduleId, seatIds, status);
+            return;
+        }
+        List<Long> committedSeatIds = List.copyOf(seatIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                seatCacheUpdateBuffer.add(scheduleId, committedSeatIds, status);
+            }
+        });
     }
 
-    // DTO Records (Serializable for Redis JDK serialization)
+    // DTO Records (캐시 저장은 SchedulesWithSeatsResultCodec, Serializable은 이전 JDK 직렬화 항목 호환용)
     public record ScheduleInfo(Long id, LocalDate date, int availableSeats) implements Serializable {
     }
 
@@ -0,0 +1,65 @@
+package com.example.concert.domain.concert.service;
+
+import com.example.concert.domain.concert.entity.SeatStatus;
+import com.example.concert.domain.concert.repository.SeatCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좌석 캐시 변경 모음 버퍼 (커밋된 변경만 쌓임)
+ * - 같은 스케줄의 변경은 flush 주기 동안 좌석별 마지막 상태로 합쳐짐
+ * - flush 시 스케줄마다 상태별 SeatCache.updateStatus 1회 (동시 예약이 몰려도 Redis 호출 수는 스케줄 수에 비례)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatCacheUpdateBuffer {
+
+    private final SeatCache seatCache;
+    private final ConcurrentHashMap<Long, Map<Long, SeatStatus>> pending = new ConcurrentHashMap<>();
+
+    public void add(Long scheduleId, List<Long> seatIds, SeatStatus status) {
+        if (seatIds.isEmpty()) {
+            return;
+        }
+        // compute 안에서만 변경 → flush의 remove와 겹치지 않음
+        pending.compute(scheduleId, (id, seats) -> {
+            Map<Long, SeatStatus> merged = seats != null ? seats : new LinkedHashMap<>();
+            seatIds.forEach(seatId -> merged.put(seatId, status));
+            return merged;
+        });
+    }
+
+    /**
+     * 쌓인 변경을 캐시에 반영
+     * @return 반영한 스케줄 수
+     */
+    public int flush() {
+        int flushed = 0;
+        for (Long scheduleId : pending.keySet()) {
+            Map<Long, SeatStatus> seats = pending.remove(scheduleId);
+            if (seats == null) {
+                continue;
+            }
+
+            Map<SeatStatus, List<Long>> byStatus = new EnumMap<>(SeatStatus.class);
+            seats.forEach((seatId, status) -> byStatus.computeIfAbsent(status, s -> new ArrayList<>()).add(seatId));
+            try {
+                byStatus.forEach((status, seatIds) -> seatCache.updateStatus(scheduleId, seatIds, status));
+                flushed++;
+            } catch (RuntimeException e) {
+                // 캐시 반영 실패는 TTL 만료 후 DB 재적재로 복구 - 다른 스케줄 반영은 계속
+                log.warn("Failed to apply seat cache updates: scheduleId={}", scheduleId, e);
+            }
+        }
+        return flushed;
+    }
+}
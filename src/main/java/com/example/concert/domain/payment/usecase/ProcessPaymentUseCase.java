@@ -1,21 +1,29 @@
 package com.example.concert.domain.payment.usecase;
 
 import com.example.concert.domain.concert.entity.Seat;
+import com.example.concert.domain.concert.entity.SeatStatus;
 import com.example.concert.domain.concert.repository.SeatRepository;
+import com.example.concert.domain.concert.repository.SeatStateStore;
+import com.example.concert.domain.concert.service.ConcertService;
 import com.example.concert.domain.payment.entity.Payment;
 import com.example.concert.domain.payment.event.PaymentCompletedEvent;
 import com.example.concert.domain.payment.event.PaymentEventPublisher;
 import com.example.concert.domain.payment.repository.PaymentRepository;
 import com.example.concert.domain.point.usecase.UsePointUseCase;
+import com.example.concert.domain.queue.entity.QueueToken;
 import com.example.concert.domain.queue.usecase.ValidateTokenUseCase;
 import com.example.concert.domain.reservation.entity.Reservation;
 import com.example.concert.domain.reservation.repository.ReservationRepository;
-import lombok.RequiredArgsConstructor;
+import com.example.concert.domain.reservation.usecase.SeatReservationStrategy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 예약 결제 처리 UseCase (Facade)
@@ -31,19 +39,42 @@ import java.time.LocalDateTime;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ProcessPaymentUseCase {
         private final ValidateTokenUseCase validateTokenUseCase;
         private final ReservationRepository reservationRepository;
         private final SeatRepository seatRepository;
+        private final SeatStateStore seatStateStore;
+        private final ConcertService concertService;
         private final UsePointUseCase usePointUseCase;
         private final PaymentRepository paymentRepository;
         private final PaymentEventPublisher paymentEventPublisher;
+        private final SeatReservationStrategy strategy;
+
+        public ProcessPaymentUseCase(
+                        ValidateTokenUseCase validateTokenUseCase,
+                        ReservationRepository reservationRepository,
+                        SeatRepository seatRepository,
+                        SeatStateStore seatStateStore,
+                        ConcertService concertService,
+                        UsePointUseCase usePointUseCase,
+                        PaymentRepository paymentRepository,
+                        PaymentEventPublisher paymentEventPublisher,
+                        @Value("${reservation.seat.strategy:DISTRIBUTED_LOCK}") SeatReservationStrategy strategy) {
+                this.validateTokenUseCase = validateTokenUseCase;
+                this.reservationRepository = reservationRepository;
+                this.seatRepository = seatRepository;
+                this.seatStateStore = seatStateStore;
+                this.concertService = concertService;
+                this.usePointUseCase = usePointUseCase;
+                this.paymentRepository = paymentRepository;
+                this.paymentEventPublisher = paymentEventPublisher;
+                this.strategy = strategy;
+        }
 
         @Transactional
         public PaymentResult execute(String token, Long userId, Long reservationId) {
                 // 1. 대기열 토큰 검증 (유효성만 확인, 만료는 이벤트로 비동기 처리)
-                validateTokenUseCase.execute(token);
+                QueueToken queueToken = validateTokenUseCase.execute(token);
 
                 // 2. 예약 조회 및 검증 (비관적 락으로 중복 결제 방지)
                 Reservation reservation = reservationRepository.findByIdWithLock(reservationId)
@@ -69,16 +100,21 @@ public class ProcessPaymentUseCase {
                 reservation.confirm();
                 reservationRepository.save(reservation);
 
-                // 7. 좌석 확정 (TEMP_RESERVED -> RESERVED)
+                // 7. 좌석 확정 (TEMP_RESERVED -> RESERVED, 그 외 상태는 confirm()이 예외)
+                if (isClaimNotYetWritten(seat)) {
+                        seat.reserve();
+                }
                 seat.confirm();
                 seatRepository.save(seat);
+                confirmSeatStateAfterCommit(seat);
+                concertService.updateSeatsCache(seat.getScheduleId(), List.of(seat.getId()), SeatStatus.RESERVED);
 
                 // 8. 결제 완료 이벤트 발행 (토큰 만료는 Consumer에서 비동기 처리)
                 paymentEventPublisher.publishPaymentCompleted(new PaymentCompletedEvent(
                                 savedPayment.getId(),
                                 reservationId,
                                 userId,
-                                token,
+                                queueToken.getToken(), // 서명 토큰이어도 원본 토큰 ID로 만료 처리
                                 seat.getPrice(),
                                 savedPayment.getCreatedAt()));
 
@@ -92,6 +128,48 @@ public class ProcessPaymentUseCase {
                                 savedPayment.getCreatedAt());
         }
 
+        /**
+         * REDIS_CLAIM 방식에서만 Redis 좌석 상태를 TEMP_RESERVED → RESERVED로 변경 (다른 방식은 좌석 상태를 적재하지 않음)
+         * 트랜잭션이 롤백되면 DB 좌석은 선점 상태로 남으므로 커밋된 뒤에만 변경
+         * (커밋 후 변경에 실패한 좌석은 SyncSeatStateUseCase.reconcile이 DB 기준으로 보정)
+         */
+        private void confirmSeatStateAfterCommit(Seat seat) {
+                if (strategy != SeatReservationStrategy.REDIS_CLAIM) {
+                        return;
+                }
+                Long scheduleId = seat.getScheduleId();
+                Long seatId = seat.getId();
+                if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                        confirmSeatState(scheduleId, seatId);
+                        return;
+                }
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                                confirmSeatState(scheduleId, seatId);
+                        }
+                });
+        }
+
+        private void confirmSeatState(Long scheduleId, Long seatId) {
+                try {
+                        seatStateStore.compareAndSet(scheduleId, seatId, SeatStatus.TEMP_RESERVED, SeatStatus.RESERVED);
+                } catch (RuntimeException e) {
+                        log.warn("Failed to confirm seat state: scheduleId={}, seatId={}", scheduleId, seatId, e);
+                }
+        }
+
+        /**
+         * REDIS_CLAIM 방식에서 선점(TEMP_RESERVED)이 아직 write-behind 대기열에 있어 seats 테이블이 AVAILABLE인 경우
+         * (대기 중인 예약을 잠갔고 대기열에 해당 좌석 변경이 남아 있으므로 좌석 점유는 보장됨)
+         * 다른 방식이거나 대기열에 변경이 없으면 false → AVAILABLE 좌석 확정은 confirm()에서 거절
+         */
+        private boolean isClaimNotYetWritten(Seat seat) {
+                return strategy == SeatReservationStrategy.REDIS_CLAIM
+                                && seat.isAvailable()
+                                && seatStateStore.hasUnappliedChange(seat.getScheduleId(), seat.getId());
+        }
+
         public record PaymentResult(
                         Long paymentId,
                         String status,
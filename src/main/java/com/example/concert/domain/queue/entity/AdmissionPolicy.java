@@ -0,0 +1,22 @@
+package com.example.concert.domain.queue.entity;
+
+/**
+ * 콘서트별 입장(활성화) 정책
+ *
+ * 활성 토큰 상한과 함께 토큰 버킷(초당 ratePerSecond개 충전, 최대 burst개 적립)으로
+ * 입장 속도를 제한하여 예약 경로에 트래픽이 한꺼번에 몰리지 않도록 합니다.
+ */
+public record AdmissionPolicy(int maxActiveTokens, double ratePerSecond, int burst) {
+
+    public AdmissionPolicy {
+        if (maxActiveTokens <= 0) {
+            throw new IllegalArgumentException("maxActiveTokens must be positive");
+        }
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("ratePerSecond must be positive");
+        }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("burst must be positive");
+        }
+    }
+}
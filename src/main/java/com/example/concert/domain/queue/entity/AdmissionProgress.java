@@ -0,0 +1,33 @@
+package com.example.concert.domain.queue.entity;
+
+/**
+ * 콘서트별 입장 진행 상황
+ *
+ * watermark는 입장 처리된 가장 큰 대기 순번, ratePerSecond는 실측 입장 속도(EWMA)입니다.
+ * 순번이 seq인 대기자의 순위는 seq - watermark로 근사합니다.
+ */
+public record AdmissionProgress(long watermark, double ratePerSecond) {
+
+    public static final AdmissionProgress EMPTY = new AdmissionProgress(0, 0);
+
+    // 설정 입장 속도 대비 이 비율보다 느린 실측값은 입장이 멈춘 동안 감쇠한 값으로 보고 사용하지 않음
+    private static final double MIN_MEASURED_RATE_RATIO = 0.01;
+
+    /**
+     * 대기 순위(1부터)를 근사 - 앞선 대기자 중 이탈자도 포함하므로 실제보다 크거나 같음
+     */
+    public long rankOf(long sequence) {
+        return Math.max(1, sequence - watermark);
+    }
+
+    /**
+     * 실측 입장 속도로 예상 대기 시간(초)을 계산
+     * (측정값이 없거나 설정 속도의 1% 미만으로 감쇠했으면 설정된 입장 속도 사용)
+     */
+    public long estimateWaitSeconds(long rank, AdmissionPolicy policy) {
+        double rate = ratePerSecond >= policy.ratePerSecond() * MIN_MEASURED_RATE_RATIO
+                ? ratePerSecond
+                : policy.ratePerSecond();
+        return (long) Math.ceil(rank / rate);
+    }
+}
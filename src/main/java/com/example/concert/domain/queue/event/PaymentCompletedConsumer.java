@@ -1,7 +1,10 @@
 package com.example.concert.domain.queue.event;
 
 import com.example.concert.domain.payment.event.PaymentCompletedEvent;
+import com.example.concert.domain.queue.repository.ActiveTokenCache;
 import com.example.concert.domain.queue.repository.QueueTokenRepository;
+import com.example.concert.domain.queue.repository.RevokedTokenRegistry;
+import com.example.concert.domain.queue.usecase.ActivateTokenUseCase;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +23,9 @@ import org.springframework.stereotype.Component;
 public class PaymentCompletedConsumer {
 
     private final QueueTokenRepository queueTokenRepository;
+    private final ActivateTokenUseCase activateTokenUseCase;
+    private final ActiveTokenCache activeTokenCache;
+    private final RevokedTokenRegistry revokedTokenRegistry;
     private final ObjectMapper objectMapper;
 
     @KafkaListener(topics = "payment-completed", groupId = "queue-consumer-group")
@@ -55,7 +61,13 @@ public class PaymentCompletedConsumer {
                         queueToken -> {
                             queueToken.expire();
                             queueTokenRepository.save(queueToken);
+                            // 모든 인스턴스의 검증 캐시에서 제거하여 만료 토큰이 재사용되지 않도록 함
+                            activeTokenCache.evict(token);
+                            // 서명 토큰은 Redis 조회 없이 검증되므로 폐기 목록에 등록
+                            revokedTokenRegistry.revoke(token, queueToken.getExpiresAt());
                             log.debug("Token expired: {}", token);
+                            // 반납된 슬롯을 다음 스케줄러 주기까지 비워두지 않고 즉시 채움
+                            activateTokenUseCase.execute(queueToken.getConcertId());
                         },
                         () -> log.warn("Token not found for expiration: {}", token));
     }
@@ -0,0 +1,99 @@
+package com.example.concert.domain.queue.infrastructure;
+
+import com.example.concert.domain.queue.entity.QueueToken;
+import com.example.concert.domain.queue.repository.ActiveTokenCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Caffeine 기반 ActiveTokenCache 구현체
+ *
+ * - 크기 상한(max-size)과 짧은 TTL(ttl-ms)로 메모리와 상태 지연을 제한
+ * - 무효화는 Redis Pub/Sub 채널(queue:token:invalidate)로 모든 인스턴스에 전파
+ * - 적중/미스 수는 Micrometer 지표(cache.gets{cache=queueTokens})로 노출
+ */
+@Slf4j
+@Component
+public class CaffeineActiveTokenCache implements ActiveTokenCache, MessageListener {
+
+    static final String INVALIDATION_CHANNEL = "queue:token:invalidate";
+    private static final String CACHE_NAME = "queueTokens";
+
+    private final Cache<String, QueueToken> cache;
+    private final RedisTemplate<String, String> queueRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    public CaffeineActiveTokenCache(
+            RedisTemplate<String, String> queueRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${queue.token-cache.max-size:10000}") long maxSize,
+            @Value("${queue.token-cache.ttl-ms:5000}") long ttlMillis) {
+        this.queueRedisTemplate = queueRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.meterRegistry = meterRegistry;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Optional<QueueToken> get(String token) {
+        return Optional.ofNullable(cache.getIfPresent(token));
+    }
+
+    @Override
+    public void put(QueueToken queueToken) {
+        cache.put(queueToken.getToken(), queueToken);
+    }
+
+    @Override
+    public void evict(String token) {
+        cache.invalidate(token);
+        queueRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, token);
+    }
+
+    /**
+     * 다른 인스턴스(또는 자신)가 발행한 무효화 메시지 수신 - 로컬에서만 제거
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String token = new String(message.getBody(), StandardCharsets.UTF_8);
+        cache.invalidate(token);
+        log.debug("Invalidated cached token: {}", token);
+    }
+
+    @Override
+    public long hitCount() {
+        return cache.stats().hitCount();
+    }
+
+    @Override
+    public long missCount() {
+        return cache.stats().missCount();
+    }
+}
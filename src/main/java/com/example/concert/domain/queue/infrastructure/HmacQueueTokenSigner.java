@@ -0,0 +1,159 @@
+package com.example.concert.domain.queue.infrastructure;
+
+import com.example.concert.domain.queue.entity.QueueToken;
+import com.example.concert.domain.queue.entity.TokenStatus;
+import com.example.concert.domain.queue.repository.QueueTokenSigner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * HMAC-SHA256 기반 QueueTokenSigner 구현체
+ *
+ * 형식: q1.{base64url(payload)}.{base64url(HMAC(payload))}
+ * payload: {tokenId}|{userId}|{concertId}|{status}|{statusEpochMillis}|{expiresAtMillis}
+ */
+@Component
+public class HmacQueueTokenSigner implements QueueTokenSigner {
+
+    private static final String PREFIX = "q1.";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String DELIMITER = "|";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    // HMAC 계산은 블로킹 없이 끝나므로 동시 사용 수는 (캐리어) 스레드 수를 넘지 않음
+    private static final int MAC_POOL_CAPACITY = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final boolean enabled;
+    private final SecretKeySpec key;
+    // Mac은 스레드 안전하지 않으므로 사용 중에는 한 스레드가 독점하고, 다 쓰면 풀에 반납
+    // (가상 스레드는 요청마다 새 스레드라 ThreadLocal로는 매번 Mac 생성 + init이 발생)
+    private final Mac prototype;
+    private final BlockingQueue<Mac> macPool = new ArrayBlockingQueue<>(MAC_POOL_CAPACITY);
+
+    public HmacQueueTokenSigner(
+            @Value("${queue.signed-token.enabled:false}") boolean enabled,
+            @Value("${queue.signed-token.secret:}") String secret) {
+        this.enabled = enabled;
+        if (enabled && secret.length() < 32) {
+            throw new IllegalStateException("queue.signed-token.secret must be at least 32 characters");
+        }
+        this.key = enabled ? new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM) : null;
+        this.prototype = enabled ? newMac(key) : null;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public boolean isSigned(String token) {
+        return enabled && token.startsWith(PREFIX);
+    }
+
+    @Override
+    public String sign(QueueToken queueToken) {
+        String payload = String.join(DELIMITER,
+                queueToken.getToken(),
+                String.valueOf(queueToken.getUserId()),
+                String.valueOf(queueToken.getConcertId()),
+                queueToken.getStatus().name(),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(toEpochMillis(queueToken.getExpiresAt())));
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        return PREFIX + ENCODER.encodeToString(payloadBytes) + "." + ENCODER.encodeToString(hmac(payloadBytes));
+    }
+
+    @Override
+    public Optional<QueueToken> verify(String signedToken) {
+        if (!isSigned(signedToken)) {
+            return Optional.empty();
+        }
+
+        int separator = signedToken.indexOf('.', PREFIX.length());
+        if (separator < 0) {
+            return Optional.empty();
+        }
+
+        try {
+            byte[] payloadBytes = DECODER.decode(signedToken.substring(PREFIX.length(), separator));
+            byte[] signature = DECODER.decode(signedToken.substring(separator + 1));
+            // 타이밍 공격 방지를 위해 상수 시간 비교
+            if (!MessageDigest.isEqual(hmac(payloadBytes), signature)) {
+                return Optional.empty();
+            }
+
+            String[] claims = new String(payloadBytes, StandardCharsets.UTF_8).split("\\|");
+            if (claims.length != 6) {
+                return Optional.empty();
+            }
+            return Optional.of(new QueueToken(
+                    null,
+                    null,
+                    Long.parseLong(claims[1]),
+                    Long.parseLong(claims[2]),
+                    claims[0],
+                    TokenStatus.valueOf(claims[3]),
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(claims[5])), ZoneId.systemDefault()),
+                    null));
+        } catch (IllegalArgumentException e) {
+            // Base64 디코딩, 숫자/상태 파싱 실패 (NumberFormatException 포함)
+            return Optional.empty();
+        }
+    }
+
+    private byte[] hmac(byte[] payload) {
+        Mac mac = macPool.poll();
+        if (mac == null) {
+            mac = copyPrototype();
+        }
+        try {
+            // doFinal 후 Mac은 같은 키로 초기화된 상태로 돌아감
+            return mac.doFinal(payload);
+        } finally {
+            // 풀이 가득 차면 버림
+            macPool.offer(mac);
+        }
+    }
+
+    /**
+     * 초기화된 prototype을 복제 (키 스케줄을 다시 계산하지 않음)
+     */
+    private Mac copyPrototype() {
+        if (prototype == null) {
+            throw new IllegalStateException("Signed queue tokens are disabled");
+        }
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            return newMac(key);
+        }
+    }
+
+    private Mac newMac(SecretKeySpec key) {
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize " + ALGORITHM, e);
+        }
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
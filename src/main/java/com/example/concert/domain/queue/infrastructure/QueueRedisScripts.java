@@ -0,0 +1,365 @@
+package com.example.concert.domain.queue.infrastructure;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * 대기열 Lua 스크립트 모음
+ *
+ * 여러 Redis 명령을 서버 측에서 원자적으로 실행하여 왕복 횟수를 줄이고,
+ * 확인 후 쓰기(check-then-act) 사이의 경쟁 조건을 제거합니다.
+ */
+final class QueueRedisScripts {
+
+    /**
+     * 토큰 버킷 공통 함수
+     * - refill: 경과 시간만큼 충전한 현재 토큰 수를 반환 (최대 burst)
+     * - consume: 사용 후 남은 토큰 수와 기준 시각을 저장
+     */
+    private static final String TOKEN_BUCKET = """
+            local function refill(bucketKey, rate, burst, now)
+                local bucket = redis.call('HMGET', bucketKey, 'tokens', 'ts')
+                local tokens = tonumber(bucket[1]) or burst
+                local ts = tonumber(bucket[2]) or now
+                return math.min(burst, tokens + math.max(0, now - ts) * rate / 1000)
+            end
+            local function consume(bucketKey, tokens, now)
+                redis.call('HSET', bucketKey, 'tokens', tostring(tokens), 'ts', tostring(now))
+                redis.call('PEXPIRE', bucketKey, 3600000)
+            end
+            """;
+
+    /**
+     * 만료 시각 기반 정리 공통 함수
+     * - reapExpired: 활성 ZSET(score = 만료 시각)에서 만료된 멤버를 ZREMRANGEBYSCORE 한 번으로 일괄 제거
+     * - extendKeyExpiry: 키 TTL을 멤버 중 가장 늦은 만료 시각까지 연장 (마지막 멤버가 만료되면 키 자체가 삭제)
+     */
+    private static final String EXPIRY = """
+            local function reapExpired(activeKey, now)
+                return redis.call('ZREMRANGEBYSCORE', activeKey, '-inf', now)
+            end
+            local function extendKeyExpiry(key, expireAt, now)
+                local pttl = redis.call('PTTL', key)
+                if pttl < 0 or now + pttl < expireAt then
+                    redis.call('PEXPIREAT', key, expireAt)
+                end
+            end
+            """;
+
+    /**
+     * 입장 진행 상황 공통 함수 (queue:admission:{concertId} HASH)
+     * - issued: 대기 등록 순번 카운터, watermark: 입장 처리된 가장 큰 순번
+     * - rate/ts: 초당 입장 수의 시간 가중 EWMA (시정수 10초)와 마지막 갱신 시각
+     */
+    private static final String ADMISSION = """
+            local EWMA_TAU_MS = 10000
+            local ADMISSION_TTL_MS = 86400000
+            local function recordAdmission(admissionKey, count, maxSeq, now)
+                local state = redis.call('HMGET', admissionKey, 'rate', 'ts', 'watermark')
+                local rate = tonumber(state[1]) or 0
+                local ts = tonumber(state[2])
+                if ts then
+                    local dt = now - ts
+                    if dt > 0 then
+                        local alpha = 1 - math.exp(-dt / EWMA_TAU_MS)
+                        rate = rate + alpha * (count * 1000 / dt - rate)
+                    else
+                        rate = rate + count * 1000 / EWMA_TAU_MS
+                    end
+                end
+                redis.call('HSET', admissionKey, 'rate', tostring(rate), 'ts', tostring(now))
+                if maxSeq > (tonumber(state[3]) or 0) then
+                    redis.call('HSET', admissionKey, 'watermark', maxSeq)
+                end
+                redis.call('PEXPIRE', admissionKey, ADMISSION_TTL_MS)
+            end
+            """;
+
+    /**
+     * 대기열 샤드 공통 함수 (KEYS[firstKey..]가 샤드 키 목록, 샤드 번호 순)
+     * 샤드를 합친 전체 순서는 score 오름차순이며, score가 같으면 번호가 작은 샤드가 앞섭니다.
+     * 입장 처리와 순위 폴백 조회에서만 사용하며, 발급은 자기 샤드 하나만 다룹니다.
+     * - waitingEmpty: 모든 샤드가 비었는지 확인
+     * - mergedRank: 자기 샤드 ZRANK에 다른 샤드에서 앞서는 멤버 수(ZCOUNT)를 더한 전체 순위 (0-indexed)
+     * - popMerged: 샤드별 상위 count개를 k-way merge하여 전체 상위 count개를 고르고,
+     *   샤드마다 선택된 수만큼만 ZPOPMIN (선택분은 항상 각 샤드의 앞부분)
+     */
+    private static final String WAITING_SHARDS = """
+            local function waitingEmpty(firstKey)
+                for i = firstKey, #KEYS do
+                    if redis.call('EXISTS', KEYS[i]) == 1 then
+                        return false
+                    end
+                end
+                return true
+            end
+            local function mergedRank(firstKey, shardKey, token, score)
+                local rank = redis.call('ZRANK', shardKey, token)
+                if not rank then
+                    return false
+                end
+                local before = true
+                for i = firstKey, #KEYS do
+                    if KEYS[i] == shardKey then
+                        before = false
+                    elseif before then
+                        rank = rank + redis.call('ZCOUNT', KEYS[i], '-inf', score)
+                    else
+                        rank = rank + redis.call('ZCOUNT', KEYS[i], '-inf', '(' .. score)
+                    end
+                end
+                return rank
+            end
+            local function popMerged(firstKey, count)
+                local heads, pos, take = {}, {}, {}
+                for i = firstKey, #KEYS do
+                    heads[i] = redis.call('ZRANGE', KEYS[i], 0, count - 1, 'WITHSCORES')
+                    pos[i] = 1
+                    take[i] = 0
+                end
+                local merged = {}
+                for _ = 1, count do
+                    local best, bestScore
+                    for i = firstKey, #KEYS do
+                        if pos[i] < #heads[i] then
+                            local score = tonumber(heads[i][pos[i] + 1])
+                            if not best or score < bestScore then
+                                best, bestScore = i, score
+                            end
+                        end
+                    end
+                    if not best then
+                        break
+                    end
+                    merged[#merged + 1] = heads[best][pos[best]]
+                    pos[best] = pos[best] + 2
+                    take[best] = take[best] + 1
+                end
+                for i = firstKey, #KEYS do
+                    if take[i] > 0 then
+                        redis.call('ZPOPMIN', KEYS[i], take[i])
+                    end
+                end
+                return merged
+            end
+            """;
+
+    /**
+     * 토큰 발급 + 대기자가 없고 활성 슬롯/버킷 여유 시 즉시 활성화 + 대기열 순위 조회
+     * (토큰 Hash TTL은 만료 시각에 맞추고, 슬롯 계산 전에 만료된 활성 토큰을 정리)
+     * - 즉시 활성화되면 만료 시각은 활성 만료 시각(expiresAtMillis)
+     * - 대기 등록이면 만료 시각은 대기 만료 시각(waitingExpiresAtMillis) - 활성 만료 시각은 입장 처리 시점에 다시 정함
+     *
+     * 대기열 샤드는 토큰이 속한 샤드 하나만 다룹니다.
+     * - 대기자 유무는 콘서트 레지스트리(queue:concerts) 등록 여부로 판단 (대기 등록 시 SADD, 입장 처리로 비면 SREM)
+     * - 순위는 순번과 입장 watermark의 차이로 근사하여 상태 조회·SSE와 같은 값을 반환
+     *
+     * 중복 발급 억제(ARGV[11] = '1')가 켜져 있으면 사용자·콘서트별 인덱스가 가리키는 토큰이
+     * 아직 대기 중이거나 유효한 ACTIVE일 때 새 토큰을 만들지 않고 그 토큰과 순위를 반환합니다.
+     * 스크립트가 접근하는 키는 모두 KEYS로 선언해야 하므로(Cluster 슬롯 라우팅) 기존 토큰 키는 호출측이 인덱스를
+     * 먼저 읽어 KEYS[8]로 넘기고, 그 사이 인덱스가 바뀌었으면 { 'R', 현재 인덱스 값 }을 반환하여 다시 호출하게 합니다.
+     *
+     * KEYS[1] = queue:token:{token}, KEYS[2] = 토큰이 속한 대기열 샤드, KEYS[3] = queue:active-exp:{concertId},
+     * KEYS[4] = queue:concerts, KEYS[5] = queue:bucket:{concertId}, KEYS[6] = queue:admission:{concertId},
+     * KEYS[7] = queue:user:{concertId}:{userId}, KEYS[8] = queue:token:{인덱스가 가리키는 토큰} (없으면 KEYS[1])
+     * ARGV = token, userId, concertId, score, expiresAtMillis, createdAtMillis, maxActiveTokens, rate, burst, now,
+     * idempotent, 호출측이 읽은 인덱스 값(없으면 빈 문자열), waitingExpiresAtMillis
+     * 토큰 Hash는 압축 형식(QueueTokenHashCodec)으로 저장하고, 대기 등록 시 콘서트별 순번(q)을 부여합니다.
+     * 반환: 새로 발급하면 { status 코드(W/A), rank(0-indexed, ACTIVE면 -1), watermark, rate },
+     * 기존 토큰을 재사용하면 뒤에 { token, score, expiresAtMillis, createdAtMillis }가 붙음
+     * (watermark/rate는 입장 진행 상황, 값이 없으면 빈 문자열,
+     * 순번이 없는 (도입 이전) 대기 토큰을 재사용하면 rank는 -1이며 호출측이 샤드 병합 순위로 폴백)
+     */
+    static final RedisScript<List> ISSUE_AND_RANK = new DefaultRedisScript<>(
+            TOKEN_BUCKET + EXPIRY + """
+            local now = tonumber(ARGV[10])
+            local activeExpireAt = tonumber(ARGV[5])
+            local waitingExpireAt = tonumber(ARGV[13])
+            local a = redis.call('HMGET', KEYS[6], 'watermark', 'rate')
+            local function rankOf(seq)
+                if not seq then
+                    return -1
+                end
+                return math.max(0, seq - (tonumber(a[1]) or 0) - 1)
+            end
+            local function issued(status, rank, ...)
+                return { status, rank, a[1] or '', a[2] or '', ... }
+            end
+            if ARGV[11] == '1' then
+                local existing = redis.call('GET', KEYS[7])
+                if (existing or '') ~= ARGV[12] then
+                    return { 'R', existing or '' }
+                end
+                if existing then
+                    local t = redis.call('HMGET', KEYS[8], 's', 'o', 'x', 't', 'q')
+                    if t[1] == 'A' and (tonumber(t[3]) or 0) > now then
+                        return issued('A', -1, existing, t[2] or '', t[3], t[4] or '')
+                    elseif t[1] == 'W' then
+                        return issued('W', rankOf(tonumber(t[5])), existing,
+                            t[2] or '', t[3] or '', t[4] or '')
+                    end
+                end
+            end
+            local status = 'W'
+            reapExpired(KEYS[3], now)
+            if redis.call('SISMEMBER', KEYS[4], ARGV[3]) == 0
+                    and redis.call('ZCARD', KEYS[3]) < tonumber(ARGV[7]) then
+                local tokens = refill(KEYS[5], tonumber(ARGV[8]), tonumber(ARGV[9]), now)
+                if tokens >= 1 then
+                    consume(KEYS[5], tokens - 1, now)
+                    status = 'A'
+                end
+            end
+            local expireAt = waitingExpireAt
+            -- 사용자 인덱스는 대기 중 또는 늦게 입장한 뒤의 활성 기간까지 유지
+            local indexExpireAt = waitingExpireAt + (activeExpireAt - now)
+            if status == 'A' then
+                expireAt = activeExpireAt
+                indexExpireAt = activeExpireAt
+            end
+            redis.call('HSET', KEYS[1],
+                'u', ARGV[2], 'c', ARGV[3], 's', status, 'o', ARGV[4], 'x', tostring(expireAt), 't', ARGV[6])
+            redis.call('PEXPIREAT', KEYS[1], expireAt)
+            redis.call('SET', KEYS[7], ARGV[1])
+            redis.call('PEXPIREAT', KEYS[7], indexExpireAt)
+            if status == 'A' then
+                redis.call('ZADD', KEYS[3], expireAt, ARGV[1])
+                extendKeyExpiry(KEYS[3], expireAt, now)
+                return issued(status, -1)
+            end
+            local seq = redis.call('HINCRBY', KEYS[6], 'issued', 1)
+            redis.call('PEXPIRE', KEYS[6], 86400000)
+            redis.call('HSET', KEYS[1], 'q', seq)
+            redis.call('ZADD', KEYS[2], ARGV[4], ARGV[1])
+            redis.call('SADD', KEYS[4], ARGV[3])
+            return issued(status, rankOf(seq))
+            """, List.class);
+
+    /**
+     * 빈 활성 슬롯과 버킷 토큰 중 작은 수만큼 대기열 상위 토큰을 꺼내 일괄 활성화
+     * (슬롯 계산 전에 만료된 활성 토큰을 정리하고, 대기열이 비면 레지스트리에서 제거)
+     * 샤드가 여러 개이면 샤드별 앞부분을 score 순으로 병합하여 전체 순서대로 꺼냅니다.
+     * 활성화한 토큰 중 가장 큰 순번을 watermark로, 활성화한 수를 처리량 EWMA에 기록하여
+     * 대기 순위(seq - watermark)와 예상 대기 시간을 ZSET 조회 없이 계산할 수 있게 합니다.
+     *
+     * 활성 만료 시각은 입장 시점 + activeTtlMillis이며, 토큰 Hash의 TTL·만료 시각 필드와 활성 ZSET score에 함께 기록합니다.
+     * (대기가 길어져도 입장 후 유효 시간이 줄어들지 않음, 상태/만료 시각은 토큰 Hash 형식(압축/이전)에 맞는 필드에 기록)
+     * 대기 중 만료되어 Hash가 없는 멤버는 건너뛰고 입장 수에 포함하지 않으며, 그만큼 다음 대기자를 더 꺼냅니다.
+     * (한 번에 꺼내는 수는 입장 수의 MAX_POP_FACTOR배까지로 제한하여 스크립트 실행 시간을 묶어 둠)
+     *
+     * KEYS[1] = queue:active-exp:{concertId}, KEYS[2] = queue:concerts, KEYS[3] = queue:bucket:{concertId},
+     * KEYS[4] = queue:admission:{concertId}, KEYS[5..] = 콘서트의 모든 대기열 샤드
+     * ARGV = maxActiveTokens, tokenKeyPrefix, concertId, rate, burst, now, activeTtlMillis
+     * 반환: 활성화된 토큰 목록 (score 오름차순)
+     */
+    static final RedisScript<List> ACTIVATE_WAITING = new DefaultRedisScript<>(
+            TOKEN_BUCKET + EXPIRY + ADMISSION + WAITING_SHARDS + """
+            if waitingEmpty(5) then
+                redis.call('SREM', KEYS[2], ARGV[3])
+                return {}
+            end
+            local now = tonumber(ARGV[6])
+            reapExpired(KEYS[1], now)
+            local slots = tonumber(ARGV[1]) - redis.call('ZCARD', KEYS[1])
+            if slots <= 0 then
+                recordAdmission(KEYS[4], 0, 0, now)
+                return {}
+            end
+            local tokens = refill(KEYS[3], tonumber(ARGV[4]), tonumber(ARGV[5]), now)
+            local admit = math.min(slots, math.floor(tokens))
+            if admit <= 0 then
+                recordAdmission(KEYS[4], 0, 0, now)
+                return {}
+            end
+            local MAX_POP_FACTOR = 4
+            local expireAt = now + tonumber(ARGV[7])
+            local activated = {}
+            local maxSeq = 0
+            local popBudget = admit * MAX_POP_FACTOR
+            while #activated < admit and popBudget > 0 do
+                local popped = popMerged(5, math.min(admit - #activated, popBudget))
+                if #popped == 0 then
+                    break
+                end
+                popBudget = popBudget - #popped
+                for _, token in ipairs(popped) do
+                    local tokenKey = ARGV[2] .. token
+                    local fields = redis.call('HMGET', tokenKey, 's', 'q', 'seq')
+                    if fields[1] then
+                        redis.call('HSET', tokenKey, 's', 'A', 'x', tostring(expireAt))
+                    elseif redis.call('EXISTS', tokenKey) == 1 then
+                        redis.call('HSET', tokenKey, 'status', 'ACTIVE', 'expiresAt', tostring(expireAt))
+                    else
+                        -- 대기 중 만료된 멤버 (입장 수·watermark에 포함하지 않음)
+                        tokenKey = nil
+                    end
+                    if tokenKey then
+                        redis.call('PEXPIREAT', tokenKey, expireAt)
+                        maxSeq = math.max(maxSeq, tonumber(fields[2] or fields[3]) or 0)
+                        redis.call('ZADD', KEYS[1], expireAt, token)
+                        activated[#activated + 1] = token
+                    end
+                end
+            end
+            if #activated > 0 then
+                extendKeyExpiry(KEYS[1], expireAt, now)
+            end
+            recordAdmission(KEYS[4], #activated, maxSeq, now)
+            consume(KEYS[3], tokens - #activated, now)
+            if waitingEmpty(5) then
+                redis.call('SREM', KEYS[2], ARGV[3])
+            end
+            return activated
+            """, List.class);
+
+    /**
+     * 샤드를 합친 전체 대기 순위 조회
+     *
+     * KEYS[1] = 토큰이 속한 대기열 샤드, KEYS[2..] = 콘서트의 모든 대기열 샤드
+     * ARGV = token
+     * 반환: 0-indexed 순위 (대기열에 없으면 nil)
+     */
+    static final RedisScript<Long> WAITING_RANK = new DefaultRedisScript<>(WAITING_SHARDS + """
+            local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if not score then
+                return false
+            end
+            return mergedRank(2, KEYS[1], ARGV[1], score)
+            """, Long.class);
+
+    /**
+     * 토큰 조회 - 압축/이전 형식 모두 같은 순서의 값 목록으로 반환 (HGETALL 맵 생성 없음)
+     *
+     * KEYS[1] = queue:token:{token}
+     * 반환: 토큰 없으면 빈 목록, 있으면
+     * { userId, concertId, status, score, expiresAt, createdAt, seq } (값이 없으면 빈 문자열)
+     */
+    static final RedisScript<List> READ_TOKEN = new DefaultRedisScript<>(QueueTokenHashCodec.LUA_READ_TOKEN + """
+            local t = readToken(KEYS[1])
+            if not t[1] then
+                return {}
+            end
+            return { t[1], t[2], t[3], t[4] or '', t[5] or '', t[6] or '', t[7] or '' }
+            """, List.class);
+
+    /**
+     * 토큰 상태 조회 - 토큰 Hash와 콘서트 입장 진행 상황을 단일 왕복으로 읽음 (ZSET 조회 없음)
+     *
+     * KEYS[1] = queue:token:{token}
+     * ARGV = admissionKeyPrefix
+     * 반환: 토큰 없으면 빈 목록, 있으면 READ_TOKEN 결과 뒤에 { watermark, rate } (값이 없으면 빈 문자열)
+     */
+    static final RedisScript<List> TOKEN_STATUS = new DefaultRedisScript<>(QueueTokenHashCodec.LUA_READ_TOKEN + """
+            local t = readToken(KEYS[1])
+            if not t[1] then
+                return {}
+            end
+            local a = redis.call('HMGET', ARGV[1] .. t[2], 'watermark', 'rate')
+            return { t[1], t[2], t[3], t[4] or '', t[5] or '', t[6] or '', t[7] or '', a[1] or '', a[2] or '' }
+            """, List.class);
+
+    private QueueRedisScripts() {
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.concert.domain.queue.infrastructure;
 
+import com.example.concert.domain.queue.repository.QueueTokenRepository;
+import com.example.concert.domain.queue.repository.RevokedTokenRegistry;
 import com.example.concert.domain.queue.usecase.ActivateTokenUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,8 +13,13 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class QueueScheduler {
     private final ActivateTokenUseCase activateTokenUseCase;
+    private final QueueTokenRepository queueTokenRepository;
+    private final RevokedTokenRegistry revokedTokenRegistry;
 
-    @Scheduled(fixedDelay = 10000) // 10초마다 실행
+    /**
+     * 입장 처리 주기 (기본 1초) - 토큰 버킷이 허용하는 속도로 연속적으로 입장
+     */
+    @Scheduled(fixedDelayString = "${queue.admission.interval-ms:1000}")
     public void activateWaitingTokens() {
         log.debug("Running queue activation scheduler");
         int activated = activateTokenUseCase.execute();
@@ -20,4 +27,23 @@ public class QueueScheduler {
             log.info("Queue activation scheduler completed: {} tokens activated", activated);
         }
     }
+
+    /**
+     * 5분마다 대기열 키를 SCAN하여 콘서트 레지스트리 보정 (기동 직후 1회 포함)
+     */
+    @Scheduled(initialDelay = 0, fixedDelay = 300000)
+    public void reconcileConcertRegistry() {
+        int registered = queueTokenRepository.reconcileActiveConcertIds();
+        if (registered > 0) {
+            log.info("Queue concert registry reconciled: {} concerts re-registered", registered);
+        }
+    }
+
+    /**
+     * 폐기 토큰 로컬 사본 동기화 (Pub/Sub 메시지 유실 보정)
+     */
+    @Scheduled(fixedDelayString = "${queue.signed-token.revocation-refresh-ms:5000}")
+    public void refreshRevokedTokens() {
+        revokedTokenRegistry.refresh();
+    }
 }
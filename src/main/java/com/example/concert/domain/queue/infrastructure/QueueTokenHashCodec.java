@@ -0,0 +1,117 @@
+package com.example.concert.domain.queue.infrastructure;
+
+import com.example.concert.domain.queue.entity.QueueToken;
+import com.example.concert.domain.queue.entity.TokenStatus;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * queue:token:{token} Hash 인코딩
+ *
+ * 한 글자 필드명과 정수 값만 사용하여 Hash가 listpack으로 작게 유지되도록 합니다.
+ * - u: userId, c: concertId, s: 상태 코드(W/A/E), o: score, x: 만료 시각, t: 생성 시각 (epochMillis), q: 대기 순번
+ *
+ * 이전 형식(userId, status=ACTIVE, expiresAt=ISO 문자열 등)으로 저장된 토큰도 읽을 수 있으며,
+ * Lua 스크립트가 두 형식을 모두 같은 순서의 값 목록으로 반환하므로 읽기 경로는 하나입니다.
+ */
+final class QueueTokenHashCodec {
+
+    static final String USER_ID = "u";
+    static final String CONCERT_ID = "c";
+    static final String STATUS = "s";
+    static final String SCORE = "o";
+    static final String EXPIRES_AT = "x";
+    static final String CREATED_AT = "t";
+    static final String SEQ = "q";
+
+    /**
+     * 토큰 Hash를 읽어 { userId, concertId, status, score, expiresAt, createdAt, seq } 순서로 반환하는 공통 함수
+     * (새 형식 필드가 없으면 이전 형식 필드를 읽음, 토큰이 없으면 첫 값이 false)
+     */
+    static final String LUA_READ_TOKEN = """
+            local function readToken(tokenKey)
+                local t = redis.call('HMGET', tokenKey, 'u', 'c', 's', 'o', 'x', 't', 'q')
+                if not t[1] then
+                    t = redis.call('HMGET', tokenKey,
+                        'userId', 'concertId', 'status', 'score', 'expiresAt', 'createdAt', 'seq')
+                end
+                return t
+            end
+            """;
+
+    private static final DateTimeFormatter LEGACY_DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private QueueTokenHashCodec() {
+    }
+
+    static Map<String, String> encode(QueueToken queueToken, long score, LocalDateTime createdAt) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(USER_ID, String.valueOf(queueToken.getUserId()));
+        fields.put(CONCERT_ID, String.valueOf(queueToken.getConcertId()));
+        fields.put(STATUS, encodeStatus(queueToken.getStatus()));
+        fields.put(SCORE, String.valueOf(score));
+        if (queueToken.getExpiresAt() != null) {
+            fields.put(EXPIRES_AT, String.valueOf(toEpochMillis(queueToken.getExpiresAt())));
+        }
+        fields.put(CREATED_AT, String.valueOf(toEpochMillis(createdAt)));
+        return fields;
+    }
+
+    /**
+     * readToken 결과(빈 문자열 = 값 없음)를 도메인 객체로 변환
+     */
+    static QueueToken decode(String token, List<String> values) {
+        String score = values.get(3);
+        return new QueueToken(
+                null,
+                isEmpty(score) ? null : Long.parseLong(score),
+                Long.parseLong(values.get(0)),
+                Long.parseLong(values.get(1)),
+                token,
+                decodeStatus(values.get(2)),
+                decodeTime(values.get(4)),
+                decodeTime(values.get(5)));
+    }
+
+    static String encodeStatus(TokenStatus status) {
+        return switch (status) {
+            case WAITING -> "W";
+            case ACTIVE -> "A";
+            case EXPIRED -> "E";
+        };
+    }
+
+    static TokenStatus decodeStatus(String value) {
+        return switch (value) {
+            case "W" -> TokenStatus.WAITING;
+            case "A" -> TokenStatus.ACTIVE;
+            case "E" -> TokenStatus.EXPIRED;
+            default -> TokenStatus.valueOf(value); // 이전 형식
+        };
+    }
+
+    static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    static LocalDateTime decodeTime(String value) {
+        if (isEmpty(value)) {
+            return null;
+        }
+        if (value.indexOf('T') >= 0) {
+            // 이전 형식 (ISO_LOCAL_DATE_TIME)
+            return LocalDateTime.parse(value, LEGACY_DATE_FORMATTER);
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(value)), ZoneId.systemDefault());
+    }
+
+    private static boolean isEmpty(String value) {
+        return value == null || value.isEmpty();
+    }
+}
@@ -1,37 +1,85 @@
 package com.example.concert.domain.queue.infrastructure;
 
+import com.example.concert.domain.queue.entity.AdmissionPolicy;
+import com.example.concert.domain.queue.entity.AdmissionProgress;
 import com.example.concert.domain.queue.entity.QueueToken;
 import com.example.concert.domain.queue.entity.TokenStatus;
 import com.example.concert.domain.queue.repository.QueueTokenRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 
 /**
  * Redis 기반 QueueTokenRepository 구현체
  * 
  * 키 구조:
- * - queue:waiting:{concertId} → ZSET { token: score(timestamp) }
- * - queue:active:{concertId} → SET { token }
- * - queue:token:{token} → HASH { userId, concertId, status, expiresAt,
- * createdAt, score }
+ * - queue:waiting:{concertId}[:{shard}] → ZSET { token: score(timestamp) }
+ * (queue.waiting.shards개 샤드, 0번 샤드는 접미사 없는 키, 토큰은 해시로 샤드에 배정)
+ * - queue:active-exp:{concertId} → ZSET { token: score(만료 시각 epochMillis) }
+ * - queue:token:{token} → HASH { u: userId, c: concertId, s: 상태 코드, o: score, x: expiresAt,
+ * t: createdAt, q: seq } (TTL = expiresAt, 시각은 epochMillis, 인코딩은 QueueTokenHashCodec 참고)
+ * (대기 중에는 대기 만료 시각, 입장 처리되면 그 시점 + 활성 유효 기간으로 다시 설정)
+ * - queue:concerts → SET { concertId } (대기열이 비어있지 않은 콘서트 레지스트리)
+ * - queue:bucket:{concertId} → HASH { tokens, ts } (입장 속도 제한 토큰 버킷)
+ * - queue:user:{concertId}:{userId} → STRING token (TTL = expiresAt, 중복 발급 억제용 인덱스)
+ * - queue:admission:{concertId} → HASH { issued, watermark, rate, ts } (대기 순번 카운터, 입장 watermark, 입장 속도 EWMA)
  */
 @Slf4j
 @Repository
-@RequiredArgsConstructor
 public class RedisQueueTokenRepositoryImpl implements QueueTokenRepository {
 
     private static final String WAITING_KEY_PREFIX = "queue:waiting:";
-    private static final String ACTIVE_KEY_PREFIX = "queue:active:";
+    private static final String ACTIVE_KEY_PREFIX = "queue:active-exp:";
     private static final String TOKEN_KEY_PREFIX = "queue:token:";
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private static final String CONCERT_REGISTRY_KEY = "queue:concerts";
+    private static final String BUCKET_KEY_PREFIX = "queue:bucket:";
+    private static final String ADMISSION_KEY_PREFIX = "queue:admission:";
+    private static final String USER_TOKEN_KEY_PREFIX = "queue:user:";
+    /**
+     * 발급 스크립트가 인덱스가 바뀌었다고 응답할 때의 상태 코드 / 다시 호출하는 최대 횟수
+     * (같은 사용자의 동시 발급이 겹칠 때만 발생)
+     */
+    private static final String INDEX_CHANGED = "R";
+    private static final int MAX_ISSUE_ATTEMPTS = 3;
+    private static final int SCAN_COUNT = 1000;
 
     private final RedisTemplate<String, String> queueRedisTemplate;
+    private final int waitingShards;
+    private final boolean idempotentIssue;
+    // 입장 후 유효 기간 (입장 처리 시점부터)
+    private final Duration activeTtl;
+    // 대기 중 토큰의 보관 기간 (대기열 대기 시간을 충분히 덮도록)
+    private final Duration waitingTtl;
+
+    public RedisQueueTokenRepositoryImpl(
+            RedisTemplate<String, String> queueRedisTemplate,
+            @Value("${queue.waiting.shards:1}") int waitingShards,
+            @Value("${queue.issue.idempotent:true}") boolean idempotentIssue,
+            @Value("${queue.token.active-ttl-ms:1800000}") long activeTtlMillis,
+            @Value("${queue.token.waiting-ttl-ms:86400000}") long waitingTtlMillis) {
+        if (waitingShards <= 0) {
+            throw new IllegalArgumentException("queue.waiting.shards must be positive");
+        }
+        if (activeTtlMillis <= 0 || waitingTtlMillis <= 0) {
+            throw new IllegalArgumentException("queue.token TTLs must be positive");
+        }
+        this.queueRedisTemplate = queueRedisTemplate;
+        this.waitingShards = waitingShards;
+        this.idempotentIssue = idempotentIssue;
+        this.activeTtl = Duration.ofMillis(activeTtlMillis);
+        this.waitingTtl = Duration.ofMillis(waitingTtlMillis);
+    }
 
     @Override
     public QueueToken save(QueueToken queueToken) {
@@ -41,37 +89,40 @@ public class RedisQueueTokenRepositoryImpl implements QueueTokenRepository {
         // score가 null이면 현재 시간으로 생성
         long score = queueToken.getScore() != null ? queueToken.getScore() : System.currentTimeMillis();
 
-        // Hash에 토큰 메타데이터 저장
-        Map<String, String> tokenData = new HashMap<>();
-        tokenData.put("userId", String.valueOf(queueToken.getUserId()));
-        tokenData.put("concertId", String.valueOf(concertId));
-        tokenData.put("status", queueToken.getStatus().name());
-        tokenData.put("score", String.valueOf(score));
+        // Hash에 토큰 메타데이터 저장 (압축 형식)
+        LocalDateTime createdAt = LocalDateTime.now();
+        queueRedisTemplate.opsForHash().putAll(tokenKey, QueueTokenHashCodec.encode(queueToken, score, createdAt));
         if (queueToken.getExpiresAt() != null) {
-            tokenData.put("expiresAt", queueToken.getExpiresAt().format(DATE_FORMATTER));
+            // 만료 시각에 맞춰 Hash TTL 설정 (방치된 토큰이 메모리에 남지 않도록)
+            queueRedisTemplate.expireAt(tokenKey, Instant.ofEpochMilli(toEpochMillis(queueToken.getExpiresAt())));
         }
-        tokenData.put("createdAt", LocalDateTime.now().format(DATE_FORMATTER));
-
-        queueRedisTemplate.opsForHash().putAll(tokenKey, tokenData);
 
         // 상태에 따라 적절한 Set에 추가
         if (queueToken.getStatus() == TokenStatus.WAITING) {
-            // 대기열 Sorted Set에 추가
+            // 토큰이 속한 대기열 샤드에 추가
             queueRedisTemplate.opsForZSet().add(
-                    WAITING_KEY_PREFIX + concertId,
+                    waitingKey(concertId, queueToken.getToken()),
                     queueToken.getToken(),
                     score);
+            // 대기열 보유 콘서트 레지스트리에 등록
+            queueRedisTemplate.opsForSet().add(CONCERT_REGISTRY_KEY, String.valueOf(concertId));
             // Active Set에서 제거 (상태 변경 대비)
-            queueRedisTemplate.opsForSet().remove(ACTIVE_KEY_PREFIX + concertId, queueToken.getToken());
+            queueRedisTemplate.opsForZSet().remove(ACTIVE_KEY_PREFIX + concertId, queueToken.getToken());
         } else if (queueToken.getStatus() == TokenStatus.ACTIVE) {
-            // Active Set에 추가
-            queueRedisTemplate.opsForSet().add(ACTIVE_KEY_PREFIX + concertId, queueToken.getToken());
+            // Active Set에 만료 시각을 score로 추가
+            LocalDateTime expiresAt = queueToken.getExpiresAt() != null
+                    ? queueToken.getExpiresAt()
+                    : LocalDateTime.now().plus(activeTtl);
+            queueRedisTemplate.opsForZSet().add(
+                    ACTIVE_KEY_PREFIX + concertId,
+                    queueToken.getToken(),
+                    toEpochMillis(expiresAt));
             // 대기열에서 제거
-            queueRedisTemplate.opsForZSet().remove(WAITING_KEY_PREFIX + concertId, queueToken.getToken());
+            removeFromWaiting(concertId, queueToken.getToken());
         } else if (queueToken.getStatus() == TokenStatus.EXPIRED) {
             // 모든 Set에서 제거
-            queueRedisTemplate.opsForZSet().remove(WAITING_KEY_PREFIX + concertId, queueToken.getToken());
-            queueRedisTemplate.opsForSet().remove(ACTIVE_KEY_PREFIX + concertId, queueToken.getToken());
+            removeFromWaiting(concertId, queueToken.getToken());
+            queueRedisTemplate.opsForZSet().remove(ACTIVE_KEY_PREFIX + concertId, queueToken.getToken());
         }
 
         log.debug("Saved queue token: {} with status: {}", queueToken.getToken(), queueToken.getStatus());
@@ -84,19 +135,138 @@ public class RedisQueueTokenRepositoryImpl implements QueueTokenRepository {
                 queueToken.getToken(),
                 queueToken.getStatus(),
                 queueToken.getExpiresAt(),
-                LocalDateTime.now());
+                createdAt);
     }
 
+    /**
+     * Lua 스크립트로 만료 정리 → ZCARD → HSET/PEXPIREAT → ZADD → ZRANK를 단일 왕복으로 실행
+     * - 활성 슬롯 확인과 활성화가 원자적으로 수행되어 동시 발급 시에도 상한을 초과하지 않음
+     * - 앞선 대기자가 있으면 즉시 입장시키지 않아 새치기를 방지하고, 즉시 입장도 버킷 토큰을 소비
+     * - 토큰이 속한 샤드 하나만 다루고, 순위는 대기 순번과 입장 watermark의 차이로 근사 (다른 샤드 조회 없음)
+     * - 중복 발급 억제 모드에서는 같은 사용자·콘서트의 대기/활성 토큰이 있으면 그 토큰과 순위를 반환
+     *   (인덱스 GET 1회 후 기존 토큰 키를 KEYS로 넘김 - 스크립트 안에서 키 이름을 만들지 않아 Cluster에서도 동작)
+     * - queueToken의 expiresAt은 즉시 활성화될 때의 만료 시각, 대기 등록되면 대기 보관 기간(waitingTtl)을 적용
+     */
     @Override
+    @SuppressWarnings("unchecked")
+    public IssuedToken issueAndRank(QueueToken queueToken, AdmissionPolicy policy) {
+        String token = queueToken.getToken();
+        Long concertId = queueToken.getConcertId();
+        long score = queueToken.getScore() != null ? queueToken.getScore() : System.currentTimeMillis();
+        LocalDateTime createdAt = LocalDateTime.now();
+        LocalDateTime waitingExpiresAt = createdAt.plus(waitingTtl);
+
+        String userKey = USER_TOKEN_KEY_PREFIX + concertId + ":" + queueToken.getUserId();
+
+        // 스크립트는 기존 토큰 키를 KEYS로만 읽으므로 인덱스를 먼저 조회 (그 사이 바뀌면 스크립트가 현재 값을 돌려줌)
+        String existingToken = idempotentIssue ? queueRedisTemplate.opsForValue().get(userKey) : null;
+        List<Object> result = null;
+        for (int attempt = 0; attempt < MAX_ISSUE_ATTEMPTS; attempt++) {
+            List<String> keys = List.of(TOKEN_KEY_PREFIX + token, waitingKey(concertId, token),
+                    ACTIVE_KEY_PREFIX + concertId, CONCERT_REGISTRY_KEY, BUCKET_KEY_PREFIX + concertId,
+                    ADMISSION_KEY_PREFIX + concertId, userKey,
+                    TOKEN_KEY_PREFIX + (existingToken != null ? existingToken : token));
+
+            result = queueRedisTemplate.execute(
+                    QueueRedisScripts.ISSUE_AND_RANK,
+                    keys,
+                    token,
+                    String.valueOf(queueToken.getUserId()),
+                    String.valueOf(concertId),
+                    String.valueOf(score),
+                    String.valueOf(toEpochMillis(queueToken.getExpiresAt())),
+                    String.valueOf(toEpochMillis(createdAt)),
+                    String.valueOf(policy.maxActiveTokens()),
+                    String.valueOf(policy.ratePerSecond()),
+                    String.valueOf(policy.burst()),
+                    String.valueOf(System.currentTimeMillis()),
+                    idempotentIssue ? "1" : "0",
+                    existingToken != null ? existingToken : "",
+                    String.valueOf(toEpochMillis(waitingExpiresAt)));
+
+            if (!INDEX_CHANGED.equals(result.get(0))) {
+                break;
+            }
+            String current = (String) result.get(1);
+            existingToken = current.isEmpty() ? null : current;
+        }
+        if (INDEX_CHANGED.equals(result.get(0))) {
+            throw new IllegalStateException("User token index kept changing while issuing: " + userKey);
+        }
+
+        TokenStatus status = QueueTokenHashCodec.decodeStatus((String) result.get(0));
+        Long rank = status == TokenStatus.WAITING ? (Long) result.get(1) : null;
+        AdmissionProgress admission = toAdmissionProgress((String) result.get(2), (String) result.get(3));
+
+        if (result.size() > 4) {
+            // 같은 사용자의 유효한 토큰이 이미 있어 재사용 (새 토큰은 저장되지 않음)
+            String existing = (String) result.get(4);
+            if (status == TokenStatus.WAITING && rank < 0) {
+                // 순번이 없는 (도입 이전) 대기 토큰은 샤드 병합 순위로 폴백
+                rank = getRankByToken(existing, concertId);
+            }
+            log.debug("Reused queue token: {} with status: {}, rank: {}", existing, status, rank);
+            String existingScore = (String) result.get(5);
+            return new IssuedToken(new QueueToken(
+                    null,
+                    existingScore.isEmpty() ? null : Long.parseLong(existingScore),
+                    queueToken.getUserId(),
+                    concertId,
+                    existing,
+                    status,
+                    QueueTokenHashCodec.decodeTime((String) result.get(6)),
+                    QueueTokenHashCodec.decodeTime((String) result.get(7))), rank, admission);
+        }
+
+        log.debug("Issued queue token: {} with status: {}, rank: {}", token, status, rank);
+
+        QueueToken issued = new QueueToken(
+                null,
+                score,
+                queueToken.getUserId(),
+                concertId,
+                token,
+                status,
+                status == TokenStatus.WAITING ? waitingExpiresAt : queueToken.getExpiresAt(),
+                createdAt);
+        return new IssuedToken(issued, rank, admission);
+    }
+
+    /**
+     * 고정 필드 HMGET(Lua)으로 토큰 조회 - 압축/이전 형식 Hash 모두 지원
+     */
+    @Override
+    @SuppressWarnings("unchecked")
     public Optional<QueueToken> findByToken(String token) {
-        String tokenKey = TOKEN_KEY_PREFIX + token;
+        List<String> result = queueRedisTemplate.execute(
+                QueueRedisScripts.READ_TOKEN,
+                List.of(TOKEN_KEY_PREFIX + token));
+        if (result == null || result.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(QueueTokenHashCodec.decode(token, result));
+    }
 
-        Map<Object, Object> entries = queueRedisTemplate.opsForHash().entries(tokenKey);
-        if (entries.isEmpty()) {
+    /**
+     * 토큰 Hash와 콘서트 입장 진행 상황을 Lua 스크립트 한 번으로 조회
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<TokenProgress> findProgressByToken(String token) {
+        List<String> result = queueRedisTemplate.execute(
+                QueueRedisScripts.TOKEN_STATUS,
+                List.of(TOKEN_KEY_PREFIX + token),
+                ADMISSION_KEY_PREFIX);
+        if (result == null || result.isEmpty()) {
             return Optional.empty();
         }
 
-        return Optional.of(mapToQueueToken(token, entries));
+        String seq = emptyToNull(result.get(6));
+        return Optional.of(new TokenProgress(
+                QueueTokenHashCodec.decode(token, result),
+                seq != null ? Long.parseLong(seq) : null,
+                toAdmissionProgress(result.get(7), result.get(8))));
     }
 
     @Override
@@ -119,18 +289,31 @@ public class RedisQueueTokenRepositoryImpl implements QueueTokenRepository {
 
     /**
      * 토큰의 대기열 순위를 반환 (0-indexed → 1-indexed 변환은 호출측에서)
+     * - 샤드가 여러 개이면 자기 샤드 순위에 다른 샤드에서 앞서는 토큰 수를 더함 (Lua 1회)
      */
     public Long getRankByToken(String token, Long concertId) {
-        return queueRedisTemplate.opsForZSet().rank(WAITING_KEY_PREFIX + concertId, token);
+        if (waitingShards == 1) {
+            return queueRedisTemplate.opsForZSet().rank(WAITING_KEY_PREFIX + concertId, token);
+        }
+        List<String> keys = new ArrayList<>();
+        keys.add(waitingKey(concertId, token));
+        keys.addAll(waitingKeys(concertId));
+        return queueRedisTemplate.execute(QueueRedisScripts.WAITING_RANK, keys, token);
     }
 
     @Override
     public long countByStatusAndConcertId(TokenStatus status, Long concertId) {
         if (status == TokenStatus.WAITING) {
-            Long size = queueRedisTemplate.opsForZSet().size(WAITING_KEY_PREFIX + concertId);
-            return size != null ? size : 0;
+            long total = 0;
+            for (String key : waitingKeys(concertId)) {
+                Long size = queueRedisTemplate.opsForZSet().size(key);
+                total += size != null ? size : 0;
+            }
+            return total;
         } else if (status == TokenStatus.ACTIVE) {
-            Long size = queueRedisTemplate.opsForSet().size(ACTIVE_KEY_PREFIX + concertId);
+            // 아직 정리되지 않은 만료 멤버는 제외하고 집계
+            Long size = queueRedisTemplate.opsForZSet()
+                    .count(ACTIVE_KEY_PREFIX + concertId, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
             return size != null ? size : 0;
         }
         return 0;
@@ -143,59 +326,185 @@ public class RedisQueueTokenRepositoryImpl implements QueueTokenRepository {
             return List.of();
         }
 
-        // ZRANGE로 상위 N개 토큰 조회 (score 오름차순)
-        Set<String> tokens = queueRedisTemplate.opsForZSet()
-                .range(WAITING_KEY_PREFIX + concertId, 0, limit - 1);
-
-        if (tokens == null || tokens.isEmpty()) {
+        // 샤드별 ZRANGE로 상위 N개씩 조회 후 score 오름차순으로 병합 (같은 score는 앞 번호 샤드 우선)
+        List<TypedTuple<String>> candidates = new ArrayList<>();
+        for (String key : waitingKeys(concertId)) {
+            Set<TypedTuple<String>> tuples = queueRedisTemplate.opsForZSet().rangeWithScores(key, 0, limit - 1);
+            if (tuples != null) {
+                candidates.addAll(tuples);
+            }
+        }
+        if (candidates.isEmpty()) {
             return List.of();
         }
+        candidates.sort(Comparator.comparing(TypedTuple::getScore));
 
         List<QueueToken> result = new ArrayList<>();
-        for (String token : tokens) {
-            findByToken(token).ifPresent(result::add);
+        for (TypedTuple<String> candidate : candidates.subList(0, Math.min(limit, candidates.size()))) {
+            findByToken(candidate.getValue()).ifPresent(result::add);
         }
 
         return result;
     }
 
+    /**
+     * Lua 스크립트로 만료 정리 → ZCARD → ZPOPMIN → HSET/ZADD를 콘서트당 단일 왕복으로 실행
+     * - 토큰별 HGETALL/save 반복 없이 빈 슬롯(및 버킷 토큰)만큼 일괄 활성화
+     * - 결제 없이 방치된 활성 토큰은 매 주기 ZREMRANGEBYSCORE로 일괄 회수되어 슬롯을 점유하지 않음
+     * - 활성화한 토큰의 만료 시각은 지금 + activeTtl (대기 시간과 무관)
+     * - 대기열 샤드는 스크립트 안에서 score 순으로 병합하여 전체 순서를 유지
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> activateWaitingTokens(Long concertId, AdmissionPolicy policy) {
+        List<String> keys = new ArrayList<>(List.of(ACTIVE_KEY_PREFIX + concertId, CONCERT_REGISTRY_KEY,
+                BUCKET_KEY_PREFIX + concertId, ADMISSION_KEY_PREFIX + concertId));
+        keys.addAll(waitingKeys(concertId));
+
+        List<String> activated = queueRedisTemplate.execute(
+                QueueRedisScripts.ACTIVATE_WAITING,
+                keys,
+                String.valueOf(policy.maxActiveTokens()),
+                TOKEN_KEY_PREFIX,
+                String.valueOf(concertId),
+                String.valueOf(policy.ratePerSecond()),
+                String.valueOf(policy.burst()),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(activeTtl.toMillis()));
+
+        return activated != null ? activated : List.of();
+    }
+
+    /**
+     * 콘서트별 입장 진행 상황을 파이프라인 HMGET으로 한 번에 조회
+     */
+    @Override
+    public Map<Long, AdmissionProgress> getAdmissionProgress(Collection<Long> concertIds) {
+        if (concertIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> ids = new ArrayList<>(concertIds);
+        byte[] watermarkField = "watermark".getBytes(StandardCharsets.UTF_8);
+        byte[] rateField = "rate".getBytes(StandardCharsets.UTF_8);
+        List<Object> results = queueRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long id : ids) {
+                connection.hashCommands().hMGet(
+                        (ADMISSION_KEY_PREFIX + id).getBytes(StandardCharsets.UTF_8), watermarkField, rateField);
+            }
+            return null;
+        });
+
+        Map<Long, AdmissionProgress> progress = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            List<?> values = (List<?>) results.get(i);
+            progress.put(ids.get(i), toAdmissionProgress((String) values.get(0), (String) values.get(1)));
+        }
+        return progress;
+    }
+
     /**
      * 활성 콘서트 ID 목록 조회 (대기열이 있는 콘서트)
+     * - KEYS 스캔 대신 레지스트리 SET을 조회하여 키스페이스 크기와 무관하게 O(콘서트 수)
      */
+    @Override
     public Set<Long> getActiveConcertIds() {
-        Set<String> keys = queueRedisTemplate.keys(WAITING_KEY_PREFIX + "*");
-        if (keys == null || keys.isEmpty()) {
+        Set<String> members = queueRedisTemplate.opsForSet().members(CONCERT_REGISTRY_KEY);
+        if (members == null || members.isEmpty()) {
             return Set.of();
         }
 
         Set<Long> concertIds = new HashSet<>();
-        for (String key : keys) {
-            String concertIdStr = key.replace(WAITING_KEY_PREFIX, "");
+        for (String member : members) {
             try {
-                concertIds.add(Long.parseLong(concertIdStr));
+                concertIds.add(Long.parseLong(member));
             } catch (NumberFormatException e) {
-                log.warn("Invalid concert ID in key: {}", key);
+                log.warn("Invalid concert ID in registry: {}", member);
             }
         }
         return concertIds;
     }
 
-    private QueueToken mapToQueueToken(String token, Map<Object, Object> entries) {
-        Long userId = Long.parseLong((String) entries.get("userId"));
-        Long concertId = Long.parseLong((String) entries.get("concertId"));
-        TokenStatus status = TokenStatus.valueOf((String) entries.get("status"));
-        Long score = entries.get("score") != null ? Long.parseLong((String) entries.get("score")) : null;
+    /**
+     * SCAN으로 대기열 키를 순회하여 레지스트리 누락분을 복구
+     * - 레지스트리 도입 이전 데이터나 유실된 등록을 보정하는 용도 (Redis를 블로킹하지 않음)
+     */
+    @Override
+    public int reconcileActiveConcertIds() {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(WAITING_KEY_PREFIX + "*")
+                .count(SCAN_COUNT)
+                .build();
+
+        Set<String> concertIds = new HashSet<>();
+        try (Cursor<String> cursor = queueRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                // queue:waiting:{concertId} 또는 queue:waiting:{concertId}:{shard}
+                String concertIdStr = key.substring(WAITING_KEY_PREFIX.length()).split(":", 2)[0];
+                try {
+                    Long.parseLong(concertIdStr);
+                    concertIds.add(concertIdStr);
+                } catch (NumberFormatException e) {
+                    log.warn("Invalid concert ID in key: {}", key);
+                }
+            }
+        }
+
+        if (concertIds.isEmpty()) {
+            return 0;
+        }
+
+        Long added = queueRedisTemplate.opsForSet()
+                .add(CONCERT_REGISTRY_KEY, concertIds.toArray(String[]::new));
+        return added != null ? added.intValue() : 0;
+    }
+
+    /**
+     * 토큰이 배정된 대기열 샤드 키 (토큰 문자열 해시 기준, 샤드 수가 같으면 항상 같은 샤드)
+     */
+    private String waitingKey(Long concertId, String token) {
+        return shardKey(concertId, Math.floorMod(token.hashCode(), waitingShards));
+    }
+
+    private List<String> waitingKeys(Long concertId) {
+        List<String> keys = new ArrayList<>(waitingShards);
+        for (int shard = 0; shard < waitingShards; shard++) {
+            keys.add(shardKey(concertId, shard));
+        }
+        return keys;
+    }
+
+    private String shardKey(Long concertId, int shard) {
+        // 0번 샤드는 샤딩 도입 이전 키를 그대로 사용하여 기존 대기자가 병합 대상에 남도록 함
+        return shard == 0 ? WAITING_KEY_PREFIX + concertId : WAITING_KEY_PREFIX + concertId + ":" + shard;
+    }
 
-        LocalDateTime expiresAt = null;
-        if (entries.get("expiresAt") != null) {
-            expiresAt = LocalDateTime.parse((String) entries.get("expiresAt"), DATE_FORMATTER);
+    /**
+     * 샤드 수 변경 전후로 배정이 달라질 수 있으므로 모든 샤드에서 제거
+     */
+    private void removeFromWaiting(Long concertId, String token) {
+        for (String key : waitingKeys(concertId)) {
+            queueRedisTemplate.opsForZSet().remove(key, token);
         }
+    }
 
-        LocalDateTime createdAt = null;
-        if (entries.get("createdAt") != null) {
-            createdAt = LocalDateTime.parse((String) entries.get("createdAt"), DATE_FORMATTER);
+    private AdmissionProgress toAdmissionProgress(String watermark, String rate) {
+        watermark = emptyToNull(watermark);
+        rate = emptyToNull(rate);
+        if (watermark == null && rate == null) {
+            return AdmissionProgress.EMPTY;
         }
+        return new AdmissionProgress(
+                watermark != null ? Long.parseLong(watermark) : 0,
+                rate != null ? Double.parseDouble(rate) : 0);
+    }
+
+    private String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
 
-        return new QueueToken(null, score, userId, concertId, token, status, expiresAt, createdAt);
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return QueueTokenHashCodec.toEpochMillis(dateTime);
     }
 }
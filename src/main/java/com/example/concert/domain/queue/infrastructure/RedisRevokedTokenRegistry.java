@@ -0,0 +1,90 @@
+package com.example.concert.domain.queue.infrastructure;
+
+import com.example.concert.domain.queue.repository.RevokedTokenRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 기반 RevokedTokenRegistry 구현체
+ *
+ * 키 구조:
+ * - queue:revoked → ZSET { token: score(원래 만료 시각 epochMillis) }
+ *
+ * 검증 경로에서 Redis를 조회하지 않도록 로컬 사본을 유지합니다.
+ * - 폐기 시 Pub/Sub 채널(queue:token:revoked)로 모든 인스턴스에 즉시 반영
+ * - 주기적으로 전체 목록을 다시 읽어 유실된 메시지를 보정 (만료 시각이 지난 항목은 ZREMRANGEBYSCORE로 정리)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisRevokedTokenRegistry implements RevokedTokenRegistry, MessageListener {
+
+    private static final String REVOKED_KEY = "queue:revoked";
+    private static final String REVOKED_CHANNEL = "queue:token:revoked";
+
+    private final RedisTemplate<String, String> queueRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final Set<String> revoked = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(REVOKED_CHANNEL));
+        refresh();
+    }
+
+    @Override
+    public void revoke(String token, LocalDateTime expiresAt) {
+        long expiresAtMillis = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        queueRedisTemplate.opsForZSet().add(REVOKED_KEY, token, expiresAtMillis);
+        revoked.add(token);
+        queueRedisTemplate.convertAndSend(REVOKED_CHANNEL, token);
+    }
+
+    @Override
+    public boolean isRevoked(String token) {
+        return revoked.contains(token);
+    }
+
+    /**
+     * 전체 목록을 로컬 사본에 합침 (사본을 통째로 바꾸지 않음)
+     * - 다시 읽는 동안 Pub/Sub으로 들어온 폐기는 읽기 전 사본에 없으므로 제거 대상이 아님
+     * - 읽기 전에 있었는데 Redis 목록에 없는 항목만 제거 (만료 시각이 지나 ZREMRANGEBYSCORE로 정리된 토큰)
+     */
+    @Override
+    public void refresh() {
+        Set<String> before = Set.copyOf(revoked);
+        long now = System.currentTimeMillis();
+        queueRedisTemplate.opsForZSet().removeRangeByScore(REVOKED_KEY, Double.NEGATIVE_INFINITY, now);
+        Set<String> members = queueRedisTemplate.opsForZSet().rangeByScore(REVOKED_KEY, now, Double.POSITIVE_INFINITY);
+        if (members == null) {
+            return;
+        }
+
+        revoked.addAll(members);
+        for (String token : before) {
+            if (!members.contains(token)) {
+                revoked.remove(token);
+            }
+        }
+        log.debug("Refreshed revoked token registry: {} tokens", revoked.size());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        revoked.add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/v1/queue")
@@ -16,6 +17,7 @@ public class QueueController {
 
         private final IssueTokenUseCase issueTokenUseCase;
         private final GetTokenStatusUseCase getTokenStatusUseCase;
+        private final QueuePositionBroadcaster queuePositionBroadcaster;
 
         @PostMapping("/tokens")
         public ResponseEntity<ApiResponse<TokenResponse>> issueToken(
@@ -45,6 +47,15 @@ public class QueueController {
                                 result.estimatedWaitTime())));
         }
 
+        /**
+         * 대기 순위 SSE 스트림 - 폴링 대신 입장 주기마다 순위 변화를 푸시
+         * (EventSource는 커스텀 헤더를 보낼 수 없으므로 토큰을 쿼리 파라미터로 받음)
+         */
+        @GetMapping("/status/stream")
+        public SseEmitter streamStatus(@RequestParam("token") String token) {
+                return queuePositionBroadcaster.subscribe(token);
+        }
+
         // ===== DTOs =====
         public record TokenRequest(
                         @NotNull(message = "userId는 필수입니다") Long userId,
@@ -0,0 +1,198 @@
+package com.example.concert.domain.queue.interfaces;
+
+import com.example.concert.domain.queue.entity.AdmissionProgress;
+import com.example.concert.domain.queue.usecase.GetTokenStatusUseCase.TokenStatusResult;
+import com.example.concert.domain.queue.usecase.TokenNotFoundException;
+import com.example.concert.domain.queue.usecase.TrackQueuePositionUseCase;
+import com.example.concert.domain.queue.usecase.TrackQueuePositionUseCase.QueuePosition;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대기 순위 SSE 푸시
+ *
+ * 구독자를 콘서트별로 묶어 두고, 입장 주기마다 콘서트별 입장 진행 상황을 한 번에 조회(파이프라인)하여
+ * 순위가 바뀐 구독자에게만 이벤트를 보냅니다. ACTIVE/EXPIRED로 전환되면 마지막 이벤트를 보내고 스트림을 닫습니다.
+ *
+ * 순위 계산은 스케줄러 스레드에서, 이벤트 전송은 전용 스레드 풀(크기/대기열 제한)에서 수행하여
+ * 느리거나 반쯤 끊긴 클라이언트가 입장 처리 등 다른 스케줄 작업을 지연시키지 않도록 합니다.
+ * - 이전 이벤트를 send-timeout-ms 안에 보내지 못한 구독자는 구독 목록에서 제외 (막힌 전송은 소켓 오류로 종료)
+ * - 전송 대기열이 가득 차면 해당 구독자의 스트림을 닫음 (클라이언트가 재연결)
+ */
+@Slf4j
+@Component
+public class QueuePositionBroadcaster {
+
+    private static final String EVENT_NAME = "position";
+
+    private final TrackQueuePositionUseCase trackQueuePositionUseCase;
+    private final long timeoutMillis;
+    private final long sendTimeoutMillis;
+    private final ThreadPoolExecutor sendExecutor;
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    public QueuePositionBroadcaster(
+            TrackQueuePositionUseCase trackQueuePositionUseCase,
+            @Value("${queue.position-stream.timeout-ms:1800000}") long timeoutMillis,
+            @Value("${queue.position-stream.send-threads:4}") int sendThreads,
+            @Value("${queue.position-stream.send-queue-capacity:10000}") int sendQueueCapacity,
+            @Value("${queue.position-stream.send-timeout-ms:5000}") long sendTimeoutMillis) {
+        this.trackQueuePositionUseCase = trackQueuePositionUseCase;
+        this.timeoutMillis = timeoutMillis;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        this.sendExecutor = new ThreadPoolExecutor(sendThreads, sendThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(sendQueueCapacity),
+                Thread.ofPlatform().name("queue-position-send-", 0).daemon().factory());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sendExecutor.shutdownNow();
+    }
+
+    public SseEmitter subscribe(String token) {
+        QueuePosition position = trackQueuePositionUseCase.start(token);
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+
+        if (!send(emitter, position.status())) {
+            return emitter;
+        }
+        if (!position.isWaiting()) {
+            emitter.complete();
+            return emitter;
+        }
+
+        Subscriber subscriber = new Subscriber(emitter, position);
+        subscribers.compute(position.concertId(), (id, set) -> {
+            Set<Subscriber> concertSubscribers = set != null ? set : ConcurrentHashMap.newKeySet();
+            concertSubscribers.add(subscriber);
+            return concertSubscribers;
+        });
+        emitter.onCompletion(() -> remove(position.concertId(), subscriber));
+        emitter.onTimeout(() -> remove(position.concertId(), subscriber));
+        emitter.onError(e -> remove(position.concertId(), subscriber));
+        return emitter;
+    }
+
+    /**
+     * 입장 주기마다 콘서트별 순위 변화를 계산하여 전파
+     */
+    @Scheduled(fixedDelayString = "${queue.admission.interval-ms:1000}")
+    public void broadcast() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        Map<Long, AdmissionProgress> progress = trackQueuePositionUseCase.admissionProgress(subscribers.keySet());
+        subscribers.forEach((concertId, concertSubscribers) -> {
+            AdmissionProgress concertProgress = progress.getOrDefault(concertId, AdmissionProgress.EMPTY);
+            for (Subscriber subscriber : concertSubscribers) {
+                advance(concertId, subscriber, concertProgress);
+            }
+        });
+    }
+
+    private void advance(Long concertId, Subscriber subscriber, AdmissionProgress progress) {
+        long sendStartedAt = subscriber.sendStartedAt;
+        if (sendStartedAt != 0) {
+            // 이전 이벤트 전송 중 - 제한 시간을 넘기면 느린 클라이언트로 보고 제외, 아니면 다음 주기에 다시 계산
+            if (System.currentTimeMillis() - sendStartedAt > sendTimeoutMillis) {
+                log.debug("Dropping slow queue position subscriber: concertId={}", concertId);
+                remove(concertId, subscriber);
+            }
+            return;
+        }
+
+        QueuePosition next;
+        try {
+            next = trackQueuePositionUseCase.advance(subscriber.position, progress);
+        } catch (TokenNotFoundException e) {
+            // 대기 중 토큰이 만료(TTL)되어 사라진 경우
+            subscriber.emitter.complete();
+            remove(concertId, subscriber);
+            return;
+        }
+
+        boolean changed = !next.status().equals(subscriber.position.status());
+        subscriber.position = next;
+        if (changed || !next.isWaiting()) {
+            dispatch(concertId, subscriber, changed ? next.status() : null, !next.isWaiting());
+        }
+    }
+
+    /**
+     * 전송 스레드 풀에서 이벤트 전송 (status가 null이면 전송 없이 종료만)
+     */
+    private void dispatch(Long concertId, Subscriber subscriber, TokenStatusResult status, boolean last) {
+        subscriber.sendStartedAt = System.currentTimeMillis();
+        try {
+            sendExecutor.execute(() -> {
+                boolean sent = status == null || send(subscriber.emitter, status);
+                subscriber.sendStartedAt = 0;
+                if (!sent) {
+                    remove(concertId, subscriber);
+                } else if (last) {
+                    subscriber.emitter.complete();
+                    remove(concertId, subscriber);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 전송이 밀려 대기열이 가득 참 - 진행 중인 전송이 없으므로 바로 닫고 재연결을 유도
+            log.warn("Queue position send queue is full, closing stream: concertId={}", concertId);
+            subscriber.sendStartedAt = 0;
+            subscriber.emitter.complete();
+            remove(concertId, subscriber);
+        }
+    }
+
+    private boolean send(SseEmitter emitter, TokenStatusResult status) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(EVENT_NAME)
+                    .data(new QueueController.TokenResponse(
+                            status.token(),
+                            status.status(),
+                            status.rank(),
+                            status.estimatedWaitTime()), MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료
+            log.debug("Failed to send queue position: {}", e.getMessage());
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void remove(Long concertId, Subscriber subscriber) {
+        subscribers.computeIfPresent(concertId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private volatile QueuePosition position;
+        /** 진행 중인 전송의 시작 시각 (0 = 전송 중 아님) */
+        private volatile long sendStartedAt;
+
+        private Subscriber(SseEmitter emitter, QueuePosition position) {
+            this.emitter = emitter;
+            this.position = position;
+        }
+    }
+}
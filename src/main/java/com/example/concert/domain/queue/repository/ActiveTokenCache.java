@@ -0,0 +1,27 @@
+package com.example.concert.domain.queue.repository;
+
+import com.example.concert.domain.queue.entity.QueueToken;
+
+import java.util.Optional;
+
+/**
+ * 검증을 통과한 ACTIVE 토큰의 프로세스 로컬 캐시 (Near Cache)
+ *
+ * 토큰 검증은 모든 예약/결제/조회 요청마다 수행되므로, 반복 요청은 Redis 조회 없이 처리합니다.
+ * 짧은 TTL로 보관하며, 토큰 만료 시 모든 인스턴스에 무효화를 전파합니다.
+ */
+public interface ActiveTokenCache {
+
+    Optional<QueueToken> get(String token);
+
+    void put(QueueToken queueToken);
+
+    /**
+     * 로컬 캐시에서 제거하고 다른 인스턴스에도 무효화를 전파
+     */
+    void evict(String token);
+
+    long hitCount();
+
+    long missCount();
+}
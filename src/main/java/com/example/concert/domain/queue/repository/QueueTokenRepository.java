@@ -1,16 +1,30 @@
 package com.example.concert.domain.queue.repository;
 
+import com.example.concert.domain.queue.entity.AdmissionPolicy;
+import com.example.concert.domain.queue.entity.AdmissionProgress;
 import com.example.concert.domain.queue.entity.QueueToken;
 import com.example.concert.domain.queue.entity.TokenStatus;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 public interface QueueTokenRepository {
     Optional<QueueToken> findByToken(String token);
 
+    /**
+     * 토큰과 해당 콘서트의 입장 진행 상황을 함께 조회 (단일 왕복, 대기열 ZSET 조회 없음)
+     */
+    Optional<TokenProgress> findProgressByToken(String token);
+
     QueueToken save(QueueToken queueToken);
 
+    /**
+     * 토큰 발급, 입장 정책 여유 시 즉시 활성화, 대기열 순위 조회를 한 번의 왕복으로 원자적으로 수행
+     */
+    IssuedToken issueAndRank(QueueToken queueToken, AdmissionPolicy policy);
+
     long countByStatusAndIdLessThan(TokenStatus status, Long id);
 
     long countByStatusAndConcertIdAndIdLessThan(TokenStatus status, Long concertId, Long id);
@@ -19,13 +33,41 @@ public interface QueueTokenRepository {
 
     List<QueueToken> findTopNByStatusAndConcertIdOrderByIdAsc(TokenStatus status, Long concertId, int limit);
 
+    /**
+     * 입장 정책(빈 활성 슬롯, 입장 속도)이 허용하는 만큼 대기열 상위 토큰을 꺼내 일괄 활성화하고,
+     * 활성화된 토큰 목록을 반환
+     */
+    List<String> activateWaitingTokens(Long concertId, AdmissionPolicy policy);
+
     /**
      * Redis ZRANK를 통해 토큰의 대기열 순위를 반환 (0-indexed)
      */
     Long getRankByToken(String token, Long concertId);
 
+    /**
+     * 콘서트별 입장 진행 상황(watermark, 실측 입장 속도)을 반환 (기록이 없으면 AdmissionProgress.EMPTY)
+     */
+    Map<Long, AdmissionProgress> getAdmissionProgress(Collection<Long> concertIds);
+
     /**
      * 대기열이 있는 콘서트 ID 목록을 반환
      */
     Set<Long> getActiveConcertIds();
+
+    /**
+     * 대기열 키를 SCAN하여 콘서트 레지스트리 누락분을 복구하고, 새로 등록된 콘서트 수를 반환
+     */
+    int reconcileActiveConcertIds();
+
+    /**
+     * issueAndRank 결과 (rank는 0-indexed, ACTIVE로 발급된 경우 null, admission은 같은 왕복에서 읽은 입장 진행 상황)
+     */
+    record IssuedToken(QueueToken queueToken, Long rank, AdmissionProgress admission) {
+    }
+
+    /**
+     * findProgressByToken 결과 (sequence는 대기 등록 순번, 순번 도입 이전 토큰이나 즉시 활성화된 토큰은 null)
+     */
+    record TokenProgress(QueueToken queueToken, Long sequence, AdmissionProgress admission) {
+    }
 }
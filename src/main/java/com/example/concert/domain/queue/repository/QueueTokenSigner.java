@@ -0,0 +1,32 @@
+package com.example.concert.domain.queue.repository;
+
+import com.example.concert.domain.queue.entity.QueueToken;
+
+import java.util.Optional;
+
+/**
+ * 자체 검증 가능한 서명 토큰 발급/검증
+ *
+ * ACTIVE 토큰의 userId, concertId, 상태와 상태 부여 시각, 만료 시각을 서명하여 클라이언트에 전달하면,
+ * 이후 검증은 Redis 조회 없이 서명 확인만으로 수행할 수 있습니다. (폐기 여부는 RevokedTokenRegistry로 확인)
+ */
+public interface QueueTokenSigner {
+
+    /**
+     * 서명 토큰 모드 활성화 여부
+     */
+    boolean isEnabled();
+
+    /**
+     * 서명 토큰 형식인지 확인 (모드가 꺼져 있으면 항상 false)
+     */
+    boolean isSigned(String token);
+
+    String sign(QueueToken queueToken);
+
+    /**
+     * 서명을 검증하고 토큰 정보를 복원 (token 필드는 원본 토큰 ID)
+     * 형식이 잘못되었거나 서명이 일치하지 않으면 빈 값
+     */
+    Optional<QueueToken> verify(String signedToken);
+}
@@ -0,0 +1,23 @@
+package com.example.concert.domain.queue.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 시각 전에 폐기된 토큰 목록
+ *
+ * 서명 토큰은 자체적으로 유효성을 증명하므로, 결제 완료 등으로 조기 만료된 토큰만 별도로 관리합니다.
+ */
+public interface RevokedTokenRegistry {
+
+    /**
+     * 토큰 폐기 (원래 만료 시각이 지나면 목록에서 정리됨)
+     */
+    void revoke(String token, LocalDateTime expiresAt);
+
+    boolean isRevoked(String token);
+
+    /**
+     * 저장소의 폐기 목록과 로컬 사본을 동기화
+     */
+    void refresh();
+}
@@ -1,7 +1,6 @@
 package com.example.concert.domain.queue.usecase;
 
-import com.example.concert.domain.queue.entity.QueueToken;
-import com.example.concert.domain.queue.entity.TokenStatus;
+import com.example.concert.domain.queue.entity.AdmissionPolicy;
 import com.example.concert.domain.queue.repository.QueueTokenRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,36 +13,31 @@ import java.util.Set;
 @Service
 @RequiredArgsConstructor
 public class ActivateTokenUseCase {
-    private static final int MAX_ACTIVE_TOKENS_PER_CONCERT = 50;
-
     private final QueueTokenRepository queueTokenRepository;
+    private final AdmissionPolicy admissionPolicy;
 
     public int execute() {
-        // Redis 키 스캔으로 대기열이 있는 콘서트 ID 조회
+        // 대기열이 있는 콘서트 ID 조회 (레지스트리 SET)
         Set<Long> concertIds = queueTokenRepository.getActiveConcertIds();
         int totalActivated = 0;
 
         for (Long concertId : concertIds) {
-            long activeCount = queueTokenRepository.countByStatusAndConcertId(
-                    TokenStatus.ACTIVE, concertId);
-            int slotsAvailable = (int) (MAX_ACTIVE_TOKENS_PER_CONCERT - activeCount);
-
-            if (slotsAvailable > 0) {
-                List<QueueToken> waitingTokens = queueTokenRepository
-                        .findTopNByStatusAndConcertIdOrderByIdAsc(
-                                TokenStatus.WAITING, concertId, slotsAvailable);
+            totalActivated += execute(concertId);
+        }
+        return totalActivated;
+    }
 
-                for (QueueToken token : waitingTokens) {
-                    token.activate();
-                    queueTokenRepository.save(token);
-                    totalActivated++;
-                }
+    /**
+     * 단일 콘서트 입장 처리
+     * - 스케줄러 주기 외에도 슬롯이 반납되는 즉시(결제 완료, 토큰 만료) 호출하여 빈 슬롯을 채움
+     */
+    public int execute(Long concertId) {
+        // 빈 슬롯/버킷 계산 + 대기열 pop + 활성화를 단일 왕복으로 처리
+        List<String> activated = queueTokenRepository.activateWaitingTokens(concertId, admissionPolicy);
 
-                if (!waitingTokens.isEmpty()) {
-                    log.debug("Activated {} tokens for concert {}", waitingTokens.size(), concertId);
-                }
-            }
+        if (!activated.isEmpty()) {
+            log.debug("Activated {} tokens for concert {}", activated.size(), concertId);
         }
-        return totalActivated;
+        return activated.size();
     }
 }
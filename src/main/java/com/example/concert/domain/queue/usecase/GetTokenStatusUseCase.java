@@ -1,55 +1,91 @@
 package com.example.concert.domain.queue.usecase;
 
+import com.example.concert.domain.queue.entity.AdmissionPolicy;
 import com.example.concert.domain.queue.entity.QueueToken;
 import com.example.concert.domain.queue.entity.TokenStatus;
 import com.example.concert.domain.queue.repository.QueueTokenRepository;
+import com.example.concert.domain.queue.repository.QueueTokenRepository.TokenProgress;
+import com.example.concert.domain.queue.repository.QueueTokenSigner;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class GetTokenStatusUseCase {
-        private static final int ESTIMATED_PROCESSING_TIME_PER_USER_SECONDS = 2;
-
         private final QueueTokenRepository queueTokenRepository;
+        private final QueueTokenSigner queueTokenSigner;
+        private final AdmissionPolicy admissionPolicy;
 
         public TokenStatusResult execute(String token) {
                 if (token == null || token.isBlank()) {
                         throw new TokenNotFoundException("null or empty");
                 }
 
-                QueueToken queueToken = queueTokenRepository.findByToken(token)
+                // 서명 토큰이면 원본 토큰 ID로 조회
+                String tokenId = queueTokenSigner.isSigned(token)
+                                ? queueTokenSigner.verify(token).map(QueueToken::getToken)
+                                                .orElseThrow(() -> new TokenNotFoundException(token))
+                                : token;
+
+                // 토큰 + 콘서트 입장 진행 상황을 단일 왕복으로 조회
+                TokenProgress progress = queueTokenRepository.findProgressByToken(tokenId)
                                 .orElseThrow(() -> new TokenNotFoundException(token));
+                QueueToken queueToken = progress.queueToken();
 
                 return switch (queueToken.getStatus()) {
                         case ACTIVE -> new TokenStatusResult(
-                                        queueToken.getToken(),
+                                        activeToken(token, queueToken),
                                         TokenStatus.ACTIVE.name(),
                                         0,
-                                        0);
+                                        0,
+                                        queueToken.getConcertId());
                         case EXPIRED -> new TokenStatusResult(
                                         queueToken.getToken(),
                                         TokenStatus.EXPIRED.name(),
                                         0,
-                                        0);
+                                        0,
+                                        queueToken.getConcertId());
                         case WAITING -> {
-                                // Redis ZRANK로 순위 조회 (0-indexed → 1-indexed)
-                                Long zrank = queueTokenRepository.getRankByToken(token, queueToken.getConcertId());
-                                long rank = zrank != null ? zrank + 1 : 1;
-                                long estimatedWaitTime = rank * ESTIMATED_PROCESSING_TIME_PER_USER_SECONDS;
+                                long rank = rankOf(tokenId, progress);
+                                long estimatedWaitTime = progress.admission()
+                                                .estimateWaitSeconds(rank, admissionPolicy);
                                 yield new TokenStatusResult(
                                                 queueToken.getToken(),
                                                 TokenStatus.WAITING.name(),
                                                 rank,
-                                                estimatedWaitTime);
+                                                estimatedWaitTime,
+                                                queueToken.getConcertId());
                         }
                 };
         }
 
+        /**
+         * 대기 순번과 입장 watermark의 차이로 순위를 근사 (ZSET 조회 없음)
+         * 순번이 없는 (도입 이전) 토큰만 ZRANK로 조회 (0-indexed → 1-indexed)
+         */
+        private long rankOf(String tokenId, TokenProgress progress) {
+                if (progress.sequence() != null) {
+                        return progress.admission().rankOf(progress.sequence());
+                }
+                Long zrank = queueTokenRepository.getRankByToken(tokenId, progress.queueToken().getConcertId());
+                return zrank != null ? zrank + 1 : 1;
+        }
+
+        /**
+         * 서명 토큰 모드에서는 활성화된 대기 토큰을 서명 토큰으로 교환하여 반환
+         */
+        private String activeToken(String requestedToken, QueueToken queueToken) {
+                if (!queueTokenSigner.isEnabled() || queueTokenSigner.isSigned(requestedToken)) {
+                        return requestedToken;
+                }
+                return queueTokenSigner.sign(queueToken);
+        }
+
         public record TokenStatusResult(
                         String token,
                         String status,
                         long rank,
-                        long estimatedWaitTime) {
+                        long estimatedWaitTime,
+                        Long concertId) {
         }
 }
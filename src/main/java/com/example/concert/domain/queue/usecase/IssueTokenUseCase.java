@@ -1,21 +1,34 @@
 package com.example.concert.domain.queue.usecase;
 
+import com.example.concert.domain.queue.entity.AdmissionPolicy;
 import com.example.concert.domain.queue.entity.QueueToken;
 import com.example.concert.domain.queue.entity.TokenStatus;
 import com.example.concert.domain.queue.repository.QueueTokenRepository;
-import lombok.RequiredArgsConstructor;
+import com.example.concert.domain.queue.repository.QueueTokenRepository.IssuedToken;
+import com.example.concert.domain.queue.repository.QueueTokenSigner;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 @Service
-@RequiredArgsConstructor
 public class IssueTokenUseCase {
-    private static final int TOKEN_EXPIRY_MINUTES = 30;
-    private static final int ESTIMATED_PROCESSING_TIME_PER_USER_SECONDS = 2;
-    private static final int MAX_ACTIVE_TOKENS_PER_CONCERT = 50;
-
     private final QueueTokenRepository queueTokenRepository;
+    private final AdmissionPolicy admissionPolicy;
+    private final QueueTokenSigner queueTokenSigner;
+    private final long activeTtlMillis;
+
+    public IssueTokenUseCase(
+            QueueTokenRepository queueTokenRepository,
+            AdmissionPolicy admissionPolicy,
+            QueueTokenSigner queueTokenSigner,
+            @Value("${queue.token.active-ttl-ms:1800000}") long activeTtlMillis) {
+        this.queueTokenRepository = queueTokenRepository;
+        this.admissionPolicy = admissionPolicy;
+        this.queueTokenSigner = queueTokenSigner;
+        this.activeTtlMillis = activeTtlMillis;
+    }
 
     public IssueTokenResult execute(Long userId, Long concertId) {
         if (userId == null) {
@@ -25,29 +38,31 @@ public class IssueTokenUseCase {
             throw new IllegalArgumentException("concertId cannot be null");
         }
 
-        long activeCount = queueTokenRepository.countByStatusAndConcertId(TokenStatus.ACTIVE, concertId);
-        boolean shouldActivateImmediately = activeCount < MAX_ACTIVE_TOKENS_PER_CONCERT;
-
-        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(TOKEN_EXPIRY_MINUTES);
+        // 즉시 활성화될 때의 만료 시각 (대기 등록되면 저장소가 대기 보관 기간을 적용하고 입장 시점에 다시 정함)
+        LocalDateTime expiresAt = LocalDateTime.now().plus(Duration.ofMillis(activeTtlMillis));
         QueueToken queueToken = new QueueToken(userId, concertId, expiresAt);
 
-        if (shouldActivateImmediately) {
-            queueToken.activate();
-        }
-
-        QueueToken savedToken = queueTokenRepository.save(queueToken);
+        // 발급 + 즉시 활성화 여부 판단 + 순위 조회를 단일 왕복으로 처리
+        IssuedToken issued = queueTokenRepository.issueAndRank(queueToken, admissionPolicy);
+        QueueToken savedToken = issued.queueToken();
 
         long rank = 0;
+        long estimatedWaitTime = 0;
         if (savedToken.getStatus() == TokenStatus.WAITING) {
-            // Redis ZRANK로 순위 조회 (0-indexed → 1-indexed)
-            Long zrank = queueTokenRepository.getRankByToken(savedToken.getToken(), concertId);
-            rank = zrank != null ? zrank + 1 : 1;
+            // 0-indexed → 1-indexed
+            rank = issued.rank() != null ? issued.rank() + 1 : 1;
+            // 상태 조회·SSE와 같은 실측 입장 속도로 예상 시간 계산
+            estimatedWaitTime = issued.admission().estimateWaitSeconds(rank, admissionPolicy);
         }
 
-        long estimatedWaitTime = rank * ESTIMATED_PROCESSING_TIME_PER_USER_SECONDS;
+        // 서명 토큰 모드에서 즉시 활성화된 경우 서명 토큰을 발급 (WAITING은 상태 조회 시 교환)
+        String token = savedToken.getToken();
+        if (queueTokenSigner.isEnabled() && savedToken.isActive()) {
+            token = queueTokenSigner.sign(savedToken);
+        }
 
         return new IssueTokenResult(
-                savedToken.getToken(),
+                token,
                 savedToken.getStatus().name(),
                 rank,
                 estimatedWaitTime);
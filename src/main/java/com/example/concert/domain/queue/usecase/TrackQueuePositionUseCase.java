@@ -0,0 +1,81 @@
+package com.example.concert.domain.queue.usecase;
+
+import com.example.concert.domain.queue.entity.AdmissionPolicy;
+import com.example.concert.domain.queue.entity.AdmissionProgress;
+import com.example.concert.domain.queue.entity.TokenStatus;
+import com.example.concert.domain.queue.repository.QueueTokenRepository;
+import com.example.concert.domain.queue.usecase.GetTokenStatusUseCase.TokenStatusResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대기 순위 푸시용 위치 추적
+ *
+ * 구독 시점의 순위와 콘서트 입장 watermark를 기준점으로 저장해 두고,
+ * 이후 입장 주기마다 watermark가 전진한 만큼 순위를 당겨 계산합니다.
+ * 대기열은 앞에서부터만 빠지므로 사용자별 ZRANK 없이 콘서트당 조회 한 번으로 충분합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TrackQueuePositionUseCase {
+    private final QueueTokenRepository queueTokenRepository;
+    private final GetTokenStatusUseCase getTokenStatusUseCase;
+    private final AdmissionPolicy admissionPolicy;
+
+    public QueuePosition start(String token) {
+        TokenStatusResult status = getTokenStatusUseCase.execute(token);
+
+        // 순위 조회 후 기준점을 읽으므로, 그 사이 입장이 있었다면 순위를 보수적으로(뒤로) 계산
+        long watermark = 0;
+        if (TokenStatus.WAITING.name().equals(status.status())) {
+            watermark = queueTokenRepository.getAdmissionProgress(List.of(status.concertId()))
+                    .getOrDefault(status.concertId(), AdmissionProgress.EMPTY)
+                    .watermark();
+        }
+        return new QueuePosition(token, status, status.rank(), watermark);
+    }
+
+    public Map<Long, AdmissionProgress> admissionProgress(Collection<Long> concertIds) {
+        return queueTokenRepository.getAdmissionProgress(concertIds);
+    }
+
+    /**
+     * 입장 진행 상황으로 순위와 예상 대기 시간을 갱신
+     * - 계산된 순위가 1 이상이면 Redis 조회 없이 반환
+     * - 맨 앞을 지났다면 실제 상태를 한 번 조회하여 ACTIVE/EXPIRED 전환 또는 순위를 재기준
+     */
+    public QueuePosition advance(QueuePosition position, AdmissionProgress progress) {
+        long rank = position.baseRank() - (progress.watermark() - position.baseWatermark());
+        if (rank > 0) {
+            TokenStatusResult current = position.status();
+            return new QueuePosition(position.token(), new TokenStatusResult(
+                    current.token(),
+                    TokenStatus.WAITING.name(),
+                    rank,
+                    progress.estimateWaitSeconds(rank, admissionPolicy),
+                    current.concertId()), position.baseRank(), position.baseWatermark());
+        }
+
+        TokenStatusResult fresh = getTokenStatusUseCase.execute(position.token());
+        return new QueuePosition(position.token(), fresh, fresh.rank(), progress.watermark());
+    }
+
+    public record QueuePosition(
+            String token,
+            TokenStatusResult status,
+            long baseRank,
+            long baseWatermark) {
+
+        public Long concertId() {
+            return status.concertId();
+        }
+
+        public boolean isWaiting() {
+            return TokenStatus.WAITING.name().equals(status.status());
+        }
+    }
+}
@@ -1,20 +1,42 @@
 package com.example.concert.domain.queue.usecase;
 
 import com.example.concert.domain.queue.entity.QueueToken;
+import com.example.concert.domain.queue.repository.ActiveTokenCache;
 import com.example.concert.domain.queue.repository.QueueTokenRepository;
+import com.example.concert.domain.queue.repository.QueueTokenSigner;
+import com.example.concert.domain.queue.repository.RevokedTokenRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class ValidateTokenUseCase {
     private final QueueTokenRepository queueTokenRepository;
+    private final ActiveTokenCache activeTokenCache;
+    private final QueueTokenSigner queueTokenSigner;
+    private final RevokedTokenRegistry revokedTokenRegistry;
 
     public QueueToken execute(String token) {
         if (token == null || token.isBlank()) {
             throw new TokenNotFoundException("null or empty");
         }
 
+        // 서명 토큰은 서명과 폐기 여부만 확인 (Redis 조회 없음)
+        if (queueTokenSigner.isSigned(token)) {
+            return validateSigned(token);
+        }
+
+        // 최근 검증된 ACTIVE 토큰은 Redis 조회 없이 만료 시각만 확인
+        Optional<QueueToken> cached = activeTokenCache.get(token);
+        if (cached.isPresent()) {
+            if (cached.get().isExpired()) {
+                throw new TokenExpiredException(token);
+            }
+            return cached.get();
+        }
+
         QueueToken queueToken = queueTokenRepository.findByToken(token)
                 .orElseThrow(() -> new TokenNotFoundException(token));
 
@@ -26,6 +48,22 @@ public class ValidateTokenUseCase {
             throw new TokenExpiredException(token);
         }
 
+        activeTokenCache.put(queueToken);
+        return queueToken;
+    }
+
+    private QueueToken validateSigned(String token) {
+        QueueToken queueToken = queueTokenSigner.verify(token)
+                .orElseThrow(() -> new TokenNotFoundException(token));
+
+        if (!queueToken.isActive() || revokedTokenRegistry.isRevoked(queueToken.getToken())) {
+            throw new TokenNotActiveException(token);
+        }
+
+        if (queueToken.isExpired()) {
+            throw new TokenExpiredException(token);
+        }
+
         return queueToken;
     }
 }
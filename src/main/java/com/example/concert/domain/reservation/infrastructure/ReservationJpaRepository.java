@@ -18,6 +18,14 @@ public interface ReservationJpaRepository extends JpaRepository<ReservationJpaEn
             @Param("status") ReservationStatus status,
             @Param("now") LocalDateTime now);
 
+    @Query("SELECT r.seatId FROM ReservationJpaEntity r WHERE r.scheduleId = :scheduleId "
+            + "AND (r.status = :confirmed OR (r.status = :pending AND r.expiresAt > :now))")
+    List<Long> findHeldSeatIds(
+            @Param("scheduleId") Long scheduleId,
+            @Param("confirmed") ReservationStatus confirmed,
+            @Param("pending") ReservationStatus pending,
+            @Param("now") LocalDateTime now);
+
     /**
      * 비관적 락을 사용한 예약 조회 (중복 결제 방지)
      */
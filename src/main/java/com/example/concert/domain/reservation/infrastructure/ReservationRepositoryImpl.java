@@ -31,6 +31,16 @@ public class ReservationRepositoryImpl implements ReservationRepository {
         return ReservationMapper.toDomain(saved);
     }
 
+    @Override
+    public List<Reservation> saveAll(List<Reservation> reservations) {
+        List<ReservationJpaEntity> entities = reservations.stream()
+                .map(ReservationMapper::toEntity)
+                .toList();
+        return jpaRepository.saveAll(entities).stream()
+                .map(ReservationMapper::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<Reservation> findById(Long id) {
         return jpaRepository.findById(id)
@@ -50,4 +60,9 @@ public class ReservationRepositoryImpl implements ReservationRepository {
                 .map(ReservationMapper::toDomain)
                 .toList();
     }
+
+    @Override
+    public List<Long> findHeldSeatIds(Long scheduleId, LocalDateTime now) {
+        return jpaRepository.findHeldSeatIds(scheduleId, ReservationStatus.CONFIRMED, ReservationStatus.PENDING, now);
+    }
 }
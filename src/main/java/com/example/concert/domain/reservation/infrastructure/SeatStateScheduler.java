@@ -0,0 +1,41 @@
+package com.example.concert.domain.reservation.infrastructure;
+
+import com.example.concert.domain.reservation.usecase.SyncSeatStateUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 좌석 상태 write-behind / 보정 스케줄러 (reservation.seat.strategy=REDIS_CLAIM일 때만 등록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reservation.seat.strategy", havingValue = "REDIS_CLAIM")
+public class SeatStateScheduler {
+    private final SyncSeatStateUseCase syncSeatStateUseCase;
+
+    /**
+     * 선점/취소로 쌓인 좌석 상태 변경을 seats 테이블에 반영 (기본 0.5초)
+     */
+    @Scheduled(fixedDelayString = "${reservation.seat.write-behind.interval-ms:500}")
+    public void flushSeatStates() {
+        int applied = syncSeatStateUseCase.flush();
+        if (applied > 0) {
+            log.debug("Seat state write-behind completed: {} changes applied", applied);
+        }
+    }
+
+    /**
+     * 5분마다 Redis 좌석 상태를 DB 기준으로 보정 (기동 직후 1회 포함 - 재시작 시 반영 중이던 변경 복구)
+     */
+    @Scheduled(initialDelay = 0, fixedDelay = 300000)
+    public void reconcileSeatStates() {
+        int corrected = syncSeatStateUseCase.reconcile();
+        if (corrected > 0) {
+            log.info("Seat state reconciliation completed: {} seats corrected", corrected);
+        }
+    }
+}
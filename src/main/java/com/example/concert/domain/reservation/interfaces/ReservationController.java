@@ -2,12 +2,15 @@ package com.example.concert.domain.reservation.interfaces;
 
 import com.example.concert.domain.reservation.usecase.ReserveSeatUseCase;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/reservations")
@@ -33,6 +36,28 @@ public class ReservationController {
                                 result.expiresAt()));
         }
 
+        /**
+         * 여러 좌석 일괄 예약 (전부 성공하거나 전부 실패)
+         */
+        @PostMapping("/batch")
+        public ResponseEntity<BatchReservationResponse> reserveSeats(
+                        @RequestHeader("Concert-Queue-Token") String token,
+                        @Valid @RequestBody BatchReservationRequest request) {
+
+                List<ReserveSeatUseCase.ReservationResult> results = reserveSeatUseCase.executeAll(
+                                token,
+                                request.userId(),
+                                request.scheduleId(),
+                                request.seatIds());
+
+                return ResponseEntity.ok(new BatchReservationResponse(results.stream()
+                                .map(result -> new ReservationResponse(
+                                                result.reservationId(),
+                                                result.status().name(),
+                                                result.expiresAt()))
+                                .toList()));
+        }
+
         // ===== DTOs =====
         public record ReservationRequest(
                         @NotNull(message = "userId는 필수입니다") Long userId,
@@ -40,9 +65,19 @@ public class ReservationController {
                         @NotNull(message = "seatId는 필수입니다") Long seatId) {
         }
 
+        public record BatchReservationRequest(
+                        @NotNull(message = "userId는 필수입니다") Long userId,
+                        @NotNull(message = "scheduleId는 필수입니다") Long scheduleId,
+                        @NotEmpty(message = "seatIds는 필수입니다")
+                        @Size(max = 10, message = "한 번에 최대 10석까지 예약할 수 있습니다") List<@NotNull Long> seatIds) {
+        }
+
         public record ReservationResponse(
                         Long reservationId,
                         String status,
                         LocalDateTime expiresAt) {
         }
+
+        public record BatchReservationResponse(List<ReservationResponse> reservations) {
+        }
 }
@@ -12,6 +12,11 @@ import java.util.Optional;
 public interface ReservationRepository {
     Reservation save(Reservation reservation);
 
+    /**
+     * 신규 예약 여러 건을 한 번에 저장
+     */
+    List<Reservation> saveAll(List<Reservation> reservations);
+
     Optional<Reservation> findById(Long id);
 
     /**
@@ -20,4 +25,9 @@ public interface ReservationRepository {
     Optional<Reservation> findByIdWithLock(Long id);
 
     List<Reservation> findAllExpired(LocalDateTime now);
+
+    /**
+     * 스케줄에서 좌석을 점유 중인 예약(확정 또는 만료 전 대기)의 좌석 ID 목록
+     */
+    List<Long> findHeldSeatIds(Long scheduleId, LocalDateTime now);
 }
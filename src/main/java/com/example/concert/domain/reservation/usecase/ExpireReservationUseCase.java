@@ -1,16 +1,24 @@
 package com.example.concert.domain.reservation.usecase;
 
 import com.example.concert.domain.concert.entity.Seat;
+import com.example.concert.domain.concert.entity.SeatStatus;
 import com.example.concert.domain.concert.repository.SeatRepository;
+import com.example.concert.domain.concert.repository.SeatStateStore;
+import com.example.concert.domain.concert.service.ConcertService;
 import com.example.concert.domain.reservation.entity.Reservation;
 import com.example.concert.domain.reservation.repository.ReservationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 만료된 예약을 처리하는 UseCase
@@ -21,6 +29,8 @@ import java.util.List;
 public class ExpireReservationUseCase {
     private final ReservationRepository reservationRepository;
     private final SeatRepository seatRepository;
+    private final SeatStateStore seatStateStore;
+    private final ConcertService concertService;
 
     @Transactional
     public int execute() {
@@ -34,6 +44,7 @@ public class ExpireReservationUseCase {
         log.info("Found {} expired reservations to process", expiredReservations.size());
 
         int processedCount = 0;
+        Map<Long, List<Long>> releasedSeatIds = new HashMap<>();
         for (Reservation reservation : expiredReservations) {
             try {
                 // 1. 예약 상태 -> EXPIRED
@@ -48,6 +59,8 @@ public class ExpireReservationUseCase {
                     seatRepository.save(seat);
                 }
 
+                releasedSeatIds.computeIfAbsent(reservation.getScheduleId(), id -> new ArrayList<>())
+                        .add(reservation.getSeatId());
                 processedCount++;
                 log.debug("Expired reservation: id={}, seatId={}", reservation.getId(), reservation.getSeatId());
             } catch (Exception e) {
@@ -55,7 +68,37 @@ public class ExpireReservationUseCase {
             }
         }
 
+        // 3. Redis 좌석 상태 -> AVAILABLE (커밋 후, REDIS_CLAIM 방식으로 적재된 스케줄만)
+        releaseSeatStatesAfterCommit(releasedSeatIds);
+
+        // 4. 해제된 좌석이 캐시에 선점 상태로 남아 예약 전 사전 검사에서 거절되지 않도록 해당 좌석만 갱신
+        releasedSeatIds.forEach((scheduleId, seatIds) ->
+                concertService.updateSeatsCache(scheduleId, seatIds, SeatStatus.AVAILABLE));
+
         log.info("Processed {} expired reservations", processedCount);
         return processedCount;
     }
+
+    /**
+     * 트랜잭션이 롤백되면 DB 좌석은 선점 상태로 남으므로 Redis 좌석 상태도 커밋된 뒤에만 해제
+     * 만료되는 예약은 결제 전이므로 선점(TEMP_RESERVED) 상태일 때만 해제 (그 사이 확정된 좌석을 되돌리지 않음)
+     * (커밋 후 해제에 실패한 좌석은 SyncSeatStateUseCase.reconcile이 DB 기준으로 보정)
+     */
+    private void releaseSeatStatesAfterCommit(Map<Long, List<Long>> releasedSeatIds) {
+        if (releasedSeatIds.isEmpty()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                releasedSeatIds.forEach((scheduleId, seatIds) -> seatIds.forEach(seatId -> {
+                    try {
+                        seatStateStore.release(scheduleId, seatId, SeatStatus.TEMP_RESERVED);
+                    } catch (RuntimeException e) {
+                        log.warn("Failed to release seat state: scheduleId={}, seatId={}", scheduleId, seatId, e);
+                    }
+                }));
+            }
+        });
+    }
 }
@@ -1,65 +1,128 @@
 package com.example.concert.domain.reservation.usecase;
 
-import com.example.concert.common.lock.DistributedLock;
-import com.example.concert.domain.concert.entity.Seat;
-import com.example.concert.domain.concert.repository.ConcertScheduleRepository;
+import com.example.concert.common.lock.LockAcquisitionException;
+import com.example.concert.domain.concert.entity.SeatStatus;
 import com.example.concert.domain.concert.repository.SeatRepository;
-import com.example.concert.domain.concert.service.ConcertService;
 import com.example.concert.domain.queue.usecase.ValidateTokenUseCase;
-import com.example.concert.domain.reservation.entity.Reservation;
+import com.example.concert.domain.concert.repository.SeatCache;
 import com.example.concert.domain.reservation.entity.ReservationStatus;
-import com.example.concert.domain.reservation.repository.ReservationRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 
+/**
+ * 좌석 예약 UseCase
+ *
+ * reservation.seat.strategy 설정에 따라 좌석 선점 방식을 선택합니다.
+ * - DISTRIBUTED_LOCK (기본): Redis 분산 락 + 조회 후 저장
+ * - CONDITIONAL_UPDATE: 조건부 UPDATE 한 번 (Redis 락 왕복 및 선조회 없음)
+ * - REDIS_CLAIM: Redis 좌석 상태에서 선점 후 예약만 DB에 저장 (좌석 상태는 write-behind)
+ *
+ * 토큰은 선점 단계보다 먼저 검증하여, 입장하지 않은 요청은 좌석 캐시·락·DB에 접근하지 않습니다.
+ * reservation.seat.cache-precheck가 켜져 있으면 좌석 캐시에서 이미 선점된 좌석을 락/DB 접근 전에 거절합니다.
+ * (캐시가 AVAILABLE이거나 캐시에 없는 좌석만 선점 단계로 진행하므로 캐시가 늦어도 중복 선점은 생기지 않음)
+ */
 @Service
-@RequiredArgsConstructor
 public class ReserveSeatUseCase {
     private final ValidateTokenUseCase validateTokenUseCase;
-    private final ConcertScheduleRepository scheduleRepository;
+    private final SeatReservationProcessor seatReservationProcessor;
+    private final SeatReservationStrategy strategy;
+    private final SeatCache seatCache;
     private final SeatRepository seatRepository;
-    private final ReservationRepository reservationRepository;
-    private final ConcertService concertService;
+    private final boolean cachePrecheck;
+
+    public ReserveSeatUseCase(
+            ValidateTokenUseCase validateTokenUseCase,
+            SeatReservationProcessor seatReservationProcessor,
+            @Value("${reservation.seat.strategy:DISTRIBUTED_LOCK}") SeatReservationStrategy strategy,
+            SeatCache seatCache,
+            SeatRepository seatRepository,
+            @Value("${reservation.seat.cache-precheck:true}") boolean cachePrecheck) {
+        this.validateTokenUseCase = validateTokenUseCase;
+        this.seatReservationProcessor = seatReservationProcessor;
+        this.strategy = strategy;
+        this.seatCache = seatCache;
+        this.seatRepository = seatRepository;
+        this.cachePrecheck = cachePrecheck;
+    }
 
-    @DistributedLock(key = "'seat:' + #seatId", waitTime = 5, leaseTime = 10)
-    @Transactional
     public ReservationResult execute(String token, Long userId, Long scheduleId, Long seatId) {
-        // 1. 토큰 검증 (기존 concert 로직과 동일)
         validateTokenUseCase.execute(token);
+        rejectTakenSeats(scheduleId, List.of(seatId));
 
-        // 2. 스케줄 존재 확인
-        if (!scheduleRepository.existsById(scheduleId)) {
-            throw new ScheduleNotFoundException(scheduleId);
+        try {
+            return switch (strategy) {
+                case DISTRIBUTED_LOCK -> seatReservationProcessor.reserveWithLock(token, userId, scheduleId, seatId);
+                case CONDITIONAL_UPDATE ->
+                    seatReservationProcessor.reserveWithConditionalUpdate(token, userId, scheduleId, seatId);
+                case REDIS_CLAIM -> seatReservationProcessor.reserveWithRedisClaim(token, userId, scheduleId, seatId);
+            };
+        } catch (LockAcquisitionException e) {
+            throw takenOrRetry(List.of(seatId), e);
         }
+    }
 
-        // 3. 좌석 조회 (Redis 분산 락으로 동시 예약 방지)
-        Seat seat = seatRepository.findById(seatId)
-                .orElseThrow(() -> new SeatNotFoundException(seatId));
-
-        // 4. 좌석 예약 (도메인 로직)
-        try {
-            seat.reserve();
-        } catch (IllegalStateException e) {
-            throw new SeatNotAvailableException(seatId);
+    /**
+     * 여러 좌석 일괄 예약 (단체 예매) - 전부 성공하거나 전부 실패
+     * - 좌석마다 락/트랜잭션을 반복하지 않고, 선점 방식별로 한 번의 MultiLock·UPDATE·스크립트로 처리
+     */
+    public List<ReservationResult> executeAll(String token, Long userId, Long scheduleId, List<Long> seatIds) {
+        if (seatIds == null || seatIds.isEmpty()) {
+            throw new IllegalArgumentException("예약할 좌석을 하나 이상 선택해야 합니다.");
+        }
+        if (new HashSet<>(seatIds).size() != seatIds.size()) {
+            throw new IllegalArgumentException("같은 좌석을 중복으로 선택할 수 없습니다.");
         }
 
-        // 5. 좌석 상태 저장
-        seatRepository.save(seat);
+        validateTokenUseCase.execute(token);
+        rejectTakenSeats(scheduleId, seatIds);
 
-        // 6. 예약 생성 및 저장
-        Reservation reservation = Reservation.create(userId, scheduleId, seatId);
-        Reservation saved = reservationRepository.save(reservation);
+        try {
+            return switch (strategy) {
+                case DISTRIBUTED_LOCK ->
+                    seatReservationProcessor.reserveAllWithLock(token, userId, scheduleId, seatIds);
+                case CONDITIONAL_UPDATE ->
+                    seatReservationProcessor.reserveAllWithConditionalUpdate(token, userId, scheduleId, seatIds);
+                case REDIS_CLAIM ->
+                    seatReservationProcessor.reserveAllWithRedisClaim(token, userId, scheduleId, seatIds);
+            };
+        } catch (LockAcquisitionException e) {
+            throw takenOrRetry(seatIds, e);
+        }
+    }
 
-        // 7. 캐시 갱신 (Write-Through) - Stampede 방지
-        concertService.refreshSeatsCache(scheduleId);
+    /**
+     * 좌석 캐시 기준으로 이미 선점/예약된 좌석이 있으면 즉시 거절
+     * - 요청한 좌석 상태만 조회 (로컬 캐시 또는 Redis HMGET), 캐시 미스여도 DB에서 적재하지 않고 선점 단계로 진행
+     */
+    private void rejectTakenSeats(Long scheduleId, List<Long> seatIds) {
+        if (!cachePrecheck) {
+            return;
+        }
+        Map<Long, SeatStatus> cached = seatCache.findStatuses(scheduleId, seatIds);
+        for (Long seatId : seatIds) {
+            SeatStatus status = cached.get(seatId);
+            if (status != null && status != SeatStatus.AVAILABLE) {
+                throw new SeatNotAvailableException(seatId);
+            }
+        }
+    }
 
-        return new ReservationResult(
-                saved.getId(),
-                saved.getStatus(),
-                saved.getExpiresAt());
+    /**
+     * 좌석 락 대기 시간 안에 획득하지 못했을 때 좌석 상태를 다시 확인
+     * - 이미 선점/예약된 좌석이 있으면 SeatNotAvailableException
+     * - 모두 AVAILABLE이면 보유자가 아직 처리 중이거나 실패할 수 있으므로 재시도 가능한 락 실패를 그대로 응답
+     */
+    private RuntimeException takenOrRetry(List<Long> seatIds, LockAcquisitionException e) {
+        return seatRepository.findAllByIds(seatIds).stream()
+                .filter(seat -> !seat.isAvailable())
+                .findFirst()
+                .<RuntimeException>map(seat -> new SeatNotAvailableException(seat.getId()))
+                .orElse(e);
     }
 
     public record ReservationResult(
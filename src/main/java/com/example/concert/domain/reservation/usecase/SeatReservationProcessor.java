@@ -0,0 +1,289 @@
+package com.example.concert.domain.reservation.usecase;
+
+import com.example.concert.common.lock.DistributedLock;
+import com.example.concert.common.lock.FencingToken;
+import com.example.concert.common.lock.LockWaitPolicy;
+import com.example.concert.domain.concert.entity.Seat;
+import com.example.concert.domain.concert.entity.SeatStatus;
+import com.example.concert.domain.concert.repository.ConcertScheduleRepository;
+import com.example.concert.domain.concert.repository.SeatRepository;
+import com.example.concert.domain.concert.repository.SeatStateStore;
+import com.example.concert.domain.concert.repository.SeatStateStore.SeatClaim;
+import com.example.concert.domain.concert.service.ConcertService;
+import com.example.concert.domain.queue.usecase.ValidateTokenUseCase;
+import com.example.concert.domain.reservation.entity.Reservation;
+import com.example.concert.domain.reservation.repository.ReservationRepository;
+import com.example.concert.domain.reservation.usecase.ReserveSeatUseCase.ReservationResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좌석 예약 트랜잭션 (선점 방식별)
+ *
+ * 분산 락은 트랜잭션보다 바깥에서 획득해야 하므로, ReserveSeatUseCase가 방식을 고르고
+ * 프록시를 거쳐 이 빈의 메서드를 호출합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatReservationProcessor {
+    // 좌석 락 대기 상한 - 보유자의 트랜잭션(수 ms)을 기다리기에 충분하고, 멈춘 보유자 뒤에서 오래 붙잡히지 않을 만큼 짧게
+    private static final long SEAT_LOCK_WAIT_SECONDS = 2;
+
+    private final ValidateTokenUseCase validateTokenUseCase;
+    private final ConcertScheduleRepository scheduleRepository;
+    private final SeatRepository seatRepository;
+    private final ReservationRepository reservationRepository;
+    private final ConcertService concertService;
+    private final SeatStateStore seatStateStore;
+    private final SyncSeatStateUseCase syncSeatStateUseCase;
+
+    /**
+     * 분산 락 + 펜싱 토큰으로 좌석 선점
+     * - 락을 다른 요청이 보유 중이면 해제 알림을 최대 2초 대기 (보유자는 커밋 후 해제하므로 패배한 요청은
+     *   커밋된 좌석 상태를 읽고 SeatNotAvailableException, 대기 시간 초과 시 좌석 상태 재확인은 ReserveSeatUseCase)
+     * - watchdog이 트랜잭션이 끝날 때까지 락을 연장하므로 고정 점유 시간이 짧아 생기는 중복 선점이 없음
+     * - 그래도 GC 정지 등으로 임대가 만료되면, 늦게 도착한 쓰기는 좌석의 펜싱 토큰 검증에서 거절됨
+     */
+    @DistributedLock(key = "'seat:' + #seatId", waitTime = SEAT_LOCK_WAIT_SECONDS, leaseTime = -1, fenced = true,
+            waitPolicy = LockWaitPolicy.SUBSCRIBE)
+    @Transactional
+    public ReservationResult reserveWithLock(String token, Long userId, Long scheduleId, Long seatId) {
+        // 1. 토큰 검증 (기존 concert 로직과 동일)
+        validateTokenUseCase.execute(token);
+
+        // 2. 스케줄 존재 확인
+        if (!scheduleRepository.existsById(scheduleId)) {
+            throw new ScheduleNotFoundException(scheduleId);
+        }
+
+        // 3. 좌석 조회 (Redis 분산 락으로 동시 예약 방지)
+        Seat seat = seatRepository.findById(seatId)
+                .orElseThrow(() -> new SeatNotFoundException(seatId));
+
+        // 4. 좌석 예약 (도메인 로직)
+        try {
+            seat.reserve();
+        } catch (IllegalStateException e) {
+            throw new SeatNotAvailableException(seatId);
+        }
+
+        // 5. 좌석 상태 저장 (펜싱 토큰 검증)
+        writeFenced(List.of(seatId));
+
+        return createReservation(userId, scheduleId, seatId);
+    }
+
+    /**
+     * 조건부 UPDATE로 좌석 선점 - 락 획득/해제 왕복과 선조회 없이 DB 행 잠금만으로 한 명만 성공
+     */
+    @Transactional
+    public ReservationResult reserveWithConditionalUpdate(String token, Long userId, Long scheduleId, Long seatId) {
+        validateTokenUseCase.execute(token);
+
+        if (!scheduleRepository.existsById(scheduleId)) {
+            throw new ScheduleNotFoundException(scheduleId);
+        }
+
+        if (!seatRepository.updateStatusIfMatches(seatId, SeatStatus.AVAILABLE, SeatStatus.TEMP_RESERVED)) {
+            // 실패 시에만 원인 구분을 위해 조회
+            if (seatRepository.findById(seatId).isEmpty()) {
+                throw new SeatNotFoundException(seatId);
+            }
+            throw new SeatNotAvailableException(seatId);
+        }
+
+        return createReservation(userId, scheduleId, seatId);
+    }
+
+    /**
+     * Redis 좌석 상태에서 선점 - 패배한 요청은 DB에 접근하지 않고 거절
+     * - 좌석 상태 변경은 선점 스크립트가 대기열에 함께 기록하고 SyncSeatStateUseCase가 seats 테이블에 반영
+     * - 예약 ID를 바로 응답해야 하므로 예약 행은 동기로 저장 (자체 트랜잭션)
+     */
+    public ReservationResult reserveWithRedisClaim(String token, Long userId, Long scheduleId, Long seatId) {
+        validateTokenUseCase.execute(token);
+
+        SeatClaim claim = seatStateStore.claim(scheduleId, seatId);
+        if (claim == SeatClaim.UNKNOWN) {
+            // 스케줄 좌석 상태가 아직 적재되지 않음 (첫 요청 또는 Redis 유실) - 적재 후 한 번 더 시도
+            syncSeatStateUseCase.load(scheduleId);
+            claim = seatStateStore.claim(scheduleId, seatId);
+        }
+        if (claim == SeatClaim.UNKNOWN) {
+            throw new SeatNotFoundException(seatId);
+        }
+        if (claim == SeatClaim.TAKEN) {
+            throw new SeatNotAvailableException(seatId);
+        }
+
+        try {
+            Reservation saved = reservationRepository.save(Reservation.create(userId, scheduleId, seatId));
+            return new ReservationResult(
+                    saved.getId(),
+                    saved.getStatus(),
+                    saved.getExpiresAt());
+        } catch (RuntimeException e) {
+            seatStateStore.cancelClaim(scheduleId, seatId);
+            throw e;
+        }
+    }
+
+    /**
+     * 여러 좌석을 MultiLock 한 번으로 잠그고 한 트랜잭션에서 전부 선점 (하나라도 불가하면 아무것도 저장하지 않음)
+     * - 대기 방식은 단일 좌석과 같음 (보유자 커밋 후 좌석 상태를 읽음)
+     */
+    @DistributedLock(key = "#seatIds.![ 'seat:' + #this ]", waitTime = SEAT_LOCK_WAIT_SECONDS, leaseTime = -1,
+            fenced = true, waitPolicy = LockWaitPolicy.SUBSCRIBE)
+    @Transactional
+    public List<ReservationResult> reserveAllWithLock(String token, Long userId, Long scheduleId, List<Long> seatIds) {
+        validateTokenUseCase.execute(token);
+
+        if (!scheduleRepository.existsById(scheduleId)) {
+            throw new ScheduleNotFoundException(scheduleId);
+        }
+
+        List<Seat> seats = seatRepository.findAllByIds(seatIds);
+        if (seats.size() != seatIds.size()) {
+            throw new SeatNotFoundException(findMissingSeatId(seatIds, seats));
+        }
+
+        // 모두 검증한 뒤 저장 (중간에 실패해도 변경된 좌석이 없도록)
+        for (Seat seat : seats) {
+            try {
+                seat.reserve();
+            } catch (IllegalStateException e) {
+                throw new SeatNotAvailableException(seat.getId());
+            }
+        }
+        writeFenced(seatIds);
+
+        return createReservations(userId, scheduleId, seatIds);
+    }
+
+    /**
+     * 여러 좌석을 조건부 UPDATE 한 번으로 선점 - 변경된 행 수가 요청 수와 다르면 롤백
+     */
+    @Transactional
+    public List<ReservationResult> reserveAllWithConditionalUpdate(String token, Long userId, Long scheduleId,
+            List<Long> seatIds) {
+        validateTokenUseCase.execute(token);
+
+        if (!scheduleRepository.existsById(scheduleId)) {
+            throw new ScheduleNotFoundException(scheduleId);
+        }
+
+        int updated = seatRepository.updateStatusIfMatches(seatIds, SeatStatus.AVAILABLE, SeatStatus.TEMP_RESERVED);
+        if (updated != seatIds.size()) {
+            // 실패 시에만 원인 구분을 위해 조회 (예외로 트랜잭션이 롤백되어 일부 선점도 취소됨)
+            List<Seat> seats = seatRepository.findAllByIds(seatIds);
+            if (seats.size() != seatIds.size()) {
+                throw new SeatNotFoundException(findMissingSeatId(seatIds, seats));
+            }
+            throw new SeatNotAvailableException(seats.stream()
+                    .filter(seat -> seat.getStatus() != SeatStatus.TEMP_RESERVED)
+                    .map(Seat::getId)
+                    .findFirst()
+                    .orElse(seatIds.get(0)));
+        }
+
+        return createReservations(userId, scheduleId, seatIds);
+    }
+
+    /**
+     * 여러 좌석을 Redis 스크립트 한 번으로 전부 선점 (좌석 상태는 write-behind)
+     */
+    public List<ReservationResult> reserveAllWithRedisClaim(String token, Long userId, Long scheduleId,
+            List<Long> seatIds) {
+        validateTokenUseCase.execute(token);
+
+        SeatClaim claim = seatStateStore.claimAll(scheduleId, seatIds);
+        if (claim == SeatClaim.UNKNOWN) {
+            syncSeatStateUseCase.load(scheduleId);
+            claim = seatStateStore.claimAll(scheduleId, seatIds);
+        }
+        if (claim != SeatClaim.CLAIMED) {
+            // 실패 시에만 원인 좌석을 찾기 위해 상태 조회
+            Map<Long, SeatStatus> states = seatStateStore.findStates(scheduleId);
+            if (claim == SeatClaim.UNKNOWN) {
+                throw new SeatNotFoundException(seatIds.stream()
+                        .filter(seatId -> !states.containsKey(seatId))
+                        .findFirst()
+                        .orElse(seatIds.get(0)));
+            }
+            throw new SeatNotAvailableException(seatIds.stream()
+                    .filter(seatId -> states.get(seatId) != SeatStatus.AVAILABLE)
+                    .findFirst()
+                    .orElse(seatIds.get(0)));
+        }
+
+        try {
+            return reservationRepository.saveAll(seatIds.stream()
+                    .map(seatId -> Reservation.create(userId, scheduleId, seatId))
+                    .toList())
+                    .stream()
+                    .map(saved -> new ReservationResult(saved.getId(), saved.getStatus(), saved.getExpiresAt()))
+                    .toList();
+        } catch (RuntimeException e) {
+            seatStateStore.cancelClaims(scheduleId, seatIds);
+            throw e;
+        }
+    }
+
+    private List<ReservationResult> createReservations(Long userId, Long scheduleId, List<Long> seatIds) {
+        List<Reservation> saved = reservationRepository.saveAll(seatIds.stream()
+                .map(seatId -> Reservation.create(userId, scheduleId, seatId))
+                .toList());
+
+        // 선점한 좌석 항목만 커밋 후 캐시에 반영 (스케줄별로 합쳐서 Redis 호출)
+        concertService.updateSeatsCache(scheduleId, seatIds, SeatStatus.TEMP_RESERVED);
+
+        return saved.stream()
+                .map(reservation -> new ReservationResult(
+                        reservation.getId(),
+                        reservation.getStatus(),
+                        reservation.getExpiresAt()))
+                .toList();
+    }
+
+    /**
+     * 현재 락의 펜싱 토큰으로 AVAILABLE -> TEMP_RESERVED 변경 (하나라도 거절되면 롤백)
+     * - 거절 = 임대가 만료된 사이 다른 보유자가 먼저 반영함
+     */
+    private void writeFenced(List<Long> seatIds) {
+        long fence = FencingToken.current();
+        int updated = seatRepository.updateStatusIfFenced(
+                seatIds, SeatStatus.AVAILABLE, SeatStatus.TEMP_RESERVED, fence);
+        if (updated != seatIds.size()) {
+            log.warn("Fenced seat write rejected: seatIds={}, fence={}", seatIds, fence);
+            throw new SeatNotAvailableException(seatIds.get(0));
+        }
+    }
+
+    private static Long findMissingSeatId(List<Long> seatIds, List<Seat> found) {
+        List<Long> foundIds = found.stream().map(Seat::getId).toList();
+        return seatIds.stream()
+                .filter(seatId -> !foundIds.contains(seatId))
+                .findFirst()
+                .orElse(seatIds.get(0));
+    }
+
+    private ReservationResult createReservation(Long userId, Long scheduleId, Long seatId) {
+        // 6. 예약 생성 및 저장
+        Reservation reservation = Reservation.create(userId, scheduleId, seatId);
+        Reservation saved = reservationRepository.save(reservation);
+
+        // 7. 캐시 갱신 (Write-Through, 커밋 후) - 선점한 좌석 항목만 교체
+        concertService.updateSeatsCache(scheduleId, List.of(seatId), SeatStatus.TEMP_RESERVED);
+
+        return new ReservationResult(
+                saved.getId(),
+                saved.getStatus(),
+                saved.getExpiresAt());
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.concert.domain.reservation.usecase;
+
+/**
+ * 좌석 선점 방식 (reservation.seat.strategy)
+ */
+public enum SeatReservationStrategy {
+    /**
+     * Redis 분산 락으로 직렬화한 뒤 조회 → 도메인 검증 → 저장
+     */
+    DISTRIBUTED_LOCK,
+
+    /**
+     * 락 없이 UPDATE ... WHERE status = 'AVAILABLE' 한 번으로 선점하고 영향받은 행 수로 성공 여부 판단
+     */
+    CONDITIONAL_UPDATE,
+
+    /**
+     * Redis 좌석 상태에서 스크립트 한 번으로 선점하고, 좌석 상태는 비동기로 seats 테이블에 반영 (write-behind)
+     * - 실패한 요청은 DB 트랜잭션 없이 Redis 왕복 한 번으로 거절
+     */
+    REDIS_CLAIM
+}
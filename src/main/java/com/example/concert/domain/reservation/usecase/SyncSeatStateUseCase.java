@@ -0,0 +1,223 @@
+package com.example.concert.domain.reservation.usecase;
+
+import com.example.concert.domain.concert.entity.Seat;
+import com.example.concert.domain.concert.entity.SeatStatus;
+import com.example.concert.domain.concert.repository.ConcertScheduleRepository;
+import com.example.concert.domain.concert.repository.SeatRepository;
+import com.example.concert.domain.concert.repository.SeatStateStore;
+import com.example.concert.domain.concert.repository.SeatStateStore.SeatStateChange;
+import com.example.concert.domain.concert.service.ConcertService;
+import com.example.concert.domain.reservation.repository.ReservationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Redis 좌석 상태와 seats 테이블 동기화 UseCase (REDIS_CLAIM 방식)
+ *
+ * - load: 스케줄 좌석 상태를 DB에서 Redis로 적재 (첫 선점 시)
+ * - flush: 선점/취소로 쌓인 변경을 seats 테이블에 조건부 UPDATE로 반영 (write-behind)
+ *   반영에 실패하면 변경을 대기열에 되돌리고 지수 백오프 후 재시도 (버리지 않음, 연속 실패는 error 로그 + 메트릭)
+ * - reconcile: 기동 시/주기적으로 반영 대기분을 비운 뒤 Redis와 DB의 차이를 보정
+ */
+@Slf4j
+@Service
+public class SyncSeatStateUseCase {
+
+    /**
+     * 처리 중으로 옮긴 뒤 이 시간 안에 완료되지 않은 변경은 다시 대기열로 (반영 도중 종료 대비)
+     */
+    private static final long IN_FLIGHT_TIMEOUT_MILLIS = 30_000;
+
+    /**
+     * 예약 유지 시간보다 오래된 선점은 좌석을 점유 중인 예약이 있을 때만 반영
+     * (그 사이 만료 처리로 해제된 좌석을 뒤늦게 다시 선점 상태로 만드는 것을 방지)
+     */
+    private static final long STALE_CHANGE_MILLIS = Duration.ofMinutes(5).toMillis();
+
+    private static final long RETRY_MIN_BACKOFF_MILLIS = 1_000;
+    private static final long RETRY_MAX_BACKOFF_MILLIS = 60_000;
+
+    private final SeatStateStore seatStateStore;
+    private final ConcertScheduleRepository scheduleRepository;
+    private final SeatRepository seatRepository;
+    private final ReservationRepository reservationRepository;
+    private final ConcertService concertService;
+    private final int batchSize;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final Counter failureCounter;
+    private final Counter obsoleteCounter;
+    private volatile long nextAttemptAtMillis;
+
+    public SyncSeatStateUseCase(
+            SeatStateStore seatStateStore,
+            ConcertScheduleRepository scheduleRepository,
+            SeatRepository seatRepository,
+            ReservationRepository reservationRepository,
+            ConcertService concertService,
+            MeterRegistry meterRegistry,
+            @Value("${reservation.seat.write-behind.batch-size:500}") int batchSize) {
+        this.seatStateStore = seatStateStore;
+        this.scheduleRepository = scheduleRepository;
+        this.seatRepository = seatRepository;
+        this.reservationRepository = reservationRepository;
+        this.concertService = concertService;
+        this.batchSize = batchSize;
+        this.failureCounter = meterRegistry.counter("seat.state.write_behind.failures");
+        this.obsoleteCounter = meterRegistry.counter("seat.state.write_behind.obsolete");
+        meterRegistry.gauge("seat.state.write_behind.consecutive_failures", consecutiveFailures);
+    }
+
+    /**
+     * 스케줄 좌석 상태를 Redis에 적재 (이미 적재된 좌석은 유지)
+     */
+    public void load(Long scheduleId) {
+        if (!scheduleRepository.existsById(scheduleId)) {
+            throw new ScheduleNotFoundException(scheduleId);
+        }
+        seatStateStore.load(scheduleId, findDesiredStates(scheduleId));
+    }
+
+    /**
+     * 반영 대기 중인 변경을 한 배치씩 비울 때까지 seats 테이블에 반영
+     * - 배치 반영이 실패하면 해당 배치를 대기열 앞에 되돌리고 백오프 동안 flush를 건너뜀
+     *   (조건부 UPDATE라 일부 반영된 배치를 다시 반영해도 결과가 같음)
+     *
+     * @return 반영된 변경 수
+     */
+    public int flush() {
+        if (System.currentTimeMillis() < nextAttemptAtMillis) {
+            return 0;
+        }
+
+        int applied = 0;
+        List<SeatStateChange> changes;
+        while (!(changes = seatStateStore.pollPendingChanges(batchSize)).isEmpty()) {
+            try {
+                applied += apply(changes);
+            } catch (RuntimeException e) {
+                seatStateStore.requeue(changes);
+                onFlushFailure(changes.size(), e);
+                return applied;
+            }
+            seatStateStore.acknowledge(changes);
+        }
+
+        int failures = consecutiveFailures.getAndSet(0);
+        if (failures > 0) {
+            log.info("Seat state write-behind recovered after {} failed attempts", failures);
+        }
+        return applied;
+    }
+
+    private void onFlushFailure(int requeued, RuntimeException e) {
+        int failures = consecutiveFailures.incrementAndGet();
+        failureCounter.increment();
+        long backoffMillis = Math.min(RETRY_MIN_BACKOFF_MILLIS << Math.min(failures - 1, 16), RETRY_MAX_BACKOFF_MILLIS);
+        nextAttemptAtMillis = System.currentTimeMillis() + backoffMillis;
+        // 반영되지 않은 동안 DB 좌석 상태가 Redis 선점보다 뒤처지므로 알림 대상
+        log.error("Seat state write-behind failed ({} in a row), {} changes requeued, retrying in {} ms",
+                failures, requeued, backoffMillis, e);
+    }
+
+    /**
+     * 적재된 모든 스케줄에 대해 Redis 좌석 상태를 DB 기준으로 보정
+     *
+     * @return 보정된 좌석 수
+     */
+    public int reconcile() {
+        int recovered = seatStateStore.recoverInFlightChanges(IN_FLIGHT_TIMEOUT_MILLIS);
+        if (recovered > 0) {
+            log.info("Recovered {} in-flight seat state changes", recovered);
+        }
+        flush();
+
+        int corrected = 0;
+        for (Long scheduleId : seatStateStore.findLoadedScheduleIds()) {
+            try {
+                corrected += reconcile(scheduleId);
+            } catch (Exception e) {
+                log.warn("Failed to reconcile seat states: scheduleId={}", scheduleId, e);
+            }
+        }
+        return corrected;
+    }
+
+    private int apply(List<SeatStateChange> changes) {
+        long staleBefore = System.currentTimeMillis() - STALE_CHANGE_MILLIS;
+        Map<Long, Set<Long>> heldSeatIds = new HashMap<>();
+        int applied = 0;
+
+        for (SeatStateChange change : changes) {
+            if (change.requestedAtMillis() < staleBefore && change.target() == SeatStatus.TEMP_RESERVED
+                    && !heldSeatIds.computeIfAbsent(change.scheduleId(), this::findHeldSeatIds)
+                            .contains(change.seatId())) {
+                // 오래된 선점인데 점유 중인 예약이 없음 = 예약이 만료/취소되어 좌석이 이미 해제됨
+                obsoleteCounter.increment();
+                log.warn("Skipping obsolete seat claim without a held reservation: scheduleId={}, seatId={}",
+                        change.scheduleId(), change.seatId());
+                continue;
+            }
+            if (seatRepository.updateStatusIfMatches(change.seatId(), change.expected(), change.target())) {
+                applied++;
+                // 선점 시점에는 캐시를 갱신하지 않으므로 DB에 반영된 좌석만 갱신
+                concertService.updateSeatsCache(change.scheduleId(), List.of(change.seatId()), change.target());
+            }
+        }
+        return applied;
+    }
+
+    private int reconcile(Long scheduleId) {
+        // Redis 상태와 미반영 좌석을 먼저 읽고 DB를 읽어야, 그 사이의 선점이 DB 기준으로 잘못 되돌려지지 않음
+        Map<Long, SeatStatus> current = seatStateStore.findStates(scheduleId);
+        Set<Long> unapplied = seatStateStore.findUnappliedSeatIds(scheduleId);
+        Map<Long, SeatStatus> desired = findDesiredStates(scheduleId);
+
+        int corrected = 0;
+        for (Map.Entry<Long, SeatStatus> entry : current.entrySet()) {
+            Long seatId = entry.getKey();
+            SeatStatus state = entry.getValue();
+            SeatStatus target = desired.get(seatId);
+            if (target == null || target == state) {
+                continue;
+            }
+            // 점유 해제 방향은 DB에 반영 대기 중인 선점이 없을 때만 (아직 반영되지 않은 선점을 되돌리지 않도록)
+            if (target == SeatStatus.AVAILABLE && unapplied.contains(seatId)) {
+                continue;
+            }
+            if (seatStateStore.compareAndSet(scheduleId, seatId, state, target)) {
+                corrected++;
+                log.info("Reconciled seat state: scheduleId={}, seatId={}, {} -> {}",
+                        scheduleId, seatId, state, target);
+            }
+        }
+        return corrected;
+    }
+
+    private Set<Long> findHeldSeatIds(Long scheduleId) {
+        return new HashSet<>(reservationRepository.findHeldSeatIds(scheduleId, LocalDateTime.now()));
+    }
+
+    /**
+     * DB 기준 좌석 상태 (AVAILABLE이어도 점유 중인 예약이 있으면 TEMP_RESERVED)
+     */
+    private Map<Long, SeatStatus> findDesiredStates(Long scheduleId) {
+        Set<Long> heldSeatIds = findHeldSeatIds(scheduleId);
+        Map<Long, SeatStatus> states = new HashMap<>();
+        for (Seat seat : seatRepository.findAllByScheduleId(scheduleId)) {
+            SeatStatus status = seat.getStatus();
+            if (status == SeatStatus.AVAILABLE && heldSeatIds.contains(seat.getId())) {
+                status = SeatStatus.TEMP_RESERVED;
+            }
+            states.put(seat.getId(), status);
+        }
+        return states;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.concert.common.cache;
+
+import com.example.concert.domain.concert.infrastructure.SchedulesWithSeatsResultCodec;
+import com.example.concert.domain.concert.service.ConcertService.ScheduleInfo;
+import com.example.concert.domain.concert.service.ConcertService.SchedulesWithSeatsResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CompactRedisSerializer 단위 테스트")
+class CompactRedisSerializerTest {
+
+    private final CompactRedisSerializer serializer = new CompactRedisSerializer(
+            List.of(new SchedulesWithSeatsResultCodec()));
+
+    @Test
+    @DisplayName("콘서트 스케줄은 코덱으로 저장되어 같은 값으로 복원되고 JDK 직렬화보다 작다")
+    void schedulesWithSeatsResult_roundTrip() {
+        SchedulesWithSeatsResult schedules = new SchedulesWithSeatsResult(1L, List.of(
+                new ScheduleInfo(10L, LocalDate.of(2026, 12, 24), 50),
+                new ScheduleInfo(11L, LocalDate.of(1969, 12, 25), 0)));
+
+        byte[] bytes = serializer.serialize(schedules);
+
+        assertThat(bytes[0]).isEqualTo(CompactRedisSerializer.FORMAT_VERSION);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(schedules);
+        assertThat(bytes.length).isLessThan(new JdkSerializationRedisSerializer().serialize(schedules).length);
+    }
+
+    @Test
+    @DisplayName("60회차 콘서트 스케줄은 회차당 7바이트로 저장되어 JDK 직렬화의 1/6보다 작다")
+    void schedulesWithSeatsResult_size() {
+        List<ScheduleInfo> scheduleInfos = new ArrayList<>();
+        LocalDate firstDate = LocalDate.of(2026, 12, 1);
+        for (int i = 0; i < 60; i++) {
+            scheduleInfos.add(new ScheduleInfo(1_000L + i, firstDate.plusDays(i), 2000 - i * 30));
+        }
+        SchedulesWithSeatsResult schedules = new SchedulesWithSeatsResult(1L, List.copyOf(scheduleInfos));
+
+        byte[] bytes = serializer.serialize(schedules);
+        byte[] jdk = new JdkSerializationRedisSerializer().serialize(schedules);
+
+        // 헤더 2 + concertId 1 + 개수 1 + 회차당 (id 2 + epoch day 3 + 가용 좌석 2), JDK는 측정값 2,857 bytes
+        assertThat(bytes).hasSize(424);
+        assertThat(bytes.length * 6).isLessThan(jdk.length);
+    }
+
+    @Test
+    @DisplayName("코덱이 없는 타입은 JDK 직렬화로 저장된다")
+    void unregisteredType_fallsBackToJdk() {
+        assertThat(serializer.deserialize(serializer.serialize("plain"))).isEqualTo("plain");
+    }
+
+    @Test
+    @DisplayName("이전 형식(JDK 직렬화)으로 저장된 항목도 읽는다")
+    void legacyJdkEntry_isReadable() {
+        SchedulesWithSeatsResult schedules = new SchedulesWithSeatsResult(1L, List.of());
+        byte[] legacy = new JdkSerializationRedisSerializer().serialize(schedules);
+
+        assertThat(serializer.deserialize(legacy)).isEqualTo(schedules);
+    }
+
+    @Test
+    @DisplayName("모르는 버전이나 typeId는 캐시 미스(null)로 처리한다")
+    void unknownFormat_returnsNull() {
+        assertThat(serializer.deserialize(new byte[] { 9, 1 })).isNull();
+        assertThat(serializer.deserialize(new byte[] { CompactRedisSerializer.FORMAT_VERSION, 100 })).isNull();
+    }
+
+    @Test
+    @DisplayName("typeId가 겹치는 코덱은 등록할 수 없다")
+    void duplicateTypeId_throws() {
+        assertThatThrownBy(() -> new CompactRedisSerializer(
+                List.of(new SchedulesWithSeatsResultCodec(), new SchedulesWithSeatsResultCodec())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
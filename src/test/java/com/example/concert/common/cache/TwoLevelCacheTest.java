@@ -0,0 +1,86 @@
+package com.example.concert.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TwoLevelCache 단위 테스트")
+class TwoLevelCacheTest {
+
+    private ConcurrentMapCache remote;
+    private List<String> published;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCache("seats");
+        published = new ArrayList<>();
+        cache = new TwoLevelCache("seats", Caffeine.newBuilder().build(), remote, published::add);
+    }
+
+    @Test
+    @DisplayName("L2에서 찾은 값은 L1에 적재되어 다음 조회는 L2에 가지 않는다")
+    void get_remoteHit_populatesLocal() {
+        remote.put(1L, "seats-1");
+
+        assertThat(cache.get(1L).get()).isEqualTo("seats-1");
+        remote.evict(1L);
+
+        assertThat(cache.get(1L).get()).isEqualTo("seats-1");
+    }
+
+    @Test
+    @DisplayName("sync 조회는 L1, L2 모두 없을 때만 로더를 호출하고 두 단계에 저장한다")
+    void get_withLoader_loadsOnce() {
+        AtomicInteger loads = new AtomicInteger();
+
+        String first = cache.get(1L, () -> "seats-" + loads.incrementAndGet());
+        String second = cache.get(1L, () -> "seats-" + loads.incrementAndGet());
+
+        assertThat(first).isEqualTo("seats-1");
+        assertThat(second).isEqualTo("seats-1");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(remote.get(1L).get()).isEqualTo("seats-1");
+    }
+
+    @Test
+    @DisplayName("put은 L1, L2를 갱신하고 다른 인스턴스에 키 무효화를 발행한다")
+    void put_updatesBothAndPublishes() {
+        cache.put(1L, "seats-1");
+
+        assertThat(remote.get(1L).get()).isEqualTo("seats-1");
+        assertThat(cache.get(1L).get()).isEqualTo("seats-1");
+        assertThat(published).containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("무효화 메시지를 받으면 L1에서만 제거되어 다음 조회는 L2의 최신 값을 읽는다")
+    void evictLocal_readsLatestFromRemote() {
+        cache.put(1L, "seats-old");
+        remote.put(1L, "seats-new");
+
+        cache.evictLocal("1");
+
+        assertThat(cache.get(1L).get()).isEqualTo("seats-new");
+    }
+
+    @Test
+    @DisplayName("clear는 L1, L2를 비우고 전체 무효화(null 키)를 발행한다")
+    void clear_publishesClearAll() {
+        cache.put(1L, "seats-1");
+        published.clear();
+
+        cache.clear();
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(published).containsExactly((String) null);
+    }
+}
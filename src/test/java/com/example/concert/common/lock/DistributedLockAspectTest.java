@@ -0,0 +1,220 @@
+package com.example.concert.common.lock;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DistributedLockAspect 대기 방식 단위 테스트")
+class DistributedLockAspectTest {
+
+    private static final String LOCK_KEY = "lock:seat:1";
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RLock lock;
+
+    @Mock
+    private RScript script;
+
+    private DistributedLockAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        aspect = new DistributedLockAspect(redissonClient);
+    }
+
+    @Test
+    @DisplayName("FAIL_FAST: Redis 락을 대기 시간 0으로 한 번만 시도하고 실패하면 즉시 예외")
+    void failFast_heldElsewhere_failsAfterSingleAttempt() throws Throwable {
+        when(redissonClient.getLock(LOCK_KEY)).thenReturn(lock);
+        when(lock.tryLock(eq(0L), anyLong(), eq(TimeUnit.NANOSECONDS))).thenReturn(false);
+        ProceedingJoinPoint joinPoint = joinPoint("failFast");
+
+        assertThatThrownBy(() -> aspect.around(joinPoint, annotation("failFast")))
+                .isInstanceOf(LockAcquisitionException.class);
+
+        verify(lock, times(1)).tryLock(anyLong(), anyLong(), any());
+        verify(joinPoint, never()).proceed();
+    }
+
+    @Test
+    @DisplayName("FAIL_FAST: 같은 키를 이 노드의 다른 요청이 처리 중이면 Redis에 가지 않고 실패")
+    void failFast_localHolder_failsWithoutRedis() throws Throwable {
+        when(redissonClient.getLock(LOCK_KEY)).thenReturn(lock);
+        when(lock.tryLock(eq(0L), anyLong(), eq(TimeUnit.NANOSECONDS))).thenReturn(true);
+        when(lock.isHeldByCurrentThread()).thenReturn(true);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ProceedingJoinPoint holderJoinPoint = joinPoint("failFast");
+        when(holderJoinPoint.proceed()).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await();
+            return "done";
+        });
+
+        CompletableFuture<Object> holder = CompletableFuture.supplyAsync(() -> {
+            try {
+                return aspect.around(holderJoinPoint, annotation("failFast"));
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            assertThatThrownBy(() -> aspect.around(joinPoint("failFast"), annotation("failFast")))
+                    .isInstanceOf(LockAcquisitionException.class);
+            verify(lock, times(1)).tryLock(anyLong(), anyLong(), any());
+        } finally {
+            release.countDown();
+        }
+        assertThat(holder.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+    }
+
+    @Test
+    @DisplayName("SPIN: 대기 시간 0으로 재시도하다가 획득하면 실행한다 (pub/sub 대기 없음)")
+    void spin_retriesUntilAcquired() throws Throwable {
+        when(redissonClient.getLock(LOCK_KEY)).thenReturn(lock);
+        when(lock.tryLock(eq(0L), anyLong(), eq(TimeUnit.NANOSECONDS))).thenReturn(false, false, true);
+        when(lock.isHeldByCurrentThread()).thenReturn(true);
+        ProceedingJoinPoint joinPoint = joinPoint("spin");
+        when(joinPoint.proceed()).thenReturn("done");
+
+        assertThat(aspect.around(joinPoint, annotation("spin"))).isEqualTo("done");
+
+        verify(lock, times(3)).tryLock(eq(0L), anyLong(), eq(TimeUnit.NANOSECONDS));
+        verify(lock, never()).tryLock(longThat(wait -> wait > 0), anyLong(), any());
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("SPIN: waitTime 안에 획득하지 못하면 예외")
+    void spin_timeout_fails() throws Throwable {
+        when(redissonClient.getLock(LOCK_KEY)).thenReturn(lock);
+        when(lock.tryLock(eq(0L), anyLong(), eq(TimeUnit.NANOSECONDS))).thenReturn(false);
+        ProceedingJoinPoint joinPoint = joinPoint("spin");
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> aspect.around(joinPoint, annotation("spin")))
+                .isInstanceOf(LockAcquisitionException.class);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isGreaterThanOrEqualTo(100);
+        verify(lock, atLeast(2)).tryLock(eq(0L), anyLong(), eq(TimeUnit.NANOSECONDS));
+        verify(joinPoint, never()).proceed();
+    }
+
+    @Test
+    @DisplayName("SUBSCRIBE: waitTime 전체를 Redisson 대기에 넘기고 획득 후 실행, 해제한다")
+    void subscribe_waitsWithFullWaitTime() throws Throwable {
+        when(redissonClient.getLock(LOCK_KEY)).thenReturn(lock);
+        when(lock.tryLock(longThat(wait -> wait > 0), anyLong(), eq(TimeUnit.NANOSECONDS))).thenReturn(true);
+        when(lock.isHeldByCurrentThread()).thenReturn(true);
+        ProceedingJoinPoint joinPoint = joinPoint("subscribe");
+        when(joinPoint.proceed()).thenReturn("done");
+
+        assertThat(aspect.around(joinPoint, annotation("subscribe"))).isEqualTo("done");
+
+        verify(lock).tryLock(longThat(wait -> wait > TimeUnit.SECONDS.toNanos(4)
+                && wait <= TimeUnit.SECONDS.toNanos(5)), eq(TimeUnit.SECONDS.toNanos(10)), eq(TimeUnit.NANOSECONDS));
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("fenced: 락을 보유한 채로 발급한 펜싱 토큰을 메서드 실행 중에 제공한다")
+    void fenced_bindsTokenIssuedWhileHoldingLock() throws Throwable {
+        when(redissonClient.getLock(LOCK_KEY)).thenReturn(lock);
+        when(lock.tryLock(anyLong(), anyLong(), eq(TimeUnit.NANOSECONDS))).thenReturn(true);
+        when(lock.isHeldByCurrentThread()).thenReturn(true);
+        stubFence(7L);
+        ProceedingJoinPoint joinPoint = joinPoint("fenced");
+        when(joinPoint.proceed()).thenAnswer(invocation -> FencingToken.current());
+
+        assertThat(aspect.around(joinPoint, annotation("fenced"))).isEqualTo(7L);
+
+        verify(script).eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER),
+                eq(List.of("lock:fence", LOCK_KEY)), eq("node-1:" + Thread.currentThread().getId()));
+        assertThatThrownBy(FencingToken::current).isInstanceOf(IllegalStateException.class);
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("fenced: 토큰 발급 전에 임대가 만료되었으면 실행하지 않고 예외")
+    void fenced_leaseLostBeforeFence_fails() throws Throwable {
+        when(redissonClient.getLock(LOCK_KEY)).thenReturn(lock);
+        when(lock.tryLock(anyLong(), anyLong(), eq(TimeUnit.NANOSECONDS))).thenReturn(true);
+        when(lock.isHeldByCurrentThread()).thenReturn(false);
+        stubFence(-1L);
+        ProceedingJoinPoint joinPoint = joinPoint("fenced");
+
+        assertThatThrownBy(() -> aspect.around(joinPoint, annotation("fenced")))
+                .isInstanceOf(LockAcquisitionException.class);
+
+        verify(joinPoint, never()).proceed();
+        verify(lock, never()).unlock();
+    }
+
+    private void stubFence(Long token) {
+        when(redissonClient.getId()).thenReturn("node-1");
+        when(redissonClient.getScript(StringCodec.INSTANCE)).thenReturn(script);
+        when(script.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), anyList(), any()))
+                .thenReturn(token);
+    }
+
+    private ProceedingJoinPoint joinPoint(String methodName) throws NoSuchMethodException {
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        MethodSignature signature = mock(MethodSignature.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getMethod()).thenReturn(method(methodName));
+        when(joinPoint.getArgs()).thenReturn(new Object[] { 1L });
+        return joinPoint;
+    }
+
+    private static DistributedLock annotation(String methodName) throws NoSuchMethodException {
+        return method(methodName).getAnnotation(DistributedLock.class);
+    }
+
+    private static Method method(String methodName) throws NoSuchMethodException {
+        return Target.class.getMethod(methodName, Long.class);
+    }
+
+    static class Target {
+        @DistributedLock(key = "'seat:' + #seatId", waitPolicy = LockWaitPolicy.FAIL_FAST)
+        public void failFast(Long seatId) {
+        }
+
+        @DistributedLock(key = "'seat:' + #seatId", waitTime = 150, timeUnit = TimeUnit.MILLISECONDS,
+                leaseTime = 10_000, waitPolicy = LockWaitPolicy.SPIN)
+        public void spin(Long seatId) {
+        }
+
+        @DistributedLock(key = "'seat:' + #seatId")
+        public void subscribe(Long seatId) {
+        }
+
+        @DistributedLock(key = "'seat:' + #seatId", leaseTime = -1, fenced = true)
+        public void fenced(Long seatId) {
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.concert.common.lock;
+
+import com.example.concert.common.lock.LocalKeyLocks.KeyLock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocalKeyLocks 단위 테스트")
+class LocalKeyLocksTest {
+
+    private final LocalKeyLocks locks = new LocalKeyLocks();
+
+    @Test
+    @DisplayName("같은 키를 다른 스레드가 보유 중이면 제한 시간 후 null을 반환한다")
+    void tryLockAll_sameKeyHeld_returnsNull() throws Exception {
+        List<KeyLock> held = locks.tryLockAll(List.of("lock:seat:1"), 0, TimeUnit.MILLISECONDS);
+        try {
+            List<KeyLock> other = tryLockAllAsync(List.of("lock:seat:1"), 50);
+
+            assertThat(other).isNull();
+        } finally {
+            locks.unlockAll(held);
+        }
+    }
+
+    @Test
+    @DisplayName("해시가 같은 서로 다른 키는 서로를 막지 않는다")
+    void tryLockAll_hashCollision_doesNotBlock() throws Exception {
+        // "Aa"와 "BB"는 hashCode가 같음
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        List<KeyLock> held = locks.tryLockAll(List.of("Aa"), 0, TimeUnit.MILLISECONDS);
+        try {
+            boolean acquired = CompletableFuture.supplyAsync(() -> {
+                try {
+                    List<KeyLock> other = locks.tryLockAll(List.of("BB"), 0, TimeUnit.MILLISECONDS);
+                    if (other == null) {
+                        return false;
+                    }
+                    locks.unlockAll(other);
+                    return true;
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }).get();
+
+            assertThat(acquired).isTrue();
+        } finally {
+            locks.unlockAll(held);
+        }
+    }
+
+    @Test
+    @DisplayName("여러 키 중 하나라도 획득하지 못하면 먼저 획득한 락도 해제한다")
+    void tryLockAll_partialFailure_releasesAcquired() throws Exception {
+        List<KeyLock> held = locks.tryLockAll(List.of("lock:seat:2"), 0, TimeUnit.MILLISECONDS);
+        List<String> keys = List.of("lock:seat:1", "lock:seat:2", "lock:seat:3");
+        try {
+            List<KeyLock> other = tryLockAllAsync(keys, 10);
+
+            assertThat(other).isNull();
+        } finally {
+            locks.unlockAll(held);
+        }
+
+        List<KeyLock> all = locks.tryLockAll(keys, 0, TimeUnit.MILLISECONDS);
+        assertThat(all).isNotNull();
+        locks.unlockAll(all);
+    }
+
+    @Test
+    @DisplayName("모든 사용자가 해제하면 키별 락을 보관하지 않는다")
+    void unlockAll_lastUser_removesKey() throws Exception {
+        List<KeyLock> held = locks.tryLockAll(List.of("lock:seat:1", "lock:seat:2"), 0, TimeUnit.MILLISECONDS);
+        assertThat(tryLockAllAsync(List.of("lock:seat:1"), 10)).isNull();
+        assertThat(locks.size()).isEqualTo(2);
+
+        locks.unlockAll(held);
+
+        assertThat(locks.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("가상 스레드가 같은 키를 기다리는 동안 캐리어 스레드를 점유하지 않는다")
+    void tryLockAll_virtualThreadsWaiting_doNotPinCarriers() throws Exception {
+        List<KeyLock> held = locks.tryLockAll(List.of("lock:seat:1"), 0, TimeUnit.MILLISECONDS);
+        int waiters = Runtime.getRuntime().availableProcessors() * 4;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Boolean>> waiting = new ArrayList<>();
+            for (int i = 0; i < waiters; i++) {
+                waiting.add(executor.submit(() -> {
+                    List<KeyLock> acquired = locks.tryLockAll(List.of("lock:seat:1"), 5, TimeUnit.SECONDS);
+                    if (acquired == null) {
+                        return false;
+                    }
+                    locks.unlockAll(acquired);
+                    return true;
+                }));
+            }
+
+            // 대기자가 캐리어 수보다 많아도 다른 가상 스레드는 바로 실행됨
+            Future<Boolean> other = executor.submit(() -> true);
+            assertThat(other.get(500, TimeUnit.MILLISECONDS)).isTrue();
+
+            locks.unlockAll(held);
+            held = List.of();
+            for (Future<Boolean> future : waiting) {
+                assertThat(future.get()).isTrue();
+            }
+        } finally {
+            locks.unlockAll(held);
+        }
+        assertThat(locks.size()).isZero();
+    }
+
+    private List<KeyLock> tryLockAllAsync(List<String> keys, long timeoutMillis) throws Exception {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return locks.tryLockAll(keys, timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }).get();
+    }
+}
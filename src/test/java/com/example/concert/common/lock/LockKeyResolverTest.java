@@ -0,0 +1,75 @@
+package com.example.concert.common.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LockKeyResolver 단위 테스트")
+class LockKeyResolverTest {
+
+    private final LockKeyResolver resolver = new LockKeyResolver();
+
+    @Test
+    @DisplayName("컴파일 임계치를 넘겨 반복 평가해도 호출마다 인자 값으로 키를 만든다")
+    void resolve_repeatedCalls_usesCurrentArguments() throws NoSuchMethodException {
+        Method method = Target.class.getMethod("reserve", Long.class, Long.class);
+
+        for (long seatId = 1; seatId <= 500; seatId++) {
+            assertThat(resolver.resolve(method, "'seat:' + #seatId", new Object[] { 10L, seatId }))
+                    .isEqualTo("seat:" + seatId);
+        }
+    }
+
+    @Test
+    @DisplayName("컬렉션 projection 표현식은 좌석별 키 목록을 반환한다")
+    void resolve_projection_returnsKeyList() throws NoSuchMethodException {
+        Method method = Target.class.getMethod("reserveAll", Long.class, List.class);
+
+        Object keys = resolver.resolve(method, "#seatIds.![ 'seat:' + #this ]", new Object[] { 10L, List.of(1L, 2L) });
+
+        assertThat(keys).isEqualTo(List.of("seat:1", "seat:2"));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 평가해도 각 호출은 자기 인자로 키를 만든다 (공유 컨텍스트에 변수를 두지 않음)")
+    void resolve_concurrentCalls_doNotShareArguments() throws Exception {
+        Method method = Target.class.getMethod("reserve", Long.class, Long.class);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                long base = t * 1_000L;
+                results.add(executor.submit(() -> {
+                    for (long seatId = base; seatId < base + 500; seatId++) {
+                        if (!("seat:" + seatId).equals(
+                                resolver.resolve(method, "'seat:' + #seatId", new Object[] { 10L, seatId }))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    static class Target {
+        public void reserve(Long scheduleId, Long seatId) {
+        }
+
+        public void reserveAll(Long scheduleId, List<Long> seatIds) {
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.concert.domain.concert.infrastructure;
+
+import com.example.concert.config.AbstractIntegrationTest;
+import com.example.concert.domain.concert.entity.Seat;
+import com.example.concert.domain.concert.entity.SeatStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 캐시는 컨텍스트 안에서 유지되므로 테스트마다 다른 스케줄 id를 사용합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("RedisSeatCache 통합 테스트")
+class RedisSeatCacheIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private RedisSeatCache seatCache;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Test
+    @DisplayName("캐시 미스일 때만 loader로 적재하고 Redis HASH에 좌석별로 저장한다")
+    void get_loadsOnceAndStoresPerSeat() {
+        Long scheduleId = 900_001L;
+        AtomicInteger loads = new AtomicInteger();
+
+        List<Seat> first = seatCache.get(scheduleId, id -> {
+            loads.incrementAndGet();
+            return seats(id);
+        });
+        List<Seat> second = seatCache.get(scheduleId, id -> {
+            loads.incrementAndGet();
+            return seats(id);
+        });
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second).extracting(Seat::getId).containsExactlyElementsOf(first.stream().map(Seat::getId).toList());
+        assertThat(redisTemplate.opsForHash().get("seat:cache:" + scheduleId, "2"))
+                .isEqualTo("T2:50000.00");
+    }
+
+    @Test
+    @DisplayName("상태 변경은 해당 좌석 항목만 교체한다")
+    void updateStatus_patchesOnlyGivenSeat() {
+        Long scheduleId = 900_002L;
+        seatCache.get(scheduleId, this::seats);
+
+        seatCache.updateStatus(scheduleId, List.of(1L), SeatStatus.TEMP_RESERVED);
+
+        List<Seat> cached = seatCache.get(scheduleId, id -> List.of());
+        assertThat(cached).extracting(Seat::getStatus)
+                .containsExactly(SeatStatus.TEMP_RESERVED, SeatStatus.TEMP_RESERVED, SeatStatus.RESERVED);
+        assertThat(redisTemplate.opsForHash().get("seat:cache:" + scheduleId, "1"))
+                .isEqualTo("T1:50000.00");
+        assertThat(redisTemplate.opsForHash().get("seat:cache:" + scheduleId, "3"))
+                .isEqualTo("R3:80000.00");
+    }
+
+    @Test
+    @DisplayName("캐시되지 않은 스케줄의 상태 변경은 좌석 목록 캐시를 만들지 않는다")
+    void updateStatus_notCached_ignored() {
+        Long scheduleId = 900_003L;
+
+        seatCache.updateStatus(scheduleId, List.of(1L), SeatStatus.RESERVED);
+
+        assertThat(redisTemplate.hasKey("seat:cache:" + scheduleId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("DB 조회 후 적재 전에 커밋된 상태 변경은 적재한 목록에 덧씌워진다")
+    void get_appliesChangeCommittedBeforeLoad() {
+        Long scheduleId = 900_006L;
+        // DB에서 읽은 스냅샷 (좌석 1 AVAILABLE)
+        List<Seat> snapshot = seats(scheduleId);
+
+        // 적재 전에 다른 요청이 좌석 1을 선점하고 커밋
+        seatCache.updateStatus(scheduleId, List.of(1L), SeatStatus.TEMP_RESERVED);
+        List<Seat> cached = seatCache.get(scheduleId, id -> snapshot);
+
+        assertThat(cached).extracting(Seat::getStatus)
+                .containsExactly(SeatStatus.TEMP_RESERVED, SeatStatus.TEMP_RESERVED, SeatStatus.RESERVED);
+        assertThat(redisTemplate.opsForHash().get("seat:cache:" + scheduleId, "1"))
+                .isEqualTo("T1:50000.00");
+        assertThat(seatCache.findStatuses(scheduleId, List.of(1L))).containsEntry(1L, SeatStatus.TEMP_RESERVED);
+    }
+
+    @Test
+    @DisplayName("좌석 상태 조회는 요청한 좌석만 반환하고 캐시 미스여도 적재하지 않는다")
+    void findStatuses_returnsRequestedSeatsOnly() {
+        Long scheduleId = 900_004L;
+        Long uncachedScheduleId = 900_005L;
+        seatCache.get(scheduleId, this::seats);
+
+        assertThat(seatCache.findStatuses(scheduleId, List.of(2L, 3L, 99L)))
+                .containsExactlyInAnyOrderEntriesOf(Map.of(2L, SeatStatus.TEMP_RESERVED, 3L, SeatStatus.RESERVED));
+        assertThat(seatCache.findStatuses(uncachedScheduleId, List.of(1L))).isEmpty();
+        assertThat(redisTemplate.hasKey("seat:cache:" + uncachedScheduleId)).isFalse();
+    }
+
+    private List<Seat> seats(Long scheduleId) {
+        return List.of(
+                new Seat(1L, scheduleId, 1, new BigDecimal("50000.00"), SeatStatus.AVAILABLE, 0L, null, null),
+                new Seat(2L, scheduleId, 2, new BigDecimal("50000.00"), SeatStatus.TEMP_RESERVED, 0L, null, null),
+                new Seat(3L, scheduleId, 3, new BigDecimal("80000.00"), SeatStatus.RESERVED, 0L, null, null));
+    }
+}
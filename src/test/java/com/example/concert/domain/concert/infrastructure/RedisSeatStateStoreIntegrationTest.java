@@ -0,0 +1,110 @@
+package com.example.concert.domain.concert.infrastructure;
+
+import com.example.concert.config.AbstractIntegrationTest;
+import com.example.concert.domain.concert.entity.SeatStatus;
+import com.example.concert.domain.concert.repository.SeatStateStore.SeatStateChange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 변경 대기열은 전역 키이므로 테스트 중 write-behind 스케줄러가 변경을 가져가지 않도록 주기를 길게 설정합니다.
+ */
+@SpringBootTest(properties = "reservation.seat.write-behind.interval-ms=3600000")
+@ActiveProfiles("test")
+@DisplayName("RedisSeatStateStore 통합 테스트")
+class RedisSeatStateStoreIntegrationTest extends AbstractIntegrationTest {
+
+    private static final Long SCHEDULE_ID = 910_001L;
+
+    @Autowired
+    private RedisSeatStateStore seatStateStore;
+
+    @Test
+    @DisplayName("선점한 좌석은 반영이 확인될 때까지 미반영 색인에 남는다")
+    void claim_keepsSeatUnappliedUntilAcknowledged() {
+        givenAvailableSeats(1L, 2L);
+
+        seatStateStore.claim(SCHEDULE_ID, 1L);
+
+        assertThat(seatStateStore.hasUnappliedChange(SCHEDULE_ID, 1L)).isTrue();
+        assertThat(seatStateStore.hasUnappliedChange(SCHEDULE_ID, 2L)).isFalse();
+        assertThat(seatStateStore.findUnappliedSeatIds(SCHEDULE_ID)).containsExactly(1L);
+
+        List<SeatStateChange> changes = seatStateStore.pollPendingChanges(10);
+        assertThat(seatStateStore.hasUnappliedChange(SCHEDULE_ID, 1L)).isTrue();
+
+        seatStateStore.acknowledge(changes);
+        assertThat(seatStateStore.hasUnappliedChange(SCHEDULE_ID, 1L)).isFalse();
+        assertThat(seatStateStore.findUnappliedSeatIds(SCHEDULE_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 좌석에 변경이 여러 건이면 마지막 변경이 반영될 때까지 미반영으로 본다")
+    void claimThenCancel_countsEachChange() {
+        givenAvailableSeats(1L);
+        seatStateStore.claim(SCHEDULE_ID, 1L);
+        seatStateStore.cancelClaim(SCHEDULE_ID, 1L);
+
+        List<SeatStateChange> changes = seatStateStore.pollPendingChanges(10);
+        assertThat(changes).hasSize(2);
+
+        seatStateStore.acknowledge(changes.subList(0, 1));
+        assertThat(seatStateStore.hasUnappliedChange(SCHEDULE_ID, 1L)).isTrue();
+
+        seatStateStore.acknowledge(changes.subList(1, 2));
+        assertThat(seatStateStore.hasUnappliedChange(SCHEDULE_ID, 1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("처리 중에서 복구된 변경의 확인은 건수를 줄이지 않는다")
+    void acknowledgeAfterRecovery_keepsSeatUnapplied() {
+        givenAvailableSeats(1L);
+        seatStateStore.claim(SCHEDULE_ID, 1L);
+        List<SeatStateChange> changes = seatStateStore.pollPendingChanges(10);
+
+        seatStateStore.recoverInFlightChanges(-1_000);
+        seatStateStore.acknowledge(changes);
+
+        assertThat(seatStateStore.hasUnappliedChange(SCHEDULE_ID, 1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("해제는 좌석이 예상한 선점 상태일 때만 AVAILABLE로 바꾼다")
+    void release_comparesExpectedState() {
+        givenAvailableSeats(1L, 2L);
+        seatStateStore.claim(SCHEDULE_ID, 1L);
+        seatStateStore.claim(SCHEDULE_ID, 2L);
+        seatStateStore.compareAndSet(SCHEDULE_ID, 2L, SeatStatus.TEMP_RESERVED, SeatStatus.RESERVED);
+
+        assertThat(seatStateStore.release(SCHEDULE_ID, 1L, SeatStatus.TEMP_RESERVED)).isTrue();
+        assertThat(seatStateStore.release(SCHEDULE_ID, 2L, SeatStatus.TEMP_RESERVED)).isFalse();
+
+        assertThat(seatStateStore.findStates(SCHEDULE_ID))
+                .containsEntry(1L, SeatStatus.AVAILABLE)
+                .containsEntry(2L, SeatStatus.RESERVED);
+    }
+
+    @Test
+    @DisplayName("적재되지 않은 스케줄의 좌석은 해제하지 않는다")
+    void release_ignoresUnloadedSchedule() {
+        assertThat(seatStateStore.release(SCHEDULE_ID, 1L, SeatStatus.TEMP_RESERVED)).isFalse();
+        assertThat(seatStateStore.findStates(SCHEDULE_ID)).isEmpty();
+    }
+
+    private void givenAvailableSeats(Long... seatIds) {
+        Map<Long, SeatStatus> statuses = new HashMap<>();
+        for (Long seatId : seatIds) {
+            statuses.put(seatId, SeatStatus.AVAILABLE);
+        }
+        seatStateStore.load(SCHEDULE_ID, statuses);
+    }
+}
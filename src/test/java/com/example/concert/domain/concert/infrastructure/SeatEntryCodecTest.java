@@ -0,0 +1,80 @@
+package com.example.concert.domain.concert.infrastructure;
+
+import com.example.concert.domain.concert.entity.Seat;
+import com.example.concert.domain.concert.entity.SeatStatus;
+import com.example.concert.domain.concert.service.ConcertService.SeatInfo;
+import com.example.concert.domain.concert.service.ConcertService.SeatsResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SeatEntryCodec 단위 테스트")
+class SeatEntryCodecTest {
+
+    @Test
+    @DisplayName("좌석 항목은 상태 코드, 좌석 번호, 가격으로 저장되어 같은 값으로 복원된다")
+    void roundTrip() {
+        Seat seat = new Seat(10L, 1L, 42, new BigDecimal("150000.00"), SeatStatus.TEMP_RESERVED, 3L, null, null);
+
+        String entry = SeatEntryCodec.encode(seat);
+        Seat decoded = SeatEntryCodec.decode(1L, "10", entry);
+
+        assertThat(entry).isEqualTo("T42:150000.00");
+        assertThat(decoded.getId()).isEqualTo(10L);
+        assertThat(decoded.getScheduleId()).isEqualTo(1L);
+        assertThat(decoded.getSeatNumber()).isEqualTo(42);
+        assertThat(decoded.getPrice()).isEqualTo(new BigDecimal("150000.00"));
+        assertThat(decoded.getStatus()).isEqualTo(SeatStatus.TEMP_RESERVED);
+    }
+
+    @Test
+    @DisplayName("첫 글자만 바꾸면 나머지 값은 그대로 두고 상태만 바뀐다")
+    void statusCode_isFirstCharacter() {
+        Seat seat = new Seat(10L, 1L, 7, new BigDecimal("80000"), SeatStatus.AVAILABLE, 0L, null, null);
+        String entry = SeatEntryCodec.encode(seat);
+
+        for (SeatStatus status : SeatStatus.values()) {
+            Seat patched = SeatEntryCodec.decode(1L, "10", SeatEntryCodec.encodeStatus(status) + entry.substring(1));
+
+            assertThat(patched.getStatus()).isEqualTo(status);
+            assertThat(patched.getSeatNumber()).isEqualTo(7);
+            assertThat(patched.getPrice()).isEqualTo(new BigDecimal("80000"));
+        }
+    }
+
+    @Test
+    @DisplayName("2,000석 스케줄의 좌석별 항목은 목록 전체 JDK 직렬화의 1/4보다 작고, 1석 변경은 항목 하나만 다시 쓴다")
+    void entries_smallerThanJdkSerializedList() {
+        List<SeatInfo> seatInfos = new ArrayList<>();
+        long entryBytes = 0;
+        for (int i = 0; i < 2000; i++) {
+            Seat seat = new Seat(10_000L + i, 1L, i + 1, new BigDecimal("80000.00"), SeatStatus.AVAILABLE, 0L,
+                    null, null);
+            seatInfos.add(new SeatInfo(seat.getId(), seat.getSeatNumber(), seat.getStatus(), seat.getPrice()));
+            entryBytes += String.valueOf(seat.getId()).length()
+                    + SeatEntryCodec.encode(seat).getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        byte[] jdk = new JdkSerializationRedisSerializer().serialize(new SeatsResult(1L, seatInfos));
+
+        // 측정값: JDK 172,854 bytes, 좌석별 항목(필드 + 값) 36,893 bytes
+        assertThat(entryBytes * 4).isLessThan(jdk.length);
+        assertThat(SeatEntryCodec.encode(new Seat(10_000L, 1L, 2000, new BigDecimal("80000.00"), SeatStatus.AVAILABLE,
+                0L, null, null))).hasSizeLessThanOrEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("모르는 상태 코드는 예외")
+    void unknownStatusCode_throws() {
+        assertThatThrownBy(() -> SeatEntryCodec.decodeStatus("X"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -135,4 +135,31 @@ class SeatRepositoryIntegrationTest extends AbstractIntegrationTest {
             assertThat(seats).hasSize(5);
         }
     }
+
+    @Nested
+    @DisplayName("updateStatusIfFenced 테스트")
+    class UpdateStatusIfFencedTest {
+
+        @Test
+        @DisplayName("기록된 토큰보다 작은 토큰의 쓰기는 거절")
+        void shouldRejectStaleFencingToken() {
+            // given: 토큰 10으로 선점 후 해제된 좌석
+            Long seatId = seatRepository.findAllByScheduleIdAndStatusIn(scheduleId, List.of(SeatStatus.AVAILABLE))
+                    .get(0).getId();
+            assertThat(seatRepository.updateStatusIfFenced(
+                    List.of(seatId), SeatStatus.AVAILABLE, SeatStatus.TEMP_RESERVED, 10L)).isEqualTo(1);
+            seatRepository.updateStatusIfMatches(seatId, SeatStatus.TEMP_RESERVED, SeatStatus.AVAILABLE);
+
+            // when: 임대가 만료된 이전 보유자(토큰 9)가 늦게 쓰기
+            int stale = seatRepository.updateStatusIfFenced(
+                    List.of(seatId), SeatStatus.AVAILABLE, SeatStatus.TEMP_RESERVED, 9L);
+
+            // then
+            assertThat(stale).isZero();
+            assertThat(seatJpaRepository.findById(seatId).orElseThrow().getStatus())
+                    .isEqualTo(SeatStatus.AVAILABLE);
+            assertThat(seatRepository.updateStatusIfFenced(
+                    List.of(seatId), SeatStatus.AVAILABLE, SeatStatus.TEMP_RESERVED, 11L)).isEqualTo(1);
+        }
+    }
 }
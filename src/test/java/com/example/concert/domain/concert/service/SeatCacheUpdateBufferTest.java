@@ -0,0 +1,76 @@
+package com.example.concert.domain.concert.service;
+
+import com.example.concert.domain.concert.entity.SeatStatus;
+import com.example.concert.domain.concert.repository.SeatCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeatCacheUpdateBuffer 단위 테스트")
+class SeatCacheUpdateBufferTest {
+
+    @Mock
+    private SeatCache seatCache;
+
+    @InjectMocks
+    private SeatCacheUpdateBuffer buffer;
+
+    @Test
+    @DisplayName("같은 스케줄의 변경은 상태별 호출 1회로 합쳐진다")
+    void flush_coalescesPerSchedule() {
+        buffer.add(1L, List.of(10L), SeatStatus.TEMP_RESERVED);
+        buffer.add(1L, List.of(11L, 12L), SeatStatus.TEMP_RESERVED);
+        buffer.add(2L, List.of(20L), SeatStatus.AVAILABLE);
+
+        int flushed = buffer.flush();
+
+        assertThat(flushed).isEqualTo(2);
+        verify(seatCache).updateStatus(1L, List.of(10L, 11L, 12L), SeatStatus.TEMP_RESERVED);
+        verify(seatCache).updateStatus(2L, List.of(20L), SeatStatus.AVAILABLE);
+        verifyNoMoreInteractions(seatCache);
+    }
+
+    @Test
+    @DisplayName("같은 좌석이 여러 번 바뀌면 마지막 상태만 반영한다")
+    void flush_lastStatusWins() {
+        buffer.add(1L, List.of(10L), SeatStatus.TEMP_RESERVED);
+        buffer.add(1L, List.of(10L), SeatStatus.RESERVED);
+
+        buffer.flush();
+
+        verify(seatCache).updateStatus(1L, List.of(10L), SeatStatus.RESERVED);
+        verifyNoMoreInteractions(seatCache);
+    }
+
+    @Test
+    @DisplayName("반영한 변경은 다음 flush에서 다시 반영하지 않는다")
+    void flush_drainsBuffer() {
+        buffer.add(1L, List.of(10L), SeatStatus.TEMP_RESERVED);
+        buffer.flush();
+
+        assertThat(buffer.flush()).isZero();
+        verify(seatCache, times(1)).updateStatus(anyLong(), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("한 스케줄 반영이 실패해도 다른 스케줄은 반영한다")
+    void flush_failureIsolatedPerSchedule() {
+        doThrow(new RuntimeException("redis down"))
+                .when(seatCache).updateStatus(eq(1L), anyList(), any());
+        buffer.add(1L, List.of(10L), SeatStatus.TEMP_RESERVED);
+        buffer.add(2L, List.of(20L), SeatStatus.TEMP_RESERVED);
+
+        assertThat(buffer.flush()).isEqualTo(1);
+        verify(seatCache).updateStatus(2L, List.of(20L), SeatStatus.TEMP_RESERVED);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.concert.domain.payment.usecase;
+
+import com.example.concert.domain.concert.entity.Seat;
+import com.example.concert.domain.concert.entity.SeatStatus;
+import com.example.concert.domain.concert.repository.SeatRepository;
+import com.example.concert.domain.concert.repository.SeatStateStore;
+import com.example.concert.domain.concert.service.ConcertService;
+import com.example.concert.domain.payment.event.PaymentEventPublisher;
+import com.example.concert.domain.payment.repository.PaymentRepository;
+import com.example.concert.domain.point.usecase.UsePointUseCase;
+import com.example.concert.domain.queue.entity.QueueToken;
+import com.example.concert.domain.queue.usecase.ValidateTokenUseCase;
+import com.example.concert.domain.reservation.entity.Reservation;
+import com.example.concert.domain.reservation.repository.ReservationRepository;
+import com.example.concert.domain.reservation.usecase.SeatReservationStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProcessPaymentUseCase 좌석 확정 단위 테스트")
+class ProcessPaymentUseCaseTest {
+
+    private static final String TOKEN = "token";
+    private static final Long USER_ID = 1L;
+    private static final Long SCHEDULE_ID = 10L;
+    private static final Long SEAT_ID = 100L;
+    private static final Long RESERVATION_ID = 1000L;
+
+    @Mock
+    private ValidateTokenUseCase validateTokenUseCase;
+    @Mock
+    private ReservationRepository reservationRepository;
+    @Mock
+    private SeatRepository seatRepository;
+    @Mock
+    private SeatStateStore seatStateStore;
+    @Mock
+    private ConcertService concertService;
+    @Mock
+    private UsePointUseCase usePointUseCase;
+    @Mock
+    private PaymentRepository paymentRepository;
+    @Mock
+    private PaymentEventPublisher paymentEventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        when(validateTokenUseCase.execute(TOKEN))
+                .thenReturn(new QueueToken(USER_ID, 1L, LocalDateTime.now().plusMinutes(30)));
+        when(reservationRepository.findByIdWithLock(RESERVATION_ID))
+                .thenReturn(Optional.of(Reservation.create(USER_ID, SCHEDULE_ID, SEAT_ID)));
+        when(paymentRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("REDIS_CLAIM에서 선점이 write-behind 대기 중이면 AVAILABLE 좌석도 확정한다")
+    void redisClaim_pendingWriteBehind_confirms() {
+        givenSeat(SeatStatus.AVAILABLE);
+        when(seatStateStore.hasUnappliedChange(SCHEDULE_ID, SEAT_ID)).thenReturn(true);
+
+        useCase(SeatReservationStrategy.REDIS_CLAIM).execute(TOKEN, USER_ID, RESERVATION_ID);
+
+        ArgumentCaptor<Seat> saved = ArgumentCaptor.forClass(Seat.class);
+        verify(seatRepository).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo(SeatStatus.RESERVED);
+        verify(seatStateStore).compareAndSet(SCHEDULE_ID, SEAT_ID, SeatStatus.TEMP_RESERVED, SeatStatus.RESERVED);
+    }
+
+    @Test
+    @DisplayName("REDIS_CLAIM이어도 대기 중인 변경이 없으면 AVAILABLE 좌석은 확정하지 않는다")
+    void redisClaim_noPendingWriteBehind_throws() {
+        givenSeat(SeatStatus.AVAILABLE);
+        when(seatStateStore.hasUnappliedChange(SCHEDULE_ID, SEAT_ID)).thenReturn(false);
+
+        assertThatThrownBy(() -> useCase(SeatReservationStrategy.REDIS_CLAIM).execute(TOKEN, USER_ID, RESERVATION_ID))
+                .isInstanceOf(IllegalStateException.class);
+        verify(seatRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("다른 방식에서는 AVAILABLE 좌석을 확정하지 않는다 (TEMP_RESERVED → RESERVED만 허용)")
+    void distributedLock_availableSeat_throws() {
+        givenSeat(SeatStatus.AVAILABLE);
+
+        assertThatThrownBy(() -> useCase(SeatReservationStrategy.DISTRIBUTED_LOCK)
+                .execute(TOKEN, USER_ID, RESERVATION_ID))
+                .isInstanceOf(IllegalStateException.class);
+        verify(seatStateStore, never()).hasUnappliedChange(anyLong(), anyLong());
+        verify(seatRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("다른 방식에서는 선점 좌석을 확정해도 Redis 좌석 상태를 건드리지 않는다")
+    void distributedLock_tempReservedSeat_skipsSeatStateStore() {
+        givenSeat(SeatStatus.TEMP_RESERVED);
+
+        useCase(SeatReservationStrategy.DISTRIBUTED_LOCK).execute(TOKEN, USER_ID, RESERVATION_ID);
+
+        ArgumentCaptor<Seat> saved = ArgumentCaptor.forClass(Seat.class);
+        verify(seatRepository).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo(SeatStatus.RESERVED);
+        verifyNoInteractions(seatStateStore);
+    }
+
+    private void givenSeat(SeatStatus status) {
+        when(seatRepository.findById(SEAT_ID)).thenReturn(Optional.of(
+                new Seat(SEAT_ID, SCHEDULE_ID, 1, new BigDecimal("50000"), status, 0L, null, null)));
+    }
+
+    private ProcessPaymentUseCase useCase(SeatReservationStrategy strategy) {
+        return new ProcessPaymentUseCase(validateTokenUseCase, reservationRepository, seatRepository, seatStateStore,
+                concertService, usePointUseCase, paymentRepository, paymentEventPublisher, strategy);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.concert.domain.queue.infrastructure;
+
+import com.example.concert.domain.queue.entity.QueueToken;
+import com.example.concert.domain.queue.entity.TokenStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("HmacQueueTokenSigner 단위 테스트")
+class HmacQueueTokenSignerTest {
+
+    private static final String SECRET = "test-secret-key-with-at-least-32-chars";
+
+    private final HmacQueueTokenSigner signer = new HmacQueueTokenSigner(true, SECRET);
+
+    private QueueToken activeToken() {
+        return new QueueToken(null, null, 1L, 100L, "uuid-token", TokenStatus.ACTIVE,
+                LocalDateTime.now().plusMinutes(30).truncatedTo(ChronoUnit.MILLIS), null);
+    }
+
+    @Test
+    @DisplayName("서명한 토큰을 검증하면 userId, concertId, 상태, 만료 시각이 복원된다")
+    void signAndVerify_roundTrip() {
+        QueueToken token = activeToken();
+
+        String signed = signer.sign(token);
+        Optional<QueueToken> verified = signer.verify(signed);
+
+        assertThat(signer.isSigned(signed)).isTrue();
+        assertThat(verified).isPresent();
+        assertThat(verified.get().getToken()).isEqualTo("uuid-token");
+        assertThat(verified.get().getUserId()).isEqualTo(1L);
+        assertThat(verified.get().getConcertId()).isEqualTo(100L);
+        assertThat(verified.get().getStatus()).isEqualTo(TokenStatus.ACTIVE);
+        assertThat(verified.get().getExpiresAt()).isEqualTo(token.getExpiresAt());
+    }
+
+    @Test
+    @DisplayName("payload가 변조되면 검증에 실패한다")
+    void verify_rejectsTamperedPayload() {
+        String signed = signer.sign(activeToken());
+        String[] parts = signed.split("\\.");
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("uuid-token|2|100|ACTIVE|0|9999999999999".getBytes());
+
+        assertThat(signer.verify(parts[0] + "." + forgedPayload + "." + parts[2])).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명한 토큰은 검증에 실패한다")
+    void verify_rejectsOtherKey() {
+        HmacQueueTokenSigner other = new HmacQueueTokenSigner(true, "another-secret-key-with-32-characters");
+
+        assertThat(signer.verify(other.sign(activeToken()))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 가상 스레드가 동시에 서명/검증해도 Mac을 공유하지 않고 모두 통과한다")
+    void signAndVerify_concurrentVirtualThreads() throws Exception {
+        int tasks = Runtime.getRuntime().availableProcessors() * 50;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < tasks; i++) {
+                long userId = i;
+                results.add(executor.submit(() -> {
+                    QueueToken token = new QueueToken(null, null, userId, 100L, "uuid-" + userId, TokenStatus.ACTIVE,
+                            LocalDateTime.now().plusMinutes(30).truncatedTo(ChronoUnit.MILLIS), null);
+                    return signer.verify(signer.sign(token))
+                            .map(verified -> verified.getUserId().equals(userId))
+                            .orElse(false);
+                }));
+            }
+
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("서명 토큰 모드가 꺼져 있으면 서명 토큰으로 인식하지 않는다")
+    void disabled_doesNotAcceptSignedTokens() {
+        HmacQueueTokenSigner disabled = new HmacQueueTokenSigner(false, "");
+        String signed = signer.sign(activeToken());
+
+        assertThat(disabled.isSigned(signed)).isFalse();
+        assertThat(disabled.verify(signed)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("서명 토큰 모드에서 키가 짧으면 기동에 실패한다")
+    void enabled_requiresLongSecret() {
+        assertThatThrownBy(() -> new HmacQueueTokenSigner(true, "short"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
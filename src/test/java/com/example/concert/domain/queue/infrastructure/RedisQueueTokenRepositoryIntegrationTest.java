@@ -1,17 +1,27 @@
 package com.example.concert.domain.queue.infrastructure;
 
 import com.example.concert.config.AbstractIntegrationTest;
+import com.example.concert.domain.queue.entity.AdmissionPolicy;
+import com.example.concert.domain.queue.entity.AdmissionProgress;
 import com.example.concert.domain.queue.entity.QueueToken;
 import com.example.concert.domain.queue.entity.TokenStatus;
+import com.example.concert.domain.queue.repository.QueueTokenRepository.IssuedToken;
+import com.example.concert.domain.queue.repository.QueueTokenRepository.TokenProgress;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -25,9 +35,21 @@ class RedisQueueTokenRepositoryIntegrationTest extends AbstractIntegrationTest {
     @Autowired
     private RedisQueueTokenRepositoryImpl repository;
 
+    @Autowired
+    private RedisTemplate<String, String> queueRedisTemplate;
+
     private static final Long USER_ID = 1L;
     private static final Long CONCERT_ID = 100L;
 
+    private static AdmissionPolicy maxActive(int maxActiveTokens) {
+        return new AdmissionPolicy(maxActiveTokens, 10, 50);
+    }
+
+    private static QueueToken waitingToken(Long userId, String token, long score) {
+        return new QueueToken(null, score, userId, CONCERT_ID, token, TokenStatus.WAITING,
+                LocalDateTime.now().plusMinutes(30), null);
+    }
+
     @Nested
     @DisplayName("save()")
     class SaveTest {
@@ -70,6 +92,188 @@ class RedisQueueTokenRepositoryIntegrationTest extends AbstractIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("토큰 Hash 인코딩")
+    class EncodingTest {
+
+        @Test
+        @DisplayName("토큰 Hash는 한 글자 필드와 epochMillis 정수 값으로 저장된다")
+        void save_writesCompactFields() {
+            // given
+            LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(30).withNano(0);
+            QueueToken token = repository.save(new QueueToken(USER_ID, CONCERT_ID, expiresAt));
+
+            // when
+            Map<Object, Object> fields = queueRedisTemplate.opsForHash().entries("queue:token:" + token.getToken());
+
+            // then
+            assertThat(fields).containsOnlyKeys("u", "c", "s", "o", "x", "t");
+            assertThat(fields.get("s")).isEqualTo("W");
+            assertThat(fields.get("x"))
+                    .isEqualTo(String.valueOf(expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
+            assertThat(repository.findByToken(token.getToken()).get().getExpiresAt()).isEqualTo(expiresAt);
+        }
+
+        @Test
+        @DisplayName("이전 형식(ISO 날짜 문자열)으로 저장된 토큰도 조회하고 활성화할 수 있다")
+        void legacyHash_isReadableAndActivatable() {
+            // given - 압축 인코딩 도입 이전에 저장된 대기 토큰
+            LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(30).withNano(0);
+            queueRedisTemplate.opsForHash().putAll("queue:token:legacy-token", Map.of(
+                    "userId", "7",
+                    "concertId", String.valueOf(CONCERT_ID),
+                    "status", "WAITING",
+                    "score", "1000",
+                    "expiresAt", expiresAt.toString(),
+                    "createdAt", LocalDateTime.now().withNano(0).toString(),
+                    "seq", "3"));
+            queueRedisTemplate.opsForZSet().add("queue:waiting:" + CONCERT_ID, "legacy-token", 1000);
+
+            // when
+            Optional<QueueToken> before = repository.findByToken("legacy-token");
+            List<String> activated = repository.activateWaitingTokens(CONCERT_ID, maxActive(10));
+            Optional<TokenProgress> after = repository.findProgressByToken("legacy-token");
+
+            // then
+            assertThat(before).isPresent();
+            assertThat(before.get().getUserId()).isEqualTo(7L);
+            assertThat(before.get().getExpiresAt()).isEqualTo(expiresAt);
+            assertThat(activated).containsExactly("legacy-token");
+            assertThat(after).isPresent();
+            assertThat(after.get().queueToken().getStatus()).isEqualTo(TokenStatus.ACTIVE);
+            assertThat(after.get().sequence()).isEqualTo(3L);
+            assertThat(after.get().admission().watermark()).isEqualTo(3L);
+        }
+    }
+
+    @Nested
+    @DisplayName("issueAndRank()")
+    class IssueAndRankTest {
+
+        @Test
+        @DisplayName("활성 슬롯이 남아있으면 ACTIVE로 발급되고 순위는 null이다")
+        void issueAndRank_activatesWhenSlotsAvailable() {
+            // when
+            IssuedToken issued = repository.issueAndRank(
+                    new QueueToken(USER_ID, CONCERT_ID, LocalDateTime.now().plusMinutes(30)), maxActive(1));
+
+            // then
+            assertThat(issued.queueToken().getStatus()).isEqualTo(TokenStatus.ACTIVE);
+            assertThat(issued.rank()).isNull();
+            assertThat(repository.countByStatusAndConcertId(TokenStatus.ACTIVE, CONCERT_ID)).isEqualTo(1);
+            assertThat(repository.findByToken(issued.queueToken().getToken()))
+                    .get()
+                    .extracting(QueueToken::getStatus)
+                    .isEqualTo(TokenStatus.ACTIVE);
+        }
+
+        @Test
+        @DisplayName("활성 슬롯이 가득 차면 WAITING으로 발급되고 대기열 순위를 함께 반환한다")
+        void issueAndRank_waitsWhenSlotsFull() {
+            // given - 슬롯 1개를 먼저 점유
+            repository.issueAndRank(new QueueToken(1L, CONCERT_ID, LocalDateTime.now().plusMinutes(30)), maxActive(1));
+
+            // when
+            IssuedToken second = repository.issueAndRank(waitingToken(2L, "token-2", 2000L), maxActive(1));
+            IssuedToken third = repository.issueAndRank(waitingToken(3L, "token-3", 3000L), maxActive(1));
+
+            // then
+            assertThat(second.queueToken().getStatus()).isEqualTo(TokenStatus.WAITING);
+            assertThat(second.rank()).isEqualTo(0L);
+            assertThat(third.rank()).isEqualTo(1L);
+            assertThat(repository.countByStatusAndConcertId(TokenStatus.ACTIVE, CONCERT_ID)).isEqualTo(1);
+            assertThat(repository.countByStatusAndConcertId(TokenStatus.WAITING, CONCERT_ID)).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("발급 결과에 콘서트 입장 진행 상황(watermark, 실측 속도)을 함께 반환한다")
+        void issueAndRank_returnsAdmissionProgress() {
+            // given - 슬롯 1개 점유 후 대기자 2명, 슬롯을 2개로 늘려 1명 입장
+            repository.issueAndRank(new QueueToken(1L, CONCERT_ID, LocalDateTime.now().plusMinutes(30)), maxActive(1));
+            repository.issueAndRank(waitingToken(2L, "token-2", 2000L), maxActive(1));
+            repository.issueAndRank(waitingToken(3L, "token-3", 3000L), maxActive(1));
+            assertThat(repository.activateWaitingTokens(CONCERT_ID, maxActive(2))).containsExactly("token-2");
+
+            // when
+            IssuedToken issued = repository.issueAndRank(waitingToken(4L, "token-4", 4000L), maxActive(2));
+
+            // then
+            assertThat(issued.queueToken().getStatus()).isEqualTo(TokenStatus.WAITING);
+            // 첫 입장 기록은 속도 측정 기준 시각만 남기므로 rate는 0
+            assertThat(issued.admission()).isEqualTo(new AdmissionProgress(1, 0));
+        }
+
+        @Test
+        @DisplayName("앞선 대기자가 있으면 활성 슬롯이 남아있어도 WAITING으로 발급된다")
+        void issueAndRank_doesNotJumpAheadOfWaitingUsers() {
+            // given - 슬롯 1개일 때 활성 1명 + 대기자 1명
+            repository.issueAndRank(new QueueToken(9L, CONCERT_ID, LocalDateTime.now().plusMinutes(30)), maxActive(1));
+            repository.issueAndRank(waitingToken(1L, "token-1", 1000L), maxActive(1));
+
+            // when
+            IssuedToken issued = repository.issueAndRank(waitingToken(2L, "token-2", 2000L), maxActive(50));
+
+            // then
+            assertThat(issued.queueToken().getStatus()).isEqualTo(TokenStatus.WAITING);
+            assertThat(issued.rank()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("같은 사용자가 다시 발급을 요청하면 기존 대기 토큰과 순위를 반환하고 대기열이 늘어나지 않는다")
+        void issueAndRank_reusesWaitingTokenOfSameUser() {
+            // given - 슬롯 1개일 때 활성 1명 + 대기자 1명
+            repository.issueAndRank(new QueueToken(9L, CONCERT_ID, LocalDateTime.now().plusMinutes(30)), maxActive(1));
+            repository.issueAndRank(waitingToken(1L, "token-1", 1000L), maxActive(1));
+            IssuedToken first = repository.issueAndRank(waitingToken(2L, "token-2", 2000L), maxActive(50));
+
+            // when - 새로고침으로 다른 UUID의 토큰 발급 재요청
+            IssuedToken retry = repository.issueAndRank(waitingToken(2L, "token-2-retry", 3000L), maxActive(50));
+
+            // then
+            assertThat(retry.queueToken().getToken()).isEqualTo(first.queueToken().getToken());
+            assertThat(retry.queueToken().getScore()).isEqualTo(2000L);
+            assertThat(retry.rank()).isEqualTo(1L);
+            assertThat(repository.countByStatusAndConcertId(TokenStatus.WAITING, CONCERT_ID)).isEqualTo(2);
+            assertThat(repository.findByToken("token-2-retry")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("같은 사용자의 토큰이 ACTIVE면 그 토큰을 그대로 반환한다")
+        void issueAndRank_reusesActiveTokenOfSameUser() {
+            // given
+            IssuedToken first = repository.issueAndRank(
+                    new QueueToken(USER_ID, CONCERT_ID, LocalDateTime.now().plusMinutes(30)), maxActive(50));
+
+            // when
+            IssuedToken retry = repository.issueAndRank(
+                    new QueueToken(USER_ID, CONCERT_ID, LocalDateTime.now().plusMinutes(30)), maxActive(50));
+
+            // then
+            assertThat(retry.queueToken().getStatus()).isEqualTo(TokenStatus.ACTIVE);
+            assertThat(retry.queueToken().getToken()).isEqualTo(first.queueToken().getToken());
+            assertThat(retry.rank()).isNull();
+            assertThat(repository.countByStatusAndConcertId(TokenStatus.ACTIVE, CONCERT_ID)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("기존 토큰이 만료(결제 완료)되었으면 새 토큰을 발급한다")
+        void issueAndRank_issuesNewTokenAfterExpiry() {
+            // given
+            IssuedToken first = repository.issueAndRank(
+                    new QueueToken(USER_ID, CONCERT_ID, LocalDateTime.now().plusMinutes(30)), maxActive(50));
+            QueueToken used = first.queueToken();
+            used.expire();
+            repository.save(used);
+
+            // when
+            IssuedToken next = repository.issueAndRank(
+                    new QueueToken(USER_ID, CONCERT_ID, LocalDateTime.now().plusMinutes(30)), maxActive(50));
+
+            // then
+            assertThat(next.queueToken().getToken()).isNotEqualTo(used.getToken());
+        }
+    }
+
     @Nested
     @DisplayName("getRankByToken()")
     class RankTest {
@@ -136,6 +340,366 @@ class RedisQueueTokenRepositoryIntegrationTest extends AbstractIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("activateWaitingTokens()")
+    class ActivateWaitingTokensTest {
+
+        @Test
+        @DisplayName("빈 슬롯 수만큼 대기열 앞쪽 토큰을 score 순으로 활성화한다")
+        void activateWaitingTokens_popsFrontOfQueue() {
+            // given - 활성 1개, 대기 3개
+            QueueToken active = new QueueToken(9L, CONCERT_ID, LocalDateTime.now().plusMinutes(30));
+            active.activate();
+            repository.save(active);
+            QueueToken token1 = repository.save(new QueueToken(null, 1000L, 1L, CONCERT_ID, "token-1",
+                    TokenStatus.WAITING, LocalDateTime.now().plusMinutes(30), null));
+            QueueToken token2 = repository.save(new QueueToken(null, 2000L, 2L, CONCERT_ID, "token-2",
+                    TokenStatus.WAITING, LocalDateTime.now().plusMinutes(30), null));
+            repository.save(new QueueToken(null, 3000L, 3L, CONCERT_ID, "token-3",
+                    TokenStatus.WAITING, LocalDateTime.now().plusMinutes(30), null));
+
+            // when - 최대 3개 → 빈 슬롯 2개
+            List<String> activated = repository.activateWaitingTokens(CONCERT_ID, maxActive(3));
+
+            // then
+            assertThat(activated).containsExactly(token1.getToken(), token2.getToken());
+            assertThat(repository.countByStatusAndConcertId(TokenStatus.ACTIVE, CONCERT_ID)).isEqualTo(3);
+            assertThat(repository.countByStatusAndConcertId(TokenStatus.WAITING, CONCERT_ID)).isEqualTo(1);
+            assertThat(repository.findByToken("token-1").get().getStatus()).isEqualTo(TokenStatus.ACTIVE);
+            assertThat(repository.findByToken("token-3").get().getStatus()).isEqualTo(TokenStatus.WAITING);
+        }
+
+        @Test
+        @DisplayName("입장 처리된 가장 큰 대기 순번이 watermark로 기록된다")
+        void activateWaitingTokens_advancesWatermark() {
+            // given - 발급 순서대로 순번 1, 2, 3
+            QueueToken blocker = new QueueToken(9L, CONCERT_ID, LocalDateTime.now().plusMinutes(30));
+            blocker.activate();
+            repository.save(blocker);
+            repository.issueAndRank(waitingToken(1L, "token-1", 1000L), maxActive(1));
+            repository.issueAndRank(waitingToken(2L, "token-2", 2000L), maxActive(1));
+            repository.issueAndRank(waitingToken(3L, "token-3", 3000L), maxActive(1));
+
+            // when - 슬롯 2개 확보 후 입장
+            queueRedisTemplate.opsForZSet().remove("queue:active-exp:" + CONCERT_ID, blocker.getToken());
+            repository.activateWaitingTokens(CONCERT_ID, maxActive(2));
+
+            // then
+            assertThat(repository.getAdmissionProgress(List.of(CONCERT_ID, 999L)))
+                    .containsEntry(CONCERT_ID, new AdmissionProgress(2, 0))
+                    .containsEntry(999L, AdmissionProgress.EMPTY);
+        }
+
+        @Test
+        @DisplayName("상태 조회 시 대기 순번과 watermark를 한 번에 반환한다")
+        void findProgressByToken_returnsSequenceAndWatermark() {
+            // given
+            QueueToken blocker = new QueueToken(9L, CONCERT_ID, LocalDateTime.now().plusMinutes(30));
+            blocker.activate();
+            repository.save(blocker);
+            repository.issueAndRank(waitingToken(1L, "token-1", 1000L), maxActive(1));
+            repository.issueAndRank(waitingToken(2L, "token-2", 2000L), maxActive(1));
+            repository.issueAndRank(waitingToken(3L, "token-3", 3000L), maxActive(1));
+            queueRedisTemplate.opsForZSet().remove("queue:active-exp:" + CONCERT_ID, blocker.getToken());
+            repository.activateWaitingTokens(CONCERT_ID, maxActive(1));
+
+            // when
+            TokenProgress progress = repository.findProgressByToken("token-3").orElseThrow();
+
+            // then - 순번 3, watermark 1 → 순위 2
+            assertThat(progress.queueToken().getStatus()).isEqualTo(TokenStatus.WAITING);
+            assertThat(progress.sequence()).isEqualTo(3L);
+            assertThat(progress.admission().watermark()).isEqualTo(1L);
+            assertThat(progress.admission().rankOf(progress.sequence())).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("빈 슬롯이 없으면 아무 토큰도 활성화하지 않는다")
+        void activateWaitingTokens_noSlots() {
+            // given
+            QueueToken active = new QueueToken(9L, CONCERT_ID, LocalDateTime.now().plusMinutes(30));
+            active.activate();
+            repository.save(active);
+            repository.save(new QueueToken(1L, CONCERT_ID, LocalDateTime.now().plusMinutes(30)));
+
+            // when
+            List<String> activated = repository.activateWaitingTokens(CONCERT_ID, maxActive(1));
+
+            // then
+            assertThat(activated).isEmpty();
+            assertThat(repository.countByStatusAndConcertId(TokenStatus.WAITING, CONCERT_ID)).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("입장 속도 제한 (토큰 버킷)")
+    class AdmissionRateTest {
+
+        @Test
+        @DisplayName("빈 슬롯이 충분해도 버킷 용량(burst)을 넘겨 입장시키지 않는다")
+        void activateWaitingTokens_limitedByBurst() {
+            // given - 대기 5명, 슬롯 50, burst 2 / 충전 속도는 매우 느리게
+            for (long i = 1; i <= 5; i++) {
+                repository.save(new QueueToken(null, i * 1000, i, CONCERT_ID, "token-" + i,
+                        TokenStatus.WAITING, LocalDateTime.now().plusMinutes(30), null));
+            }
+            AdmissionPolicy policy = new AdmissionPolicy(50, 0.001, 2);
+
+            // when
+            List<String> first = repository.activateWaitingTokens(CONCERT_ID, policy);
+            List<String> second = repository.activateWaitingTokens(CONCERT_ID, policy);
+
+            // then
+            assertThat(first).containsExactly("token-1", "token-2");
+            assertThat(second).isEmpty();
+            assertThat(repository.countByStatusAndConcertId(TokenStatus.WAITING, CONCERT_ID)).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("만료 기반 정리 (TTL + 활성 ZSET)")
+    class ExpiryTest {
+
+        @Test
+        @DisplayName("토큰 Hash TTL은 만료 시각에 맞춰 설정된다")
+        void save_setsHashTtlToExpiresAt() {
+            // given
+            QueueToken token = repository.save(new QueueToken(USER_ID, CONCERT_ID, LocalDateTime.now().plusMinutes(30)));
+
+            // when
+            Long ttlSeconds = queueRedisTemplate.getExpire("queue:token:" + token.getToken());
+
+            // then
+            assertThat(ttlSeconds).isBetween(29L * 60, 30L * 60);
+        }
+
+        @Test
+        @DisplayName("활성화 시 만료된 활성 토큰을 일괄 회수하고 그 슬롯으로 대기자를 입장시킨다")
+        void activateWaitingTokens_reclaimsExpiredSlots() {
+            // given - 결제 없이 방치되어 만료 시각이 지난 활성 토큰 2개로 슬롯이 가득 참
+            long now = System.currentTimeMillis();
+            queueRedisTemplate.opsForZSet().add("queue:active-exp:" + CONCERT_ID, "abandoned-1", now - 2000);
+            queueRedisTemplate.opsForZSet().add("queue:active-exp:" + CONCERT_ID, "abandoned-2", now - 1000);
+            QueueToken waiting = repository.save(new QueueToken(1L, CONCERT_ID, LocalDateTime.now().plusMinutes(30)));
+
+            // when
+            List<String> activated = repository.activateWaitingTokens(CONCERT_ID, maxActive(2));
+
+            // then
+            assertThat(activated).containsExactly(waiting.getToken());
+            assertThat(queueRedisTemplate.opsForZSet().range("queue:active-exp:" + CONCERT_ID, 0, -1))
+                    .containsExactly(waiting.getToken());
+        }
+
+        @Test
+        @DisplayName("발급 시에도 만료된 활성 토큰을 정리하여 빈 슬롯으로 계산한다")
+        void issueAndRank_reclaimsExpiredSlots() {
+            // given
+            queueRedisTemplate.opsForZSet().add("queue:active-exp:" + CONCERT_ID, "abandoned",
+                    System.currentTimeMillis() - 1000);
+
+            // when
+            IssuedToken issued = repository.issueAndRank(
+                    new QueueToken(USER_ID, CONCERT_ID, LocalDateTime.now().plusMinutes(30)), maxActive(1));
+
+            // then
+            assertThat(issued.queueToken().getStatus()).isEqualTo(TokenStatus.ACTIVE);
+            assertThat(repository.countByStatusAndConcertId(TokenStatus.ACTIVE, CONCERT_ID)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("활성 토큰의 score는 토큰 만료 시각이며 활성 키 TTL도 함께 설정된다")
+        void issueAndRank_scoresActiveTokenByExpiry() {
+            // given
+            LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(30);
+
+            // when
+            IssuedToken issued = repository.issueAndRank(new QueueToken(USER_ID, CONCERT_ID, expiresAt), maxActive(1));
+
+            // then
+            Double score = queueRedisTemplate.opsForZSet()
+                    .score("queue:active-exp:" + CONCERT_ID, issued.queueToken().getToken());
+            assertThat(score.longValue())
+                    .isEqualTo(expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            assertThat(queueRedisTemplate.getExpire("queue:active-exp:" + CONCERT_ID)).isPositive();
+        }
+
+        @Test
+        @DisplayName("대기 등록된 토큰은 활성 유효 기간이 아닌 대기 보관 기간(TTL)을 가진다")
+        void issueAndRank_waitingTokenKeepsWaitingTtl() {
+            // given - 슬롯을 채워 대기 등록되도록 함
+            QueueToken blocker = new QueueToken(9L, CONCERT_ID, LocalDateTime.now().plusMinutes(30));
+            blocker.activate();
+            repository.save(blocker);
+
+            // when
+            IssuedToken issued = repository.issueAndRank(waitingToken(1L, "token-1", 1000L), maxActive(1));
+
+            // then - 기본 대기 보관 기간 24시간
+            assertThat(issued.queueToken().getStatus()).isEqualTo(TokenStatus.WAITING);
+            assertThat(queueRedisTemplate.getExpire("queue:token:token-1")).isGreaterThan(23L * 3600);
+            assertThat(issued.queueToken().getExpiresAt()).isAfter(LocalDateTime.now().plusHours(23));
+        }
+
+        @Test
+        @DisplayName("입장 처리 시점부터 활성 유효 기간을 다시 설정한다 (토큰 Hash TTL, 만료 시각, 활성 score)")
+        void activateWaitingTokens_resetsExpiryFromAdmission() {
+            // given
+            QueueToken blocker = new QueueToken(9L, CONCERT_ID, LocalDateTime.now().plusMinutes(30));
+            blocker.activate();
+            repository.save(blocker);
+            repository.issueAndRank(waitingToken(1L, "token-1", 1000L), maxActive(1));
+            queueRedisTemplate.opsForZSet().remove("queue:active-exp:" + CONCERT_ID, blocker.getToken());
+
+            // when
+            long before = System.currentTimeMillis();
+            repository.activateWaitingTokens(CONCERT_ID, maxActive(1));
+
+            // then - 기본 활성 유효 기간 30분
+            long expiresAt = Long.parseLong((String) queueRedisTemplate.opsForHash().get("queue:token:token-1", "x"));
+            assertThat(expiresAt).isBetween(before + Duration.ofMinutes(30).toMillis(),
+                    System.currentTimeMillis() + Duration.ofMinutes(30).toMillis());
+            assertThat(queueRedisTemplate.getExpire("queue:token:token-1")).isBetween(29L * 60, 30L * 60);
+            assertThat(queueRedisTemplate.opsForZSet().score("queue:active-exp:" + CONCERT_ID, "token-1").longValue())
+                    .isEqualTo(expiresAt);
+        }
+
+        @Test
+        @DisplayName("대기 중 만료되어 Hash가 없는 멤버는 건너뛰고 그 슬롯으로 다음 대기자를 입장시킨다")
+        void activateWaitingTokens_skipsExpiredWaitingMembers() {
+            // given - 대기 3명 중 맨 앞 토큰의 Hash가 만료됨
+            QueueToken blocker = new QueueToken(9L, CONCERT_ID, LocalDateTime.now().plusMinutes(30));
+            blocker.activate();
+            repository.save(blocker);
+            repository.issueAndRank(waitingToken(1L, "token-1", 1000L), maxActive(1));
+            repository.issueAndRank(waitingToken(2L, "token-2", 2000L), maxActive(1));
+            repository.issueAndRank(waitingToken(3L, "token-3", 3000L), maxActive(1));
+            queueRedisTemplate.delete("queue:token:token-1");
+            queueRedisTemplate.opsForZSet().remove("queue:active-exp:" + CONCERT_ID, blocker.getToken());
+
+            // when
+            List<String> activated = repository.activateWaitingTokens(CONCERT_ID, maxActive(1));
+
+            // then - 만료된 멤버는 활성 ZSET·watermark에 남지 않음
+            assertThat(activated).containsExactly("token-2");
+            assertThat(queueRedisTemplate.opsForZSet().range("queue:active-exp:" + CONCERT_ID, 0, -1))
+                    .containsExactly("token-2");
+            assertThat(repository.countByStatusAndConcertId(TokenStatus.WAITING, CONCERT_ID)).isEqualTo(1);
+            assertThat(repository.getAdmissionProgress(List.of(CONCERT_ID)).get(CONCERT_ID).watermark())
+                    .isEqualTo(2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("대기열 샤딩")
+    class ShardingTest {
+
+        private RedisQueueTokenRepositoryImpl sharded;
+
+        @BeforeEach
+        void setUp() {
+            sharded = new RedisQueueTokenRepositoryImpl(queueRedisTemplate, 4, true,
+                    Duration.ofMinutes(30).toMillis(), Duration.ofDays(1).toMillis());
+        }
+
+        @Test
+        @DisplayName("대기 토큰은 여러 샤드에 나뉘어 저장되고 순위는 전체 score 순서를 따른다")
+        void rank_spansAllShards() {
+            // given
+            for (long i = 1; i <= 12; i++) {
+                sharded.save(waitingToken(i, "token-" + i, i * 1000));
+            }
+
+            // when & then
+            assertThat(queueRedisTemplate.keys("queue:waiting:" + CONCERT_ID + "*")).hasSizeGreaterThan(1);
+            assertThat(sharded.countByStatusAndConcertId(TokenStatus.WAITING, CONCERT_ID)).isEqualTo(12);
+            for (long i = 1; i <= 12; i++) {
+                assertThat(sharded.getRankByToken("token-" + i, CONCERT_ID)).isEqualTo(i - 1);
+            }
+            assertThat(sharded.findTopNByStatusAndConcertIdOrderByIdAsc(TokenStatus.WAITING, CONCERT_ID, 3))
+                    .extracting(QueueToken::getToken)
+                    .containsExactly("token-1", "token-2", "token-3");
+        }
+
+        @Test
+        @DisplayName("활성화는 샤드를 score 순으로 병합하여 전체 앞 순서부터 입장시킨다")
+        void activateWaitingTokens_mergesShardsByScore() {
+            // given
+            for (long i = 1; i <= 12; i++) {
+                sharded.save(waitingToken(i, "token-" + i, i * 1000));
+            }
+
+            // when
+            List<String> activated = sharded.activateWaitingTokens(CONCERT_ID, maxActive(5));
+
+            // then
+            assertThat(activated).containsExactly("token-1", "token-2", "token-3", "token-4", "token-5");
+            assertThat(sharded.countByStatusAndConcertId(TokenStatus.WAITING, CONCERT_ID)).isEqualTo(7);
+            assertThat(sharded.getRankByToken("token-6", CONCERT_ID)).isZero();
+        }
+
+        @Test
+        @DisplayName("발급 시 반환하는 순위는 다른 샤드를 읽지 않고도 샤드 병합 순위와 같다")
+        void issueAndRank_rankMatchesMergedRank() {
+            // given - 슬롯 1개를 먼저 점유
+            sharded.issueAndRank(new QueueToken(100L, CONCERT_ID, LocalDateTime.now().plusMinutes(30)), maxActive(1));
+
+            // when
+            List<IssuedToken> issued = new ArrayList<>();
+            for (long i = 1; i <= 12; i++) {
+                issued.add(sharded.issueAndRank(waitingToken(i, "token-" + i, i * 1000), maxActive(1)));
+            }
+
+            // then
+            assertThat(queueRedisTemplate.keys("queue:waiting:" + CONCERT_ID + "*")).hasSizeGreaterThan(1);
+            for (int i = 0; i < issued.size(); i++) {
+                String token = issued.get(i).queueToken().getToken();
+                assertThat(issued.get(i).queueToken().getStatus()).isEqualTo(TokenStatus.WAITING);
+                assertThat(issued.get(i).rank()).isEqualTo(i).isEqualTo(sharded.getRankByToken(token, CONCERT_ID));
+            }
+        }
+
+        @Test
+        @DisplayName("입장 처리 후 발급·재요청 순위는 입장한 만큼 앞당겨지고 샤드 병합 순위와 같다")
+        void issueAndRank_afterActivation_rankMatchesMergedRank() {
+            // given - 활성 1명 + 대기자 8명 중 슬롯을 4개로 늘려 3명 입장
+            sharded.issueAndRank(new QueueToken(100L, CONCERT_ID, LocalDateTime.now().plusMinutes(30)), maxActive(1));
+            for (long i = 1; i <= 8; i++) {
+                sharded.issueAndRank(waitingToken(i, "token-" + i, i * 1000), maxActive(1));
+            }
+            assertThat(sharded.activateWaitingTokens(CONCERT_ID, maxActive(4)))
+                    .containsExactly("token-1", "token-2", "token-3");
+
+            // when
+            IssuedToken issued = sharded.issueAndRank(waitingToken(9L, "token-9", 9000), maxActive(4));
+            IssuedToken retry = sharded.issueAndRank(waitingToken(6L, "token-6-retry", 10_000), maxActive(4));
+
+            // then
+            assertThat(issued.rank()).isEqualTo(5L).isEqualTo(sharded.getRankByToken("token-9", CONCERT_ID));
+            assertThat(retry.queueToken().getToken()).isEqualTo("token-6");
+            assertThat(retry.rank()).isEqualTo(2L).isEqualTo(sharded.getRankByToken("token-6", CONCERT_ID));
+        }
+
+        @Test
+        @DisplayName("대기열이 모두 비면 다음 발급은 즉시 활성화된다")
+        void issueAndRank_afterQueueDrained_activatesImmediately() {
+            // given
+            for (long i = 1; i <= 6; i++) {
+                sharded.save(waitingToken(i, "token-" + i, i * 1000));
+            }
+            assertThat(sharded.issueAndRank(waitingToken(7L, "token-7", 7000), maxActive(50)).queueToken()
+                    .getStatus()).isEqualTo(TokenStatus.WAITING);
+            assertThat(sharded.activateWaitingTokens(CONCERT_ID, maxActive(50))).hasSize(7);
+
+            // when
+            IssuedToken issued = sharded.issueAndRank(waitingToken(8L, "token-8", 8000), maxActive(50));
+
+            // then
+            assertThat(issued.queueToken().getStatus()).isEqualTo(TokenStatus.ACTIVE);
+            assertThat(sharded.getActiveConcertIds()).doesNotContain(CONCERT_ID);
+        }
+    }
+
     @Nested
     @DisplayName("getActiveConcertIds()")
     class ActiveConcertIdsTest {
@@ -153,6 +717,36 @@ class RedisQueueTokenRepositoryIntegrationTest extends AbstractIntegrationTest {
             // then
             assertThat(concertIds).contains(100L, 200L);
         }
+
+        @Test
+        @DisplayName("대기열이 모두 활성화되어 비면 레지스트리에서 제거된다")
+        void getActiveConcertIds_excludesDrainedConcert() {
+            // given
+            repository.save(new QueueToken(1L, 100L, LocalDateTime.now().plusMinutes(30)));
+            repository.save(new QueueToken(2L, 200L, LocalDateTime.now().plusMinutes(30)));
+
+            // when - 콘서트 100의 대기열을 모두 활성화
+            repository.activateWaitingTokens(100L, maxActive(50));
+
+            // then
+            assertThat(repository.getActiveConcertIds()).containsExactly(200L);
+        }
+
+        @Test
+        @DisplayName("레지스트리에서 누락된 대기열은 SCAN 보정으로 다시 등록된다")
+        void reconcileActiveConcertIds_restoresMissingConcerts() {
+            // given - 레지스트리 없이 대기열 키만 존재하는 상황
+            repository.save(new QueueToken(1L, 100L, LocalDateTime.now().plusMinutes(30)));
+            queueRedisTemplate.delete("queue:concerts");
+            assertThat(repository.getActiveConcertIds()).isEmpty();
+
+            // when
+            int registered = repository.reconcileActiveConcertIds();
+
+            // then
+            assertThat(registered).isEqualTo(1);
+            assertThat(repository.getActiveConcertIds()).containsExactly(100L);
+        }
     }
 
     @Nested
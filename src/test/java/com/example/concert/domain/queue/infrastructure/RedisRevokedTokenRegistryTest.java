@@ -0,0 +1,72 @@
+package com.example.concert.domain.queue.infrastructure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisRevokedTokenRegistry 단위 테스트")
+class RedisRevokedTokenRegistryTest {
+
+    @Mock
+    private RedisTemplate<String, String> queueRedisTemplate;
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private RedisRevokedTokenRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        when(queueRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        registry = new RedisRevokedTokenRegistry(queueRedisTemplate, listenerContainer);
+    }
+
+    @Test
+    @DisplayName("목록을 다시 읽는 동안 Pub/Sub으로 들어온 폐기는 유지한다")
+    void refresh_keepsRevocationsReceivedDuringRebuild() {
+        when(zSetOperations.rangeByScore(eq("queue:revoked"), anyDouble(), anyDouble())).thenAnswer(invocation -> {
+            registry.onMessage(message("token-late"), null);
+            return Set.of("token-1");
+        });
+
+        registry.refresh();
+
+        assertThat(registry.isRevoked("token-1")).isTrue();
+        assertThat(registry.isRevoked("token-late")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Redis 목록에서 정리된(만료된) 항목만 로컬 사본에서 제거한다")
+    void refresh_removesOnlyEntriesGoneFromRedis() {
+        registry.onMessage(message("token-expired"), null);
+        registry.onMessage(message("token-live"), null);
+        when(zSetOperations.rangeByScore(eq("queue:revoked"), anyDouble(), anyDouble()))
+                .thenReturn(Set.of("token-live"));
+
+        registry.refresh();
+
+        assertThat(registry.isRevoked("token-expired")).isFalse();
+        assertThat(registry.isRevoked("token-live")).isTrue();
+    }
+
+    private static DefaultMessage message(String token) {
+        return new DefaultMessage("queue:token:revoked".getBytes(StandardCharsets.UTF_8),
+                token.getBytes(StandardCharsets.UTF_8));
+    }
+}
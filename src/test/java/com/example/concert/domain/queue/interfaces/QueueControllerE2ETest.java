@@ -74,6 +74,28 @@ class QueueControllerE2ETest extends AbstractIntegrationTest {
                                         .andExpect(jsonPath("$.data.rank").value(1));
                 }
 
+                @Test
+                @DisplayName("같은 사용자가 재요청하면 기존 토큰을 그대로 반환")
+                void issueToken_sameUser_returnsExistingToken() throws Exception {
+                        // given
+                        var request = new QueueController.TokenRequest(1L, 500L);
+                        MvcResult first = mockMvc.perform(post("/api/v1/queue/tokens")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(request)))
+                                        .andExpect(status().isOk())
+                                        .andReturn();
+                        String token = objectMapper.readTree(first.getResponse().getContentAsString())
+                                        .path("data").path("token").asText();
+
+                        // when & then
+                        mockMvc.perform(post("/api/v1/queue/tokens")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(request)))
+                                        .andExpect(status().isOk())
+                                        .andExpect(jsonPath("$.data.token").value(token))
+                                        .andExpect(jsonPath("$.data.status").value("ACTIVE"));
+                }
+
                 @Test
                 @DisplayName("토큰 발급 실패 - userId 누락")
                 void issueToken_missingUserId_badRequest() throws Exception {
@@ -175,4 +197,55 @@ class QueueControllerE2ETest extends AbstractIntegrationTest {
                                         .andExpect(status().isBadRequest());
                 }
         }
+
+        @Nested
+        @DisplayName("GET /api/v1/queue/status/stream - 대기 순위 SSE 스트림")
+        class StreamStatusTest {
+
+                private String issueToken(long userId, long concertId) throws Exception {
+                        var request = new QueueController.TokenRequest(userId, concertId);
+                        MvcResult result = mockMvc.perform(post("/api/v1/queue/tokens")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(request)))
+                                        .andExpect(status().isOk())
+                                        .andReturn();
+                        return objectMapper.readTree(result.getResponse().getContentAsString())
+                                        .path("data").path("token").asText();
+                }
+
+                @Test
+                @DisplayName("WAITING 토큰 구독 시 현재 순위를 첫 이벤트로 전송")
+                void streamStatus_waitingToken_sendsInitialRank() throws Exception {
+                        // given - 51번째 토큰은 WAITING
+                        for (int i = 1; i <= 50; i++) {
+                                issueToken(i, 500L);
+                        }
+                        String token = issueToken(51L, 500L);
+
+                        // when & then
+                        mockMvc.perform(get("/api/v1/queue/status/stream").param("token", token))
+                                        .andExpect(request().asyncStarted())
+                                        .andExpect(content().string(containsString("event:position")))
+                                        .andExpect(content().string(containsString("\"status\":\"WAITING\"")))
+                                        .andExpect(content().string(containsString("\"rank\":1")));
+                }
+
+                @Test
+                @DisplayName("ACTIVE 토큰 구독 시 ACTIVE 이벤트를 보내고 스트림 종료")
+                void streamStatus_activeToken_sendsActive() throws Exception {
+                        // given
+                        String token = issueToken(1L, 600L);
+
+                        // when & then
+                        mockMvc.perform(get("/api/v1/queue/status/stream").param("token", token))
+                                        .andExpect(content().string(containsString("\"status\":\"ACTIVE\"")));
+                }
+
+                @Test
+                @DisplayName("존재하지 않는 토큰 구독 - 401 에러")
+                void streamStatus_invalidToken_unauthorized() throws Exception {
+                        mockMvc.perform(get("/api/v1/queue/status/stream").param("token", "invalid-token-uuid"))
+                                        .andExpect(status().isUnauthorized());
+                }
+        }
 }
@@ -1,16 +1,14 @@
 package com.example.concert.domain.queue.usecase;
 
-import com.example.concert.domain.queue.entity.QueueToken;
-import com.example.concert.domain.queue.entity.TokenStatus;
+import com.example.concert.domain.queue.entity.AdmissionPolicy;
 import com.example.concert.domain.queue.repository.QueueTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
 
@@ -23,12 +21,18 @@ import static org.mockito.Mockito.*;
 @DisplayName("ActivateTokenUseCase 단위 테스트")
 class ActivateTokenUseCaseTest {
 
+    private static final AdmissionPolicy ADMISSION_POLICY = new AdmissionPolicy(50, 10, 50);
+
     @Mock
     private QueueTokenRepository queueTokenRepository;
 
-    @InjectMocks
     private ActivateTokenUseCase activateTokenUseCase;
 
+    @BeforeEach
+    void setUp() {
+        activateTokenUseCase = new ActivateTokenUseCase(queueTokenRepository, ADMISSION_POLICY);
+    }
+
     @Test
     @DisplayName("활성화 가능한 슬롯이 있으면 WAITING 토큰을 ACTIVE로 전환")
     void shouldActivateTokens_whenSlotsAvailable() {
@@ -38,27 +42,47 @@ class ActivateTokenUseCaseTest {
         // Redis 기반 활성 콘서트 ID 조회 Mock
         when(queueTokenRepository.getActiveConcertIds()).thenReturn(Set.of(concertId));
 
-        // Active tokens: 40 (Max 50) -> 10 slots available
-        when(queueTokenRepository.countByStatusAndConcertId(TokenStatus.ACTIVE, concertId)).thenReturn(40L);
+        // 2 waiting tokens popped into active
+        when(queueTokenRepository.activateWaitingTokens(concertId, ADMISSION_POLICY))
+                .thenReturn(List.of("token1", "token2"));
 
-        // 2 waiting tokens found
-        QueueToken waitingToken1 = new QueueToken(1L, 1L, concertId, "token1", TokenStatus.WAITING,
-                LocalDateTime.now().plusMinutes(30), LocalDateTime.now());
-        QueueToken waitingToken2 = new QueueToken(2L, 2L, concertId, "token2", TokenStatus.WAITING,
-                LocalDateTime.now().plusMinutes(30), LocalDateTime.now());
+        // When
+        int activatedCount = activateTokenUseCase.execute();
 
-        when(queueTokenRepository.findTopNByStatusAndConcertIdOrderByIdAsc(TokenStatus.WAITING, concertId, 10))
-                .thenReturn(List.of(waitingToken1, waitingToken2));
+        // Then
+        assertThat(activatedCount).isEqualTo(2);
+        verify(queueTokenRepository, never()).findTopNByStatusAndConcertIdOrderByIdAsc(any(), any(), anyInt());
+        verify(queueTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("콘서트마다 일괄 활성화를 한 번씩만 호출")
+    void shouldActivateOncePerConcert() {
+        // Given
+        when(queueTokenRepository.getActiveConcertIds()).thenReturn(Set.of(1L, 2L));
+        when(queueTokenRepository.activateWaitingTokens(1L, ADMISSION_POLICY)).thenReturn(List.of("token1"));
+        when(queueTokenRepository.activateWaitingTokens(2L, ADMISSION_POLICY)).thenReturn(List.of("token2", "token3"));
 
         // When
         int activatedCount = activateTokenUseCase.execute();
 
         // Then
-        assertThat(activatedCount).isEqualTo(2);
-        assertThat(waitingToken1.getStatus()).isEqualTo(TokenStatus.ACTIVE);
-        assertThat(waitingToken2.getStatus()).isEqualTo(TokenStatus.ACTIVE);
+        assertThat(activatedCount).isEqualTo(3);
+        verify(queueTokenRepository, times(2)).activateWaitingTokens(any(), any());
+    }
+
+    @Test
+    @DisplayName("단일 콘서트 입장 처리 시 레지스트리를 조회하지 않고 해당 콘서트만 활성화")
+    void shouldActivateSingleConcert_withoutRegistryLookup() {
+        // Given
+        when(queueTokenRepository.activateWaitingTokens(1L, ADMISSION_POLICY)).thenReturn(List.of("token1"));
 
-        verify(queueTokenRepository, times(2)).save(any(QueueToken.class));
+        // When
+        int activatedCount = activateTokenUseCase.execute(1L);
+
+        // Then
+        assertThat(activatedCount).isEqualTo(1);
+        verify(queueTokenRepository, never()).getActiveConcertIds();
     }
 
     @Test
@@ -70,15 +94,13 @@ class ActivateTokenUseCaseTest {
         when(queueTokenRepository.getActiveConcertIds()).thenReturn(Set.of(concertId));
 
         // Active tokens: 50 (Max 50) -> 0 slots
-        when(queueTokenRepository.countByStatusAndConcertId(TokenStatus.ACTIVE, concertId)).thenReturn(50L);
+        when(queueTokenRepository.activateWaitingTokens(concertId, ADMISSION_POLICY)).thenReturn(List.of());
 
         // When
         int activatedCount = activateTokenUseCase.execute();
 
         // Then
         assertThat(activatedCount).isEqualTo(0);
-        verify(queueTokenRepository, never()).findTopNByStatusAndConcertIdOrderByIdAsc(any(), any(), anyInt());
-        verify(queueTokenRepository, never()).save(any());
     }
 
     @Test
@@ -92,6 +114,6 @@ class ActivateTokenUseCaseTest {
 
         // Then
         assertThat(activatedCount).isEqualTo(0);
-        verify(queueTokenRepository, never()).countByStatusAndConcertId(any(), any());
+        verify(queueTokenRepository, never()).activateWaitingTokens(any(), any());
     }
 }
@@ -1,13 +1,17 @@
 package com.example.concert.domain.queue.usecase;
 
+import com.example.concert.domain.queue.entity.AdmissionPolicy;
+import com.example.concert.domain.queue.entity.AdmissionProgress;
 import com.example.concert.domain.queue.entity.QueueToken;
 import com.example.concert.domain.queue.entity.TokenStatus;
 import com.example.concert.domain.queue.repository.QueueTokenRepository;
+import com.example.concert.domain.queue.repository.QueueTokenRepository.TokenProgress;
+import com.example.concert.domain.queue.repository.QueueTokenSigner;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -16,23 +20,41 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("GetTokenStatusUseCase 단위 테스트")
 class GetTokenStatusUseCaseTest {
 
+    // 실측 입장 속도가 없을 때 사용하는 설정 속도 (초당 0.5명 → 1명당 2초)
+    private static final AdmissionPolicy ADMISSION_POLICY = new AdmissionPolicy(50, 0.5, 50);
+
     @Mock
     private QueueTokenRepository queueTokenRepository;
 
-    @InjectMocks
+    @Mock
+    private QueueTokenSigner queueTokenSigner;
+
     private GetTokenStatusUseCase getTokenStatusUseCase;
 
+    @BeforeEach
+    void setUp() {
+        getTokenStatusUseCase = new GetTokenStatusUseCase(queueTokenRepository, queueTokenSigner, ADMISSION_POLICY);
+    }
+
     private QueueToken createToken(Long id, Long concertId, String tokenValue, TokenStatus status) {
         return new QueueToken(id, 1L, concertId, tokenValue, status,
                 LocalDateTime.now().plusMinutes(30), LocalDateTime.now());
     }
 
+    // 대기 순번이 없는 (도입 이전) 토큰
+    private TokenProgress legacyProgress(QueueToken token) {
+        return new TokenProgress(token, null, AdmissionProgress.EMPTY);
+    }
+
     @Nested
     @DisplayName("성공 케이스")
     class SuccessCase {
@@ -42,7 +64,7 @@ class GetTokenStatusUseCaseTest {
         void shouldReturnRankZero_whenStatusIsActive() {
             String tokenValue = "active-token";
             QueueToken activeToken = createToken(1L, 1L, tokenValue, TokenStatus.ACTIVE);
-            when(queueTokenRepository.findByToken(tokenValue)).thenReturn(Optional.of(activeToken));
+            when(queueTokenRepository.findProgressByToken(tokenValue)).thenReturn(Optional.of(legacyProgress(activeToken)));
 
             GetTokenStatusUseCase.TokenStatusResult result = getTokenStatusUseCase.execute(tokenValue);
 
@@ -56,7 +78,7 @@ class GetTokenStatusUseCaseTest {
         void shouldReturnRankZero_whenStatusIsExpired() {
             String tokenValue = "expired-token";
             QueueToken expiredToken = createToken(1L, 1L, tokenValue, TokenStatus.EXPIRED);
-            when(queueTokenRepository.findByToken(tokenValue)).thenReturn(Optional.of(expiredToken));
+            when(queueTokenRepository.findProgressByToken(tokenValue)).thenReturn(Optional.of(legacyProgress(expiredToken)));
 
             GetTokenStatusUseCase.TokenStatusResult result = getTokenStatusUseCase.execute(tokenValue);
 
@@ -71,7 +93,7 @@ class GetTokenStatusUseCaseTest {
             String tokenValue = "waiting-token";
             Long concertId = 1L;
             QueueToken waitingToken = createToken(10L, concertId, tokenValue, TokenStatus.WAITING);
-            when(queueTokenRepository.findByToken(tokenValue)).thenReturn(Optional.of(waitingToken));
+            when(queueTokenRepository.findProgressByToken(tokenValue)).thenReturn(Optional.of(legacyProgress(waitingToken)));
             // Redis ZRANK 반환값: 0-indexed이므로 3이면 4번째
             when(queueTokenRepository.getRankByToken(tokenValue, concertId)).thenReturn(3L);
 
@@ -88,7 +110,7 @@ class GetTokenStatusUseCaseTest {
             String tokenValue = "first-waiting-token";
             Long concertId = 1L;
             QueueToken waitingToken = createToken(1L, concertId, tokenValue, TokenStatus.WAITING);
-            when(queueTokenRepository.findByToken(tokenValue)).thenReturn(Optional.of(waitingToken));
+            when(queueTokenRepository.findProgressByToken(tokenValue)).thenReturn(Optional.of(legacyProgress(waitingToken)));
             // Redis ZRANK 반환값: 0 (가장 앞)
             when(queueTokenRepository.getRankByToken(tokenValue, concertId)).thenReturn(0L);
 
@@ -104,7 +126,7 @@ class GetTokenStatusUseCaseTest {
             String tokenValue = "waiting-token-not-in-redis";
             Long concertId = 1L;
             QueueToken waitingToken = createToken(1L, concertId, tokenValue, TokenStatus.WAITING);
-            when(queueTokenRepository.findByToken(tokenValue)).thenReturn(Optional.of(waitingToken));
+            when(queueTokenRepository.findProgressByToken(tokenValue)).thenReturn(Optional.of(legacyProgress(waitingToken)));
             // Redis에 없는 경우 null 반환
             when(queueTokenRepository.getRankByToken(tokenValue, concertId)).thenReturn(null);
 
@@ -113,6 +135,49 @@ class GetTokenStatusUseCaseTest {
             assertThat(result.rank()).isEqualTo(1L);
             assertThat(result.estimatedWaitTime()).isEqualTo(2L);
         }
+
+        @Test
+        @DisplayName("WAITING 상태에서 순번이 있으면 watermark와의 차이로 순위, 실측 속도로 예상 시간 계산")
+        void shouldApproximateRankFromWatermark_whenSequenceExists() {
+            String tokenValue = "sequenced-token";
+            QueueToken waitingToken = createToken(1L, 1L, tokenValue, TokenStatus.WAITING);
+            when(queueTokenRepository.findProgressByToken(tokenValue)).thenReturn(Optional.of(
+                    new TokenProgress(waitingToken, 120L, new AdmissionProgress(100, 4.0))));
+
+            GetTokenStatusUseCase.TokenStatusResult result = getTokenStatusUseCase.execute(tokenValue);
+
+            assertThat(result.rank()).isEqualTo(20L); // 120 - 100
+            assertThat(result.estimatedWaitTime()).isEqualTo(5L); // 20명 / 초당 4명
+            verify(queueTokenRepository, never()).getRankByToken(any(), any());
+        }
+
+        @Test
+        @DisplayName("실측 속도가 입장 정지로 거의 0까지 감쇠했으면 설정된 입장 속도로 예상 시간 계산")
+        void shouldFallBackToPolicyRate_whenMeasuredRateDecayed() {
+            String tokenValue = "stalled-token";
+            QueueToken waitingToken = createToken(1L, 1L, tokenValue, TokenStatus.WAITING);
+            when(queueTokenRepository.findProgressByToken(tokenValue)).thenReturn(Optional.of(
+                    new TokenProgress(waitingToken, 120L, new AdmissionProgress(100, 1e-13))));
+
+            GetTokenStatusUseCase.TokenStatusResult result = getTokenStatusUseCase.execute(tokenValue);
+
+            assertThat(result.rank()).isEqualTo(20L);
+            assertThat(result.estimatedWaitTime()).isEqualTo(40L); // 20명 / 설정 초당 0.5명
+        }
+
+        @Test
+        @DisplayName("watermark가 순번을 넘었지만 아직 WAITING이면 rank는 1")
+        void shouldReturnRankOne_whenWatermarkPassedSequence() {
+            String tokenValue = "passed-token";
+            QueueToken waitingToken = createToken(1L, 1L, tokenValue, TokenStatus.WAITING);
+            when(queueTokenRepository.findProgressByToken(tokenValue)).thenReturn(Optional.of(
+                    new TokenProgress(waitingToken, 100L, new AdmissionProgress(105, 0))));
+
+            GetTokenStatusUseCase.TokenStatusResult result = getTokenStatusUseCase.execute(tokenValue);
+
+            assertThat(result.rank()).isEqualTo(1L);
+            assertThat(result.estimatedWaitTime()).isEqualTo(2L);
+        }
     }
 
     @Nested
@@ -137,7 +202,7 @@ class GetTokenStatusUseCaseTest {
         @DisplayName("존재하지 않는 토큰인 경우 예외 발생")
         void shouldThrowException_whenTokenNotFound() {
             String tokenValue = "non-existent-token";
-            when(queueTokenRepository.findByToken(tokenValue)).thenReturn(Optional.empty());
+            when(queueTokenRepository.findProgressByToken(tokenValue)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> getTokenStatusUseCase.execute(tokenValue))
                     .isInstanceOf(TokenNotFoundException.class);
@@ -1,17 +1,22 @@
 package com.example.concert.domain.queue.usecase;
 
+import com.example.concert.domain.queue.entity.AdmissionPolicy;
+import com.example.concert.domain.queue.entity.AdmissionProgress;
 import com.example.concert.domain.queue.entity.QueueToken;
 import com.example.concert.domain.queue.entity.TokenStatus;
 import com.example.concert.domain.queue.repository.QueueTokenRepository;
+import com.example.concert.domain.queue.repository.QueueTokenRepository.IssuedToken;
+import com.example.concert.domain.queue.repository.QueueTokenSigner;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -19,18 +24,29 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("IssueTokenUseCase 단위 테스트")
 class IssueTokenUseCaseTest {
 
+    private static final AdmissionPolicy ADMISSION_POLICY = new AdmissionPolicy(50, 10, 50);
+
     @Mock
     private QueueTokenRepository queueTokenRepository;
 
-    @InjectMocks
+    @Mock
+    private QueueTokenSigner queueTokenSigner;
+
     private IssueTokenUseCase issueTokenUseCase;
 
+    @BeforeEach
+    void setUp() {
+        issueTokenUseCase = new IssueTokenUseCase(queueTokenRepository, ADMISSION_POLICY, queueTokenSigner,
+                Duration.ofMinutes(30).toMillis());
+    }
+
     private QueueToken createSavedToken(Long id, Long userId, Long concertId, String token) {
         return new QueueToken(id, userId, concertId, token, TokenStatus.WAITING,
                 LocalDateTime.now().plusMinutes(30), LocalDateTime.now());
@@ -41,7 +57,7 @@ class IssueTokenUseCaseTest {
     class SuccessCase {
 
         @Test
-        @DisplayName("토큰 발급 - 대기열에 아무도 없는 경우 rank는 1")
+        @DisplayName("토큰 발급 - 활성 슬롯이 남아있으면 ACTIVE로 발급되고 rank는 0")
         void shouldIssueToken_whenQueueIsEmpty() {
             Long userId = 1L;
             Long concertId = 1L;
@@ -49,9 +65,8 @@ class IssueTokenUseCaseTest {
             QueueToken savedToken = new QueueToken(1L, userId, concertId, "uuid-token", TokenStatus.ACTIVE,
                     LocalDateTime.now().plusMinutes(30), LocalDateTime.now());
 
-            when(queueTokenRepository.save(any(QueueToken.class))).thenReturn(savedToken);
-            // Active 토큰이 0개 -> 50개 미만이므로 즉시 활성화
-            when(queueTokenRepository.countByStatusAndConcertId(eq(TokenStatus.ACTIVE), eq(concertId))).thenReturn(0L);
+            when(queueTokenRepository.issueAndRank(any(QueueToken.class), eq(ADMISSION_POLICY)))
+                    .thenReturn(new IssuedToken(savedToken, null, AdmissionProgress.EMPTY));
 
             IssueTokenUseCase.IssueTokenResult result = issueTokenUseCase.execute(userId, concertId);
 
@@ -69,42 +84,50 @@ class IssueTokenUseCaseTest {
             Long concertId = 1L;
             QueueToken savedToken = createSavedToken(6L, userId, concertId, "uuid-token-6");
 
-            when(queueTokenRepository.save(any(QueueToken.class))).thenReturn(savedToken);
-
-            // Active가 50개 꽉 차있다고 가정 -> WAITING 상태 유지
-            when(queueTokenRepository.countByStatusAndConcertId(eq(TokenStatus.ACTIVE), eq(concertId))).thenReturn(50L);
-
-            // Redis ZRANK 기반 순위 조회 (0-indexed, 5는 6번째)
-            when(queueTokenRepository.getRankByToken(eq("uuid-token-6"), eq(concertId))).thenReturn(5L);
+            // 스크립트가 반환한 ZRANK (0-indexed, 5는 6번째)
+            when(queueTokenRepository.issueAndRank(any(QueueToken.class), eq(ADMISSION_POLICY)))
+                    .thenReturn(new IssuedToken(savedToken, 5L, new AdmissionProgress(100, 2.0)));
 
             IssueTokenUseCase.IssueTokenResult result = issueTokenUseCase.execute(userId, concertId);
 
             assertThat(result.rank()).isEqualTo(6L); // 0-indexed 5 + 1 = 6
-            assertThat(result.estimatedWaitTime()).isEqualTo(12L); // 6 * 2 seconds
+            assertThat(result.estimatedWaitTime()).isEqualTo(3L); // 6명 / 실측 초당 2명
             assertThat(result.status()).isEqualTo("WAITING");
         }
 
         @Test
-        @DisplayName("토큰 발급 시 QueueToken이 WAITING 상태로 저장됨 (슬롯 부족 시)")
-        void shouldSaveToken_withWaitingStatus_whenSlotsFull() {
+        @DisplayName("토큰 발급 - 실측 입장 속도가 없으면 설정된 입장 속도로 예상 시간 계산")
+        void shouldEstimateWithPolicyRate_whenNoMeasuredRate() {
+            QueueToken savedToken = createSavedToken(30L, 30L, 1L, "uuid-token-30");
+            when(queueTokenRepository.issueAndRank(any(QueueToken.class), eq(ADMISSION_POLICY)))
+                    .thenReturn(new IssuedToken(savedToken, 29L, AdmissionProgress.EMPTY));
+
+            IssueTokenUseCase.IssueTokenResult result = issueTokenUseCase.execute(30L, 1L);
+
+            assertThat(result.rank()).isEqualTo(30L);
+            assertThat(result.estimatedWaitTime()).isEqualTo(3L); // 30명 / 설정 초당 10명
+        }
+
+        @Test
+        @DisplayName("토큰 발급 시 WAITING 상태의 신규 토큰을 단일 호출로 발급 요청")
+        void shouldIssueToken_withSingleRepositoryCall() {
             Long userId = 1L;
             Long concertId = 1L;
             QueueToken savedToken = createSavedToken(1L, userId, concertId, "uuid-token");
 
-            when(queueTokenRepository.save(any(QueueToken.class))).thenReturn(savedToken);
-            // Active가 50개 꽉 차있음
-            when(queueTokenRepository.countByStatusAndConcertId(any(), any())).thenReturn(50L);
-            when(queueTokenRepository.getRankByToken(any(), any())).thenReturn(0L);
+            when(queueTokenRepository.issueAndRank(any(QueueToken.class), eq(ADMISSION_POLICY)))
+                    .thenReturn(new IssuedToken(savedToken, 0L, AdmissionProgress.EMPTY));
 
             issueTokenUseCase.execute(userId, concertId);
 
             ArgumentCaptor<QueueToken> captor = ArgumentCaptor.forClass(QueueToken.class);
-            verify(queueTokenRepository).save(captor.capture());
+            verify(queueTokenRepository).issueAndRank(captor.capture(), eq(ADMISSION_POLICY));
+            verifyNoMoreInteractions(queueTokenRepository);
 
             QueueToken capturedToken = captor.getValue();
             assertThat(capturedToken.getUserId()).isEqualTo(userId);
             assertThat(capturedToken.getConcertId()).isEqualTo(concertId);
-            assertThat(capturedToken.getStatus()).isEqualTo(TokenStatus.WAITING); // 초기 생성 시 WAITING
+            assertThat(capturedToken.getStatus()).isEqualTo(TokenStatus.WAITING); // 활성화 판단은 Redis에서 수행
             assertThat(capturedToken.getToken()).isNotBlank();
         }
     }
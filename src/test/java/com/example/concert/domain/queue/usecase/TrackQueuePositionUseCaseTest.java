@@ -0,0 +1,111 @@
+package com.example.concert.domain.queue.usecase;
+
+import com.example.concert.domain.queue.entity.AdmissionPolicy;
+import com.example.concert.domain.queue.entity.AdmissionProgress;
+import com.example.concert.domain.queue.repository.QueueTokenRepository;
+import com.example.concert.domain.queue.usecase.GetTokenStatusUseCase.TokenStatusResult;
+import com.example.concert.domain.queue.usecase.TrackQueuePositionUseCase.QueuePosition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TrackQueuePositionUseCase 단위 테스트")
+class TrackQueuePositionUseCaseTest {
+
+    private static final String TOKEN = "waiting-token";
+    private static final Long CONCERT_ID = 1L;
+    private static final AdmissionPolicy ADMISSION_POLICY = new AdmissionPolicy(50, 0.5, 50);
+
+    @Mock
+    private QueueTokenRepository queueTokenRepository;
+
+    @Mock
+    private GetTokenStatusUseCase getTokenStatusUseCase;
+
+    private TrackQueuePositionUseCase trackQueuePositionUseCase;
+
+    @BeforeEach
+    void setUp() {
+        trackQueuePositionUseCase = new TrackQueuePositionUseCase(
+                queueTokenRepository, getTokenStatusUseCase, ADMISSION_POLICY);
+    }
+
+    private TokenStatusResult waiting(long rank) {
+        return new TokenStatusResult(TOKEN, "WAITING", rank, rank * 2, CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("구독 시 현재 순위와 콘서트 입장 watermark를 기준점으로 저장")
+    void start_recordsBaseline() {
+        when(getTokenStatusUseCase.execute(TOKEN)).thenReturn(waiting(10));
+        when(queueTokenRepository.getAdmissionProgress(List.of(CONCERT_ID)))
+                .thenReturn(Map.of(CONCERT_ID, new AdmissionProgress(100, 5.0)));
+
+        QueuePosition position = trackQueuePositionUseCase.start(TOKEN);
+
+        assertThat(position.baseRank()).isEqualTo(10);
+        assertThat(position.baseWatermark()).isEqualTo(100);
+        assertThat(position.isWaiting()).isTrue();
+    }
+
+    @Test
+    @DisplayName("ACTIVE 토큰 구독 시 입장 진행 상황을 조회하지 않음")
+    void start_activeToken_skipsBaseline() {
+        when(getTokenStatusUseCase.execute(TOKEN)).thenReturn(new TokenStatusResult(TOKEN, "ACTIVE", 0, 0, CONCERT_ID));
+
+        QueuePosition position = trackQueuePositionUseCase.start(TOKEN);
+
+        assertThat(position.isWaiting()).isFalse();
+        verify(queueTokenRepository, never()).getAdmissionProgress(any());
+    }
+
+    @Test
+    @DisplayName("watermark 전진분만큼 순위를 당기며 토큰 상태를 다시 조회하지 않음")
+    void advance_movesRankByWatermarkDelta() {
+        QueuePosition position = new QueuePosition(TOKEN, waiting(10), 10, 100);
+
+        QueuePosition next = trackQueuePositionUseCase.advance(position, new AdmissionProgress(104, 3.0));
+
+        assertThat(next.status().rank()).isEqualTo(6);
+        assertThat(next.status().estimatedWaitTime()).isEqualTo(2); // 6명 / 초당 3명
+        assertThat(next.isWaiting()).isTrue();
+        verify(getTokenStatusUseCase, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("맨 앞을 지나면 실제 상태를 조회하여 ACTIVE 전환을 반영")
+    void advance_pastHead_refreshesStatus() {
+        QueuePosition position = new QueuePosition(TOKEN, waiting(3), 3, 100);
+        when(getTokenStatusUseCase.execute(TOKEN)).thenReturn(new TokenStatusResult(TOKEN, "ACTIVE", 0, 0, CONCERT_ID));
+
+        QueuePosition next = trackQueuePositionUseCase.advance(position, new AdmissionProgress(103, 3.0));
+
+        assertThat(next.status().status()).isEqualTo("ACTIVE");
+        assertThat(next.isWaiting()).isFalse();
+    }
+
+    @Test
+    @DisplayName("맨 앞을 지났지만 아직 WAITING이면 실제 순위로 기준점을 다시 잡음")
+    void advance_pastHead_stillWaiting_rebases() {
+        QueuePosition position = new QueuePosition(TOKEN, waiting(3), 3, 100);
+        when(getTokenStatusUseCase.execute(TOKEN)).thenReturn(waiting(2));
+
+        QueuePosition next = trackQueuePositionUseCase.advance(position, new AdmissionProgress(105, 3.0));
+
+        assertThat(next.baseRank()).isEqualTo(2);
+        assertThat(next.baseWatermark()).isEqualTo(105);
+    }
+}
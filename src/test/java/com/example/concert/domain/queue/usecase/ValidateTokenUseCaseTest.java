@@ -2,7 +2,10 @@ package com.example.concert.domain.queue.usecase;
 
 import com.example.concert.domain.queue.entity.QueueToken;
 import com.example.concert.domain.queue.entity.TokenStatus;
+import com.example.concert.domain.queue.repository.ActiveTokenCache;
 import com.example.concert.domain.queue.repository.QueueTokenRepository;
+import com.example.concert.domain.queue.repository.QueueTokenSigner;
+import com.example.concert.domain.queue.repository.RevokedTokenRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -16,6 +19,9 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +31,15 @@ class ValidateTokenUseCaseTest {
     @Mock
     private QueueTokenRepository queueTokenRepository;
 
+    @Mock
+    private ActiveTokenCache activeTokenCache;
+
+    @Mock
+    private QueueTokenSigner queueTokenSigner;
+
+    @Mock
+    private RevokedTokenRegistry revokedTokenRegistry;
+
     @InjectMocks
     private ValidateTokenUseCase validateTokenUseCase;
 
@@ -46,6 +61,20 @@ class ValidateTokenUseCaseTest {
 
             assertThat(result).isNotNull();
             assertThat(result.isActive()).isTrue();
+            verify(activeTokenCache).put(validToken);
+        }
+
+        @Test
+        @DisplayName("캐시에 있는 토큰 - Redis 조회 없이 반환")
+        void shouldReturnCachedToken_withoutRepositoryLookup() {
+            String tokenValue = "cached-token";
+            QueueToken cachedToken = createToken(TokenStatus.ACTIVE, LocalDateTime.now().plusHours(1));
+            when(activeTokenCache.get(tokenValue)).thenReturn(Optional.of(cachedToken));
+
+            QueueToken result = validateTokenUseCase.execute(tokenValue);
+
+            assertThat(result).isSameAs(cachedToken);
+            verify(queueTokenRepository, never()).findByToken(any());
         }
     }
 
@@ -85,6 +114,7 @@ class ValidateTokenUseCaseTest {
 
             assertThatThrownBy(() -> validateTokenUseCase.execute(tokenValue))
                     .isInstanceOf(TokenNotActiveException.class);
+            verify(activeTokenCache, never()).put(any());
         }
 
         @Test
@@ -108,5 +138,70 @@ class ValidateTokenUseCaseTest {
             assertThatThrownBy(() -> validateTokenUseCase.execute(tokenValue))
                     .isInstanceOf(TokenExpiredException.class);
         }
+
+        @Test
+        @DisplayName("캐시된 토큰이 만료 시각을 지난 경우")
+        void shouldThrowException_whenCachedTokenIsExpiredByTime() {
+            String tokenValue = "cached-expired-token";
+            QueueToken expiredToken = createToken(TokenStatus.ACTIVE, LocalDateTime.now().minusSeconds(1));
+            when(activeTokenCache.get(tokenValue)).thenReturn(Optional.of(expiredToken));
+
+            assertThatThrownBy(() -> validateTokenUseCase.execute(tokenValue))
+                    .isInstanceOf(TokenExpiredException.class);
+            verify(queueTokenRepository, never()).findByToken(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("서명 토큰")
+    class SignedTokenCase {
+        private static final String SIGNED_TOKEN = "q1.payload.signature";
+
+        @Test
+        @DisplayName("서명이 유효한 ACTIVE 토큰 - Redis 조회 없이 반환")
+        void shouldReturnToken_whenSignatureIsValid() {
+            QueueToken claims = createToken(TokenStatus.ACTIVE, LocalDateTime.now().plusMinutes(30));
+            when(queueTokenSigner.isSigned(SIGNED_TOKEN)).thenReturn(true);
+            when(queueTokenSigner.verify(SIGNED_TOKEN)).thenReturn(Optional.of(claims));
+
+            QueueToken result = validateTokenUseCase.execute(SIGNED_TOKEN);
+
+            assertThat(result).isSameAs(claims);
+            verify(queueTokenRepository, never()).findByToken(any());
+            verify(activeTokenCache, never()).get(any());
+        }
+
+        @Test
+        @DisplayName("서명이 일치하지 않는 경우")
+        void shouldThrowException_whenSignatureIsInvalid() {
+            when(queueTokenSigner.isSigned(SIGNED_TOKEN)).thenReturn(true);
+            when(queueTokenSigner.verify(SIGNED_TOKEN)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> validateTokenUseCase.execute(SIGNED_TOKEN))
+                    .isInstanceOf(TokenNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("폐기된 토큰인 경우 (결제 완료)")
+        void shouldThrowException_whenTokenIsRevoked() {
+            QueueToken claims = createToken(TokenStatus.ACTIVE, LocalDateTime.now().plusMinutes(30));
+            when(queueTokenSigner.isSigned(SIGNED_TOKEN)).thenReturn(true);
+            when(queueTokenSigner.verify(SIGNED_TOKEN)).thenReturn(Optional.of(claims));
+            when(revokedTokenRegistry.isRevoked("test-token")).thenReturn(true);
+
+            assertThatThrownBy(() -> validateTokenUseCase.execute(SIGNED_TOKEN))
+                    .isInstanceOf(TokenNotActiveException.class);
+        }
+
+        @Test
+        @DisplayName("서명 토큰의 만료 시각이 지난 경우")
+        void shouldThrowException_whenSignedTokenIsExpiredByTime() {
+            QueueToken claims = createToken(TokenStatus.ACTIVE, LocalDateTime.now().minusSeconds(1));
+            when(queueTokenSigner.isSigned(SIGNED_TOKEN)).thenReturn(true);
+            when(queueTokenSigner.verify(SIGNED_TOKEN)).thenReturn(Optional.of(claims));
+
+            assertThatThrownBy(() -> validateTokenUseCase.execute(SIGNED_TOKEN))
+                    .isInstanceOf(TokenExpiredException.class);
+        }
     }
 }
@@ -10,6 +10,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -21,7 +23,11 @@ import org.springframework.transaction.annotation.Transactional;
 import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -54,6 +60,9 @@ class ReservationControllerE2ETest extends AbstractIntegrationTest {
         @Autowired
         private RedisQueueTokenRepositoryImpl queueTokenRepository;
 
+        @Autowired
+        private RedissonClient redissonClient;
+
         private ConcertJpaEntity concert;
         private ConcertScheduleJpaEntity schedule;
         private SeatJpaEntity availableSeat;
@@ -130,6 +139,31 @@ class ReservationControllerE2ETest extends AbstractIntegrationTest {
                                         .andExpect(jsonPath("$.error.code").value("SEAT_NOT_AVAILABLE"));
                 }
 
+                @Test
+                @DisplayName("다른 요청이 좌석 락을 대기 상한보다 오래 보유하고 좌석이 아직 AVAILABLE이면 재시도 가능한 409 Conflict")
+                void shouldReturn409ConcurrencyConflict_whenLockHeldAndSeatStillAvailable() throws Exception {
+                        ReservationController.ReservationRequest request = new ReservationController.ReservationRequest(
+                                        userId, schedule.getId(), availableSeat.getId());
+                        // 다른 스레드(= 다른 보유자)가 락을 잡고 커밋하지 않은 채 머무는 상황
+                        RLock lock = redissonClient.getLock("lock:seat:" + availableSeat.getId());
+                        CompletableFuture.runAsync(() -> lock.lock(30, TimeUnit.SECONDS)).get();
+
+                        try {
+                                mockMvc.perform(post("/api/v1/reservations")
+                                                .header("Concert-Queue-Token", validToken)
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(objectMapper.writeValueAsString(request)))
+                                                .andExpect(status().isConflict())
+                                                .andExpect(jsonPath("$.error.code").value("E4002"));
+                        } finally {
+                                lock.forceUnlock();
+                        }
+
+                        entityManager.clear();
+                        assertThat(seatJpaRepository.findById(availableSeat.getId()).orElseThrow().getStatus())
+                                        .isEqualTo(SeatStatus.AVAILABLE);
+                }
+
                 @Test
                 @DisplayName("존재하지 않는 좌석 요청 시 404 Not Found")
                 void shouldReturn404_whenSeatNotFound() throws Exception {
@@ -196,4 +230,57 @@ class ReservationControllerE2ETest extends AbstractIntegrationTest {
                                         .andExpect(status().isBadRequest());
                 }
         }
+
+        @Nested
+        @DisplayName("일괄 예약 케이스")
+        class BatchCases {
+
+                @Test
+                @DisplayName("모든 좌석이 예약 가능하면 200 OK 및 좌석 수만큼 PENDING 예약 반환")
+                void shouldReturn200_whenAllSeatsAvailable() throws Exception {
+                        SeatJpaEntity anotherSeat = seatJpaRepository.save(
+                                        new SeatJpaEntity(schedule, 3, new BigDecimal("100000")));
+                        ReservationController.BatchReservationRequest request = new ReservationController.BatchReservationRequest(
+                                        userId, schedule.getId(), List.of(availableSeat.getId(), anotherSeat.getId()));
+
+                        mockMvc.perform(post("/api/v1/reservations/batch")
+                                        .header("Concert-Queue-Token", validToken)
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(request)))
+                                        .andExpect(status().isOk())
+                                        .andExpect(jsonPath("$.reservations", hasSize(2)))
+                                        .andExpect(jsonPath("$.reservations[*].status", everyItem(is("PENDING"))));
+                }
+
+                @Test
+                @DisplayName("하나라도 예약된 좌석이 있으면 409 Conflict 및 나머지 좌석도 선점하지 않음")
+                void shouldReturn409_andKeepOtherSeatsAvailable_whenAnySeatReserved() throws Exception {
+                        ReservationController.BatchReservationRequest request = new ReservationController.BatchReservationRequest(
+                                        userId, schedule.getId(), List.of(availableSeat.getId(), reservedSeat.getId()));
+
+                        mockMvc.perform(post("/api/v1/reservations/batch")
+                                        .header("Concert-Queue-Token", validToken)
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(request)))
+                                        .andExpect(status().isConflict())
+                                        .andExpect(jsonPath("$.error.code").value("SEAT_NOT_AVAILABLE"));
+
+                        entityManager.clear();
+                        assertThat(seatJpaRepository.findById(availableSeat.getId()).orElseThrow().getStatus())
+                                        .isEqualTo(SeatStatus.AVAILABLE);
+                }
+
+                @Test
+                @DisplayName("같은 좌석을 중복 선택하면 400 Bad Request")
+                void shouldReturn400_whenDuplicateSeatIds() throws Exception {
+                        ReservationController.BatchReservationRequest request = new ReservationController.BatchReservationRequest(
+                                        userId, schedule.getId(), List.of(availableSeat.getId(), availableSeat.getId()));
+
+                        mockMvc.perform(post("/api/v1/reservations/batch")
+                                        .header("Concert-Queue-Token", validToken)
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(request)))
+                                        .andExpect(status().isBadRequest());
+                }
+        }
 }
@@ -1,6 +1,7 @@
 package com.example.concert.domain.reservation.usecase;
 
 import com.example.concert.config.AbstractIntegrationTest;
+import com.example.concert.domain.concert.entity.SeatStatus;
 import com.example.concert.domain.concert.infrastructure.ConcertJpaEntity;
 import com.example.concert.domain.concert.infrastructure.ConcertJpaRepository;
 import com.example.concert.domain.concert.infrastructure.ConcertScheduleJpaEntity;
@@ -36,6 +37,12 @@ class ReserveSeatConcurrencyIntegrationTest extends AbstractIntegrationTest {
     @Autowired
     private ReserveSeatUseCase reserveSeatUseCase;
 
+    @Autowired
+    private SeatReservationProcessor seatReservationProcessor;
+
+    @Autowired
+    private SyncSeatStateUseCase syncSeatStateUseCase;
+
     @Autowired
     private ConcertJpaRepository concertJpaRepository;
 
@@ -127,4 +134,94 @@ class ReserveSeatConcurrencyIntegrationTest extends AbstractIntegrationTest {
         assertThat(failCount.get()).isEqualTo(9);
         assertThat(errors).isEmpty();
     }
+
+    @Test
+    @DisplayName("조건부 UPDATE 방식에서도 10명이 동시에 같은 좌석을 예약하면 1명만 성공한다")
+    void concurrentSeatReservation_conditionalUpdate_onlyOneSucceeds() throws InterruptedException {
+        // Given
+        int threadCount = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+
+        // When: 분산 락 없이 조건부 UPDATE로 동시에 선점 시도
+        for (int i = 0; i < threadCount; i++) {
+            final int index = i;
+            executor.submit(() -> {
+                try {
+                    seatReservationProcessor.reserveWithConditionalUpdate(
+                            tokens.get(index),
+                            (long) (index + 1),
+                            scheduleId,
+                            seatId);
+                    successCount.incrementAndGet();
+                } catch (SeatNotAvailableException e) {
+                    failCount.incrementAndGet();
+                } catch (Throwable e) {
+                    errors.add(e);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        // Then: 1명만 성공, 좌석은 임시 배정 상태
+        assertThat(successCount.get()).isEqualTo(1);
+        assertThat(failCount.get()).isEqualTo(9);
+        assertThat(errors).isEmpty();
+        assertThat(seatJpaRepository.findById(seatId).orElseThrow().getStatus())
+                .isEqualTo(SeatStatus.TEMP_RESERVED);
+    }
+
+    @Test
+    @DisplayName("Redis 선점 방식에서도 10명이 동시에 같은 좌석을 예약하면 1명만 성공하고, 반영 후 좌석은 임시 배정 상태가 된다")
+    void concurrentSeatReservation_redisClaim_onlyOneSucceeds() throws InterruptedException {
+        // Given
+        int threadCount = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+
+        // When: Redis 좌석 상태에서 동시에 선점 시도
+        for (int i = 0; i < threadCount; i++) {
+            final int index = i;
+            executor.submit(() -> {
+                try {
+                    seatReservationProcessor.reserveWithRedisClaim(
+                            tokens.get(index),
+                            (long) (index + 1),
+                            scheduleId,
+                            seatId);
+                    successCount.incrementAndGet();
+                } catch (SeatNotAvailableException e) {
+                    failCount.incrementAndGet();
+                } catch (Throwable e) {
+                    errors.add(e);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        // Then: 1명만 성공, write-behind 반영 후 좌석은 임시 배정 상태
+        assertThat(successCount.get()).isEqualTo(1);
+        assertThat(failCount.get()).isEqualTo(9);
+        assertThat(errors).isEmpty();
+
+        syncSeatStateUseCase.flush();
+        assertThat(seatJpaRepository.findById(seatId).orElseThrow().getStatus())
+                .isEqualTo(SeatStatus.TEMP_RESERVED);
+    }
 }
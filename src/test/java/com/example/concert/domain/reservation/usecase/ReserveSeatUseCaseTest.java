@@ -0,0 +1,166 @@
+package com.example.concert.domain.reservation.usecase;
+
+import com.example.concert.common.lock.LockAcquisitionException;
+import com.example.concert.domain.concert.entity.Seat;
+import com.example.concert.domain.concert.entity.SeatStatus;
+import com.example.concert.domain.concert.repository.SeatCache;
+import com.example.concert.domain.concert.repository.SeatRepository;
+import com.example.concert.domain.queue.usecase.TokenNotFoundException;
+import com.example.concert.domain.queue.usecase.ValidateTokenUseCase;
+import com.example.concert.domain.reservation.entity.ReservationStatus;
+import com.example.concert.domain.reservation.usecase.ReserveSeatUseCase.ReservationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReserveSeatUseCase 단위 테스트")
+class ReserveSeatUseCaseTest {
+
+    private static final String TOKEN = "valid-token";
+    private static final Long USER_ID = 1L;
+    private static final Long SCHEDULE_ID = 10L;
+    private static final Long SEAT_ID = 100L;
+
+    @Mock
+    private ValidateTokenUseCase validateTokenUseCase;
+
+    @Mock
+    private SeatReservationProcessor seatReservationProcessor;
+
+    @Mock
+    private SeatCache seatCache;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    private ReserveSeatUseCase reserveSeatUseCase;
+
+    private final ReservationResult reserved =
+            new ReservationResult(1L, ReservationStatus.PENDING, LocalDateTime.now().plusMinutes(5));
+
+    @BeforeEach
+    void setUp() {
+        reserveSeatUseCase = new ReserveSeatUseCase(validateTokenUseCase, seatReservationProcessor,
+                SeatReservationStrategy.DISTRIBUTED_LOCK, seatCache, seatRepository, true);
+    }
+
+    @Nested
+    @DisplayName("좌석 캐시 사전 검사")
+    class Precheck {
+
+        @Test
+        @DisplayName("캐시에서 이미 선점된 좌석은 락/DB 접근 없이 거절한다")
+        void takenInCache_rejectsWithoutProcessor() {
+            when(seatCache.findStatuses(SCHEDULE_ID, List.of(SEAT_ID)))
+                    .thenReturn(Map.of(SEAT_ID, SeatStatus.TEMP_RESERVED));
+
+            assertThatThrownBy(() -> reserveSeatUseCase.execute(TOKEN, USER_ID, SCHEDULE_ID, SEAT_ID))
+                    .isInstanceOf(SeatNotAvailableException.class);
+
+            verifyNoInteractions(seatReservationProcessor, seatRepository);
+        }
+
+        @Test
+        @DisplayName("캐시에서 AVAILABLE인 좌석은 선점 단계로 진행한다")
+        void availableInCache_proceeds() {
+            when(seatCache.findStatuses(SCHEDULE_ID, List.of(SEAT_ID)))
+                    .thenReturn(Map.of(SEAT_ID, SeatStatus.AVAILABLE));
+            when(seatReservationProcessor.reserveWithLock(TOKEN, USER_ID, SCHEDULE_ID, SEAT_ID)).thenReturn(reserved);
+
+            assertThat(reserveSeatUseCase.execute(TOKEN, USER_ID, SCHEDULE_ID, SEAT_ID)).isEqualTo(reserved);
+        }
+
+        @Test
+        @DisplayName("캐시 미스면 DB에서 적재하지 않고 선점 단계로 진행한다")
+        void cacheMiss_proceedsWithoutLoading() {
+            when(seatCache.findStatuses(SCHEDULE_ID, List.of(SEAT_ID))).thenReturn(Map.of());
+            when(seatReservationProcessor.reserveWithLock(TOKEN, USER_ID, SCHEDULE_ID, SEAT_ID)).thenReturn(reserved);
+
+            assertThat(reserveSeatUseCase.execute(TOKEN, USER_ID, SCHEDULE_ID, SEAT_ID)).isEqualTo(reserved);
+            verifyNoInteractions(seatRepository);
+            verify(seatCache, never()).get(anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("여러 좌석 중 하나라도 캐시에서 선점되어 있으면 전부 거절한다")
+        void executeAll_anyTaken_rejects() {
+            List<Long> seatIds = List.of(SEAT_ID, SEAT_ID + 1);
+            when(seatCache.findStatuses(SCHEDULE_ID, seatIds))
+                    .thenReturn(Map.of(SEAT_ID, SeatStatus.AVAILABLE, SEAT_ID + 1, SeatStatus.RESERVED));
+
+            assertThatThrownBy(() -> reserveSeatUseCase.executeAll(TOKEN, USER_ID, SCHEDULE_ID, seatIds))
+                    .isInstanceOf(SeatNotAvailableException.class);
+
+            verifyNoInteractions(seatReservationProcessor);
+        }
+
+        @Test
+        @DisplayName("토큰이 유효하지 않으면 좌석 캐시를 조회하지 않는다")
+        void invalidToken_doesNotTouchCache() {
+            when(validateTokenUseCase.execute("bad-token")).thenThrow(new TokenNotFoundException("bad-token"));
+
+            assertThatThrownBy(() -> reserveSeatUseCase.execute("bad-token", USER_ID, SCHEDULE_ID, SEAT_ID))
+                    .isInstanceOf(TokenNotFoundException.class);
+
+            verifyNoInteractions(seatCache, seatReservationProcessor);
+        }
+
+        @Test
+        @DisplayName("사전 검사가 꺼져 있으면 캐시를 조회하지 않는다")
+        void disabled_skipsCache() {
+            reserveSeatUseCase = new ReserveSeatUseCase(validateTokenUseCase, seatReservationProcessor,
+                    SeatReservationStrategy.DISTRIBUTED_LOCK, seatCache, seatRepository, false);
+            when(seatReservationProcessor.reserveWithLock(TOKEN, USER_ID, SCHEDULE_ID, SEAT_ID)).thenReturn(reserved);
+
+            reserveSeatUseCase.execute(TOKEN, USER_ID, SCHEDULE_ID, SEAT_ID);
+
+            verifyNoInteractions(seatCache);
+        }
+    }
+
+    @Nested
+    @DisplayName("좌석 락 획득 실패")
+    class LockFailure {
+
+        @Test
+        @DisplayName("좌석이 이미 선점되어 있으면 SeatNotAvailableException")
+        void seatTaken_seatNotAvailable() {
+            when(seatCache.findStatuses(SCHEDULE_ID, List.of(SEAT_ID))).thenReturn(Map.of());
+            when(seatReservationProcessor.reserveWithLock(TOKEN, USER_ID, SCHEDULE_ID, SEAT_ID))
+                    .thenThrow(new LockAcquisitionException("lock:seat:" + SEAT_ID));
+            when(seatRepository.findAllByIds(List.of(SEAT_ID))).thenReturn(List.of(seat(SeatStatus.TEMP_RESERVED)));
+
+            assertThatThrownBy(() -> reserveSeatUseCase.execute(TOKEN, USER_ID, SCHEDULE_ID, SEAT_ID))
+                    .isInstanceOf(SeatNotAvailableException.class);
+        }
+
+        @Test
+        @DisplayName("좌석이 아직 AVAILABLE이면 재시도 가능한 락 실패를 그대로 던진다")
+        void seatStillAvailable_rethrowsLockFailure() {
+            when(seatCache.findStatuses(SCHEDULE_ID, List.of(SEAT_ID))).thenReturn(Map.of());
+            when(seatReservationProcessor.reserveWithLock(TOKEN, USER_ID, SCHEDULE_ID, SEAT_ID))
+                    .thenThrow(new LockAcquisitionException("lock:seat:" + SEAT_ID));
+            when(seatRepository.findAllByIds(List.of(SEAT_ID))).thenReturn(List.of(seat(SeatStatus.AVAILABLE)));
+
+            assertThatThrownBy(() -> reserveSeatUseCase.execute(TOKEN, USER_ID, SCHEDULE_ID, SEAT_ID))
+                    .isInstanceOf(LockAcquisitionException.class);
+        }
+    }
+
+    private static Seat seat(SeatStatus status) {
+        return new Seat(SEAT_ID, SCHEDULE_ID, 1, new BigDecimal("50000"), status, 0L, null, null);
+    }
+}